@@ -0,0 +1,77 @@
+package com.translation.application.controller;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Envio dos eventos SSE fora da thread que produz o texto
+ * As partes chegam na thread do event loop do cliente Netty do Bedrock, que não pode bloquear
+ * escrevendo na resposta de um cliente lento; cada stream enfileira seus eventos em ordem
+ * num pool próprio
+ */
+@Slf4j
+@Component
+public class SseEventRelay {
+
+    private final ExecutorService senders;
+
+    public SseEventRelay(@Value("${translation.image.streaming.sender-threads:8}") int senderThreads) {
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "sse-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Stream open(SseEmitter emitter) {
+        return new Stream(emitter);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * Fila de eventos de um emitter: cada envio começa depois do anterior
+     */
+    public final class Stream {
+
+        private final SseEmitter emitter;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private Stream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Dados em JSON: partes do texto com quebras de linha continuam num único campo data do SSE
+         */
+        public synchronized void send(String event, Object data) {
+            tail = tail.thenRunAsync(() -> {
+                try {
+                    emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+                } catch (IOException | RuntimeException e) {
+                    // Cliente desconectado: as partes restantes são descartadas
+                    log.debug("Could not send SSE event {}: {}", event, e.getMessage());
+                }
+            }, senders);
+        }
+
+        /**
+         * Encerra o stream depois dos eventos já enfileirados
+         */
+        public synchronized void complete() {
+            tail = tail.thenRunAsync(emitter::complete, senders);
+        }
+    }
+}
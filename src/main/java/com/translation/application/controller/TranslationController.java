@@ -1,20 +1,40 @@
 package com.translation.application.controller;
 
 import com.translation.application.service.TranslationService;
+import com.translation.application.service.UploadSpooler;
+import com.translation.domain.exception.InvalidInputException;
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.exception.UnsupportedLanguageException;
+import com.translation.domain.model.BinaryContent;
 import com.translation.domain.model.TranslationRequest;
 import com.translation.domain.model.TranslationResponse;
 import com.translation.domain.model.TranslationType;
 import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * REST Controller - Camada de apresentação (Adapter de entrada)
@@ -28,6 +48,11 @@ import java.util.Map;
 public class TranslationController {
 
     private final TranslationService translationService;
+    private final UploadSpooler uploadSpooler;
+    private final SseEventRelay sseEventRelay;
+
+    @Value("${translation.image.streaming.timeout-ms:120000}")
+    private long imageStreamTimeoutMs = 120_000;
 
     /**
      * Endpoint principal para tradução de textos
@@ -93,29 +118,90 @@ public class TranslationController {
     @PostMapping(value = "/document", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Timed(value = "translation.document", description = "Time taken to translate documents")
     public ResponseEntity<TranslationResponse> translateDocument(
-            @RequestParam("file") byte[] file,
+            @RequestParam("file") MultipartFile file,
             @RequestParam String contentType,
             @RequestParam String from,
-            @RequestParam String to) {
+            @RequestParam String to) throws IOException {
         
         log.info("Document translation request: {} bytes, type {}, from {} to {}", 
-                file.length, contentType, from, to);
+                file.getSize(), contentType, from, to);
+        
+        // Uploads grandes vão para disco; o arquivo temporário é removido ao final da requisição
+        try (BinaryContent content = uploadSpooler.spool(file)) {
+            TranslationRequest request = TranslationRequest.builder()
+                    .texts(List.of()) // Vazio para documentos
+                    .sourceLanguage(from)
+                    .targetLanguage(to)
+                    .type(TranslationType.DOCUMENT)
+                    .contentType(contentType)
+                    .fileContent(content)
+                    .useCache(true)
+                    .removeDuplicates(false)
+                    .removeSensitiveData(true)
+                    .build();
+            
+            TranslationResponse response = translationService.translateBinary(request);
+            
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * Endpoint para tradução de documentos preservando a formatação (DOCX, ODT, HTML)
+     * Retorna o arquivo traduzido no mesmo formato, escrito em streaming na resposta
+     * POST /api/v1/translations/document/formatted
+     */
+    @PostMapping(value = "/document/formatted", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Timed(value = "translation.document.formatted", description = "Time taken to start format-preserving document translation")
+    public ResponseEntity<StreamingResponseBody> translateFormattedDocument(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam String contentType,
+            @RequestParam String from,
+            @RequestParam String to,
+            HttpServletRequest servletRequest) throws IOException {
         
+        log.info("Formatted document translation request: {} bytes, type {}, from {} to {}", 
+                file.getSize(), contentType, from, to);
+        
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "document";
+        
+        BinaryContent content = uploadSpooler.spool(file);
         TranslationRequest request = TranslationRequest.builder()
-                .texts(List.of()) // Vazio para documentos
+                .texts(List.of())
                 .sourceLanguage(from)
                 .targetLanguage(to)
                 .type(TranslationType.DOCUMENT)
                 .contentType(contentType)
-                .fileContent(file)
+                .fileContent(content)
                 .useCache(true)
                 .removeDuplicates(false)
-                .removeSensitiveData(true)
+                .removeSensitiveData(false)
                 .build();
         
-        TranslationResponse response = translationService.translateBinary(request);
+        // Erros de entrada viram 400 aqui; depois do status 200 só restaria truncar o arquivo
+        try {
+            translationService.validateFormattedDocument(request);
+        } catch (RuntimeException e) {
+            content.close();
+            throw e;
+        }
         
-        return ResponseEntity.ok(response);
+        // O arquivo temporário é removido ao fim do processamento assíncrono, inclusive quando o
+        // corpo não chega a executar (cliente desconectado, timeout, erro antes do streaming)
+        WebAsyncUtils.getAsyncManager(servletRequest).registerCallableInterceptor(content,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        content.close();
+                    }
+                });
+        StreamingResponseBody body = out -> translationService.translateFormattedDocument(request, out);
+        
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
 
     /**
@@ -125,27 +211,93 @@ public class TranslationController {
     @PostMapping(value = "/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Timed(value = "translation.image", description = "Time taken to translate images")
     public ResponseEntity<TranslationResponse> translateImage(
-            @RequestParam("file") byte[] file,
+            @RequestParam("file") MultipartFile file,
             @RequestParam String from,
-            @RequestParam String to) {
+            @RequestParam String to) throws IOException {
+        
+        log.info("Image translation request: {} bytes from {} to {}", file.getSize(), from, to);
         
-        log.info("Image translation request: {} bytes from {} to {}", file.length, from, to);
+        try (BinaryContent content = uploadSpooler.spool(file)) {
+            TranslationRequest request = TranslationRequest.builder()
+                    .texts(List.of())
+                    .sourceLanguage(from)
+                    .targetLanguage(to)
+                    .type(TranslationType.IMAGE)
+                    .contentType("image/jpeg")
+                    .fileContent(content)
+                    .useCache(true) // Cache pelo SHA-256 da imagem
+                    .removeDuplicates(false)
+                    .removeSensitiveData(true)
+                    .build();
+            
+            TranslationResponse response = translationService.translateBinary(request);
+            
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * Tradução de imagem com o texto enviado como Server-Sent Events à medida que o modelo o gera
+     * Eventos: "delta" ({"text": parte}) e, ao final, "done" (resultado completo) ou "error"
+     * Timeout ou desconexão do cliente cancelam a tradução em andamento
+     * POST /api/v1/translations/image/stream
+     */
+    @PostMapping(value = "/image/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Timed(value = "translation.image.stream", description = "Time taken to start streaming image translation")
+    public SseEmitter translateImageStream(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam String from,
+            @RequestParam String to) throws IOException {
         
+        log.info("Streaming image translation request: {} bytes from {} to {}", file.getSize(), from, to);
+        
+        SseEmitter emitter = new SseEmitter(imageStreamTimeoutMs);
+        SseEventRelay.Stream events = sseEventRelay.open(emitter);
+        BinaryContent content = uploadSpooler.spool(file);
         TranslationRequest request = TranslationRequest.builder()
                 .texts(List.of())
                 .sourceLanguage(from)
                 .targetLanguage(to)
                 .type(TranslationType.IMAGE)
                 .contentType("image/jpeg")
-                .fileContent(file)
-                .useCache(false) // Imagens geralmente não são cacheadas
+                .fileContent(content)
+                .useCache(true) // O texto final é armazenado quando o stream termina
                 .removeDuplicates(false)
                 .removeSensitiveData(true)
                 .build();
         
-        TranslationResponse response = translationService.translateBinary(request);
+        // O arquivo temporário só é removido quando a tradução termina (ou é cancelada)
+        CompletableFuture<TranslationResponse.TranslationResult> translation;
+        try {
+            translation = translationService.translateImageStreaming(request,
+                    text -> events.send("delta", Map.of("text", text)));
+        } catch (RuntimeException e) {
+            content.close();
+            throw e;
+        }
+        translation.whenComplete((result, error) -> {
+            content.close();
+            if (error instanceof CancellationException) {
+                return;
+            }
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                log.error("Streaming image translation failed", cause);
+                events.send("error", Map.of(
+                        "error", cause.getClass().getSimpleName(),
+                        "message", cause.getMessage() != null ? cause.getMessage() : "Translation failed"));
+            } else {
+                events.send("done", result);
+            }
+            events.complete();
+        });
+        emitter.onTimeout(() -> translation.cancel(true));
+        emitter.onError(error -> translation.cancel(true));
+        emitter.onCompletion(() -> translation.cancel(true));
         
-        return ResponseEntity.ok(response);
+        return emitter;
     }
 
     /**
@@ -204,6 +356,22 @@ public class TranslationController {
         ));
     }
 
+    /**
+     * Entrada inválida (validação, idioma ou formato não suportado)
+     */
+    @ExceptionHandler({InvalidInputException.class, UnsupportedLanguageException.class})
+    public ResponseEntity<Map<String, Object>> handleInvalidInput(TranslationException e) {
+        log.warn("Rejected request: {}", e.getMessage());
+        
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", e.getClass().getSimpleName(),
+                        "message", e.getMessage() != null ? e.getMessage() : "Invalid request",
+                        "timestamp", System.currentTimeMillis()
+                ));
+    }
+
     /**
      * Exception handler
      */
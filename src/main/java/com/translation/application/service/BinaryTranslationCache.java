@@ -0,0 +1,74 @@
+package com.translation.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
+import com.translation.domain.model.TranslationRequest;
+import com.translation.domain.port.CachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Cache da tradução final de documentos e imagens, chaveado pelo SHA-256 do arquivo
+ * Um reenvio do mesmo arquivo para o mesmo par de idiomas não passa por extração nem tradução
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BinaryTranslationCache {
+
+    // tipo:sha256:origem:destino
+    private static final String KEY_FORMAT = "binary:%s:%s:%s:%s";
+
+    private final CachePort cachePort;
+    private final ObjectMapper objectMapper;
+
+    public Optional<BinaryTranslation> get(TranslationRequest request) {
+        try {
+            String cached = cachePort.get(key(request));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, BinaryTranslation.class));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Binary translation cache lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resultados parciais não são armazenados: fallback vazio, páginas com falha ou
+     * segmentos que mantiveram o texto original (seriam servidos sem tradução até expirar)
+     */
+    public void put(TranslationRequest request, BinaryTranslation translation) {
+        boolean partial = translation.getTranslatedText() == null || translation.getTranslatedText().isEmpty()
+                || translation.getFallbackSegments() > 0
+                || (translation.getPages() != null && translation.getPages().stream().anyMatch(PageTranslation::isFailed));
+        if (partial) {
+            log.info("Skipping binary translation cache: partial result ({} segments untranslated)",
+                    translation.getFallbackSegments());
+            return;
+        }
+
+        try {
+            cachePort.put(key(request), objectMapper.writeValueAsString(translation));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not cache binary translation: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("Could not hash binary content: {}", e.getMessage());
+        }
+    }
+
+    private String key(TranslationRequest request) throws IOException {
+        return String.format(KEY_FORMAT,
+                request.getType(),
+                request.getFileContent().sha256(),
+                request.getSourceLanguage(),
+                request.getTargetLanguage());
+    }
+}
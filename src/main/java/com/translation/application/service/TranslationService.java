@@ -1,17 +1,25 @@
 package com.translation.application.service;
 
+import com.translation.domain.exception.InvalidInputException;
 import com.translation.domain.model.*;
 import com.translation.domain.pipeline.TranslationPipeline;
+import com.translation.domain.port.TranslationPort;
 import com.translation.domain.validator.ValidationChain;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Application Service - Orquestra o fluxo de tradução
@@ -24,6 +32,8 @@ public class TranslationService {
 
     private final ValidationChain validationChain;
     private final TranslationPipeline translationPipeline;
+    private final TranslationPort translationPort;
+    private final BinaryTranslationCache binaryTranslationCache;
 
     /**
      * Método principal para tradução de textos
@@ -72,8 +82,156 @@ public class TranslationService {
                 request.getSourceLanguage(),
                 request.getTargetLanguage());
         
-        // Reutiliza o mesmo fluxo, mas com conteúdo binário
-        return translate(request);
+        long startTime = System.currentTimeMillis();
+        
+        // 1. Validação usando Chain of Responsibility
+        validationChain.validate(request);
+        
+        // 2. Mesmo arquivo (SHA-256) já traduzido para este par de idiomas
+        Optional<BinaryTranslation> cached = request.isUseCache()
+                ? binaryTranslationCache.get(request)
+                : Optional.empty();
+        boolean fromCache = cached.isPresent();
+        
+        // 3. Extração e tradução direto do conteúdo (memória ou arquivo temporário);
+        //    o conteúdo pertence ao chamador, que o fecha ao final da requisição
+        BinaryTranslation translated = cached.orElseGet(() -> translationPort.translateBinary(
+                request.getFileContent(),
+                request.getSourceLanguage(),
+                request.getTargetLanguage(),
+                request.getType()));
+        
+        if (request.isUseCache() && !fromCache) {
+            binaryTranslationCache.put(request, translated);
+        }
+        
+        // 4. Constrói resposta
+        TranslationResponse.TranslationResult result = TranslationResponse.TranslationResult.builder()
+                .originalText(null) // O original é o arquivo enviado
+                .translatedText(translated.getTranslatedText())
+                .pages(translated.getPages())
+                .sourceLanguage(request.getSourceLanguage())
+                .targetLanguage(request.getTargetLanguage())
+                .fromCache(fromCache)
+                .hadSensitiveData(false)
+                .build();
+        
+        long processingTime = System.currentTimeMillis() - startTime;
+        TranslationResponse.TranslationMetadata metadata = TranslationResponse.TranslationMetadata.builder()
+                .totalTexts(1)
+                .cacheHits(fromCache ? 1 : 0)
+                .cacheMisses(fromCache ? 0 : 1)
+                .processingTimeMs(processingTime)
+                .timestamp(LocalDateTime.now())
+                .pipelineSteps(Map.of("steps", List.of(), "totalSteps", 0))
+                .paragraphReuseRatio(paragraphReuseRatio(translated, fromCache))
+                .build();
+        
+        log.info("Binary translation completed in {} ms ({} bytes, from cache: {})",
+                processingTime, request.getFileContent().size(), fromCache);
+        
+        return TranslationResponse.builder()
+                .results(List.of(result))
+                .metadata(metadata)
+                .build();
+    }
+
+    /**
+     * Tradução de imagem com o texto entregue em partes (onText) à medida que o modelo o gera
+     * Um acerto no cache entrega o texto inteiro de uma vez; o texto final é armazenado ao completar
+     */
+    public CompletableFuture<TranslationResponse.TranslationResult> translateImageStreaming(
+            TranslationRequest request, Consumer<String> onText) {
+        log.info("Starting streaming image translation from {} to {}",
+                request.getSourceLanguage(),
+                request.getTargetLanguage());
+
+        validationChain.validate(request);
+
+        Optional<BinaryTranslation> cached = request.isUseCache()
+                ? binaryTranslationCache.get(request)
+                : Optional.empty();
+        if (cached.isPresent()) {
+            onText.accept(cached.get().getTranslatedText());
+            return CompletableFuture.completedFuture(imageResult(request, cached.get(), true));
+        }
+
+        CompletableFuture<BinaryTranslation> translation = translationPort.streamImageTranslation(
+                request.getFileContent(),
+                request.getSourceLanguage(),
+                request.getTargetLanguage(),
+                onText);
+        CompletableFuture<TranslationResponse.TranslationResult> result = translation.thenApply(translated -> {
+            if (request.isUseCache()) {
+                binaryTranslationCache.put(request, translated);
+            }
+            return imageResult(request, translated, false);
+        });
+        // O cancelamento (cliente desconectado) chega até a chamada ao modelo
+        result.whenComplete((translated, error) -> {
+            if (error instanceof CancellationException) {
+                translation.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private TranslationResponse.TranslationResult imageResult(TranslationRequest request, BinaryTranslation translated,
+                                                              boolean fromCache) {
+        return TranslationResponse.TranslationResult.builder()
+                .originalText(null)
+                .translatedText(translated.getTranslatedText())
+                .pages(translated.getPages())
+                .sourceLanguage(request.getSourceLanguage())
+                .targetLanguage(request.getTargetLanguage())
+                .fromCache(fromCache)
+                .hadSensitiveData(false)
+                .build();
+    }
+
+    /**
+     * Fração dos parágrafos reaproveitados da memória de tradução; null para conteúdo sem parágrafos
+     */
+    private Double paragraphReuseRatio(BinaryTranslation translated, boolean fromCache) {
+        if (translated.getParagraphs() == 0) {
+            return null;
+        }
+        return fromCache ? 1.0 : (double) translated.getReusedParagraphs() / translated.getParagraphs();
+    }
+
+    /**
+     * Validação da tradução com preservação de formato, antes de a resposta começar a ser escrita:
+     * depois do status e dos cabeçalhos, um erro de entrada só poderia truncar o arquivo
+     */
+    public void validateFormattedDocument(TranslationRequest request) {
+        validationChain.validate(request);
+        
+        if (!translationPort.supportsFormattedDocument(request.getContentType())) {
+            throw new InvalidInputException(String.format(
+                    "Format-preserving translation is not supported for %s", request.getContentType()));
+        }
+    }
+
+    /**
+     * Tradução de documento preservando o formato (DOCX/ODT, HTML), já validada por validateFormattedDocument
+     * O documento traduzido é escrito em target à medida que é processado
+     */
+    public void translateFormattedDocument(TranslationRequest request, OutputStream target) throws IOException {
+        log.info("Starting format-preserving translation of {} from {} to {}",
+                request.getContentType(),
+                request.getSourceLanguage(),
+                request.getTargetLanguage());
+        
+        long startTime = System.currentTimeMillis();
+        
+        translationPort.translateFormattedDocument(
+                request.getFileContent(),
+                request.getContentType(),
+                target,
+                request.getSourceLanguage(),
+                request.getTargetLanguage());
+        
+        log.info("Format-preserving translation completed in {} ms", System.currentTimeMillis() - startTime);
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.translation.application.service;
+
+import com.translation.domain.model.BinaryContent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Converte uploads multipart em BinaryContent
+ * Arquivos acima do limite vão para um arquivo temporário em vez de ficarem no heap,
+ * com o SHA-256 calculado na mesma passada; o chamador fecha o BinaryContent para remover o arquivo
+ */
+@Slf4j
+@Component
+public class UploadSpooler {
+
+    private final long thresholdBytes;
+    private final Path spoolDirectory;
+
+    public UploadSpooler(
+            @Value("${translation.upload.spool-threshold-bytes:1048576}") long thresholdBytes,
+            @Value("${translation.upload.spool-dir:${java.io.tmpdir}}") String spoolDirectory) {
+        this.thresholdBytes = thresholdBytes;
+        this.spoolDirectory = Path.of(spoolDirectory);
+    }
+
+    public BinaryContent spool(MultipartFile file) throws IOException {
+        if (file.getSize() <= thresholdBytes) {
+            return BinaryContent.of(file.getBytes());
+        }
+
+        Files.createDirectories(spoolDirectory);
+        Path target = Files.createTempFile(spoolDirectory, "upload-", ".bin");
+        try {
+            MessageDigest digest = BinaryContent.newSha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(target)) {
+                in.transferTo(out);
+            }
+            BinaryContent content = BinaryContent.spooled(target, HexFormat.of().formatHex(digest.digest()));
+            log.debug("Spooled upload {} ({} bytes) to {}", file.getOriginalFilename(), content.size(), target);
+            return content;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.translation.domain.exception;
+
+/**
+ * Falha que já passou pelas tentativas de quem chamou o serviço de tradução
+ * (ex.: lote do micro-batching reenviado e dividido); não deve ser repetida pelo @Retry
+ */
+public class RetriesExhaustedException extends TranslationException {
+    public RetriesExhaustedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -4,11 +4,12 @@ import com.translation.domain.exception.TranslationException;
 import com.translation.domain.model.TranslationType;
 import com.translation.domain.strategy.TranslationStrategy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -19,27 +20,33 @@ import java.util.stream.Collectors;
 @Component
 public class TranslationStrategyFactory {
 
-    private final Map<TranslationType, TranslationStrategy> strategies;
+    // Estratégias de cada tipo em ordem de precedência (@Order)
+    private final Map<TranslationType, List<TranslationStrategy>> strategies;
 
     public TranslationStrategyFactory(List<TranslationStrategy> strategyList) {
         this.strategies = strategyList.stream()
-                .collect(Collectors.toMap(
+                .sorted(AnnotationAwareOrderComparator.INSTANCE)
+                .collect(Collectors.groupingBy(
                         TranslationStrategy::getType,
-                        Function.identity()
+                        () -> new EnumMap<>(TranslationType.class),
+                        Collectors.toList()
                 ));
         
         log.info("TranslationStrategyFactory initialized with {} strategies: {}", 
-                strategies.size(), 
+                strategyList.size(), 
                 strategies.keySet());
     }
 
     /**
-     * Retorna a estratégia apropriada para o tipo de conteúdo
+     * Retorna a primeira estratégia do tipo que atende o par de idiomas
      */
-    public TranslationStrategy getStrategy(TranslationType type) {
-        log.debug("Getting strategy for type: {}", type);
+    public TranslationStrategy getStrategy(TranslationType type, String sourceLang, String targetLang) {
+        log.debug("Getting strategy for type: {} ({} -> {})", type, sourceLang, targetLang);
         
-        TranslationStrategy strategy = strategies.get(type);
+        TranslationStrategy strategy = strategies.getOrDefault(type, List.of()).stream()
+                .filter(candidate -> candidate.supportsLanguagePair(sourceLang, targetLang))
+                .findFirst()
+                .orElse(null);
         
         if (strategy == null) {
             log.error("No strategy found for type: {}", type);
@@ -0,0 +1,125 @@
+package com.translation.domain.model;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Conteúdo binário de documentos e imagens, em memória ou em arquivo temporário
+ * Pode ser lido várias vezes (ex.: retry); close() remove o arquivo temporário.
+ * O SHA-256 identifica o conteúdo nos caches de extração e tradução
+ */
+@Slf4j
+public final class BinaryContent implements AutoCloseable {
+
+    private final byte[] bytes;
+    private final Path file;
+    private final long size;
+    private String sha256;
+
+    private BinaryContent(byte[] bytes, Path file, long size, String sha256) {
+        this.bytes = bytes;
+        this.file = file;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
+    /**
+     * Conteúdo pequeno mantido em memória
+     */
+    public static BinaryContent of(byte[] bytes) {
+        return new BinaryContent(bytes, null, bytes.length, null);
+    }
+
+    /**
+     * Conteúdo gravado em arquivo temporário, removido no close();
+     * sha256 é o digest calculado durante a gravação
+     */
+    public static BinaryContent spooled(Path file, String sha256) throws IOException {
+        return new BinaryContent(null, file, Files.size(file), sha256);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Arquivo em disco, para leitores que trabalham melhor com acesso direto (ex.: Tika)
+     */
+    public Optional<Path> file() {
+        return Optional.ofNullable(file);
+    }
+
+    /**
+     * SHA-256 em hexadecimal; calculado uma única vez por conteúdo
+     */
+    public synchronized String sha256() throws IOException {
+        if (sha256 == null) {
+            MessageDigest digest = newSha256();
+            if (file != null) {
+                try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            } else {
+                digest.update(bytes);
+            }
+            sha256 = HexFormat.of().formatHex(digest.digest());
+        }
+        return sha256;
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e); // Obrigatório em toda JVM
+        }
+    }
+
+    /**
+     * Abre um novo stream sobre o conteúdo; o chamador fecha o stream
+     */
+    public InputStream openStream() throws IOException {
+        return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Carrega todo o conteúdo em memória - apenas para consumidores que exigem um array
+     */
+    public byte[] readAllBytes() throws IOException {
+        return file != null ? Files.readAllBytes(file) : bytes;
+    }
+
+    @Override
+    public void close() {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete spooled upload {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return file != null
+                ? String.format("BinaryContent[%d bytes, spooled to %s]", size, file)
+                : String.format("BinaryContent[%d bytes, in memory]", size);
+    }
+}
@@ -0,0 +1,31 @@
+package com.translation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado da tradução de conteúdo binário (documentos e imagens)
+ * Para PDFs traduzidos por página (e scans traduzidos em faixas), pages traz a posição de cada
+ * página em translatedText;
+ * para documentos, paragraphs/reusedParagraphs contam os segmentos vindos da memória de tradução
+ * e fallbackSegments os que mantiveram o texto original por erro na tradução
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BinaryTranslation {
+    private String translatedText;
+    private List<PageTranslation> pages; // null quando o conteúdo não é paginado
+    private int paragraphs;
+    private int reusedParagraphs;
+    private int fallbackSegments;
+
+    public static BinaryTranslation of(String translatedText) {
+        return BinaryTranslation.builder().translatedText(translatedText).build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.translation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de um documento traduzido (ou faixa de um scan recortado): trecho [offset, offset + length) do texto traduzido
+ * Páginas com falha trazem a mensagem de erro: vazias (length 0) quando a extração falhou,
+ * com o texto parcial quando algum segmento manteve o idioma original
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageTranslation {
+    private int pageNumber; // A partir de 1
+    private int offset;
+    private int length;
+    private boolean failed;
+    private String error;
+}
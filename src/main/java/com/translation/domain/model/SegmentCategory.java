@@ -0,0 +1,22 @@
+package com.translation.domain.model;
+
+/**
+ * Categorias atribuídas pelo pré-filtro local antes da tradução
+ * Apenas TRANSLATABLE segue para o serviço de tradução externo
+ */
+public enum SegmentCategory {
+    TRANSLATABLE,
+    BLANK,
+    NUMERIC,
+    SKU,
+    URL,
+    EMAIL,
+    EMOJI,
+    CODE,
+    PLACEHOLDER,
+    TARGET_LANGUAGE;
+
+    public boolean isPassThrough() {
+        return this != TRANSLATABLE;
+    }
+}
@@ -0,0 +1,21 @@
+package com.translation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Texto dividido em sentenças pelo SentenceSegmentationStep
+ * Texto original = separators[0] + segmento[0] + separators[1] + ... + separators[n]
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SegmentedText {
+    private List<Integer> segmentIndices; // Posições dos segmentos em processedTexts
+    private List<String> separators;      // Espaços/quebras de linha ao redor dos segmentos
+}
@@ -0,0 +1,11 @@
+package com.translation.domain.model;
+
+/**
+ * Modo de tratamento de dados sensíveis no pipeline
+ * MASK: substitui por tags fixas (irreversível)
+ * TOKENIZE: substitui por placeholders indexados e restaura após a tradução
+ */
+public enum SensitiveDataMode {
+    MASK,
+    TOKENIZE
+}
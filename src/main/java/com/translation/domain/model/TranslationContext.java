@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -16,13 +17,14 @@ public class TranslationContext {
     private String sourceLanguage;
     private String targetLanguage;
     private TranslationType type;
-    private byte[] fileContent;
+    private BinaryContent fileContent;
     
     // Metadata do pipeline
     private int duplicatesRemoved;
     private int sensitiveDataRemoved;
     private int cacheHits;
     private int cacheMisses;
+    private int passThroughCount;
     private long startTime;
     
     // Resultados intermediários
@@ -30,4 +32,9 @@ public class TranslationContext {
     private List<String> translatedTexts;
     private List<Boolean> fromCache;
     private List<Boolean> hadSensitiveData;
+    private List<Boolean> passThrough; // Segmentos repassados pelo pré-filtro, sem tradução
+    private List<String> leadingWhitespace;  // Espaços das bordas separados na normalização
+    private List<String> trailingWhitespace;
+    private List<SegmentedText> segmentedTexts; // Mapeamento texto -> sentenças (segmentação ativa)
+    private List<Map<String, String>> sensitiveTokens; // placeholder -> valor original (modo TOKENIZE)
 }
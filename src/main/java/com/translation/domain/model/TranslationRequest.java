@@ -1,5 +1,6 @@
 package com.translation.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,7 +18,8 @@ public class TranslationRequest {
     private String targetLanguage;
     private TranslationType type;
     private String contentType;
-    private byte[] fileContent; // Para documentos e imagens
+    @JsonIgnore
+    private BinaryContent fileContent; // Para documentos e imagens (upload multipart)
     
     @Builder.Default
     private boolean useCache = true;
@@ -28,6 +28,7 @@ public class TranslationResponse {
         private String targetLanguage;
         private boolean fromCache;
         private boolean hadSensitiveData;
+        private List<PageTranslation> pages; // PDFs traduzidos por página
     }
     
     @Data
@@ -43,5 +44,6 @@ public class TranslationResponse {
         private long processingTimeMs;
         private LocalDateTime timestamp;
         private Map<String, Object> pipelineSteps;
+        private Double paragraphReuseRatio; // Documentos: fração dos parágrafos sem nova tradução
     }
 }
@@ -2,6 +2,8 @@ package com.translation.domain.pipeline;
 
 import com.translation.domain.model.TranslationContext;
 import com.translation.domain.port.CachePort;
+import com.translation.domain.text.CacheKeyGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -10,7 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Pipeline Step 3: Consulta cache para traduções já realizadas
+ * Pipeline Step 5: Consulta cache para traduções já realizadas
  * Usa cache multinível (Caffeine + Redis) para otimizar performance
  */
 @Slf4j
@@ -19,6 +21,8 @@ import java.util.List;
 public class CacheConsultStep implements PipelineStep {
 
     private final CachePort cachePort;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public TranslationContext execute(TranslationContext context) {
@@ -31,7 +35,7 @@ public class CacheConsultStep implements PipelineStep {
         int cacheMisses = 0;
         
         for (String text : processedTexts) {
-            String cacheKey = generateCacheKey(text, context.getSourceLanguage(), context.getTargetLanguage());
+            String cacheKey = cacheKeyGenerator.generate(text, context.getSourceLanguage(), context.getTargetLanguage());
             String cached = cachePort.get(cacheKey);
             
             if (cached != null) {
@@ -47,6 +51,9 @@ public class CacheConsultStep implements PipelineStep {
             }
         }
         
+        meterRegistry.counter("translation.cache.requests", "result", "hit").increment(cacheHits);
+        meterRegistry.counter("translation.cache.requests", "result", "miss").increment(cacheMisses);
+        
         context.setTranslatedTexts(translatedTexts);
         context.setFromCache(fromCache);
         context.setCacheHits(cacheHits);
@@ -63,8 +70,4 @@ public class CacheConsultStep implements PipelineStep {
     public String getStepName() {
         return "CacheConsult";
     }
-    
-    private String generateCacheKey(String text, String sourceLang, String targetLang) {
-        return String.format("%s:%s:%s", sourceLang, targetLang, text.hashCode());
-    }
 }
@@ -2,6 +2,7 @@ package com.translation.domain.pipeline;
 
 import com.translation.domain.model.TranslationContext;
 import com.translation.domain.port.CachePort;
+import com.translation.domain.text.CacheKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -9,7 +10,7 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 
 /**
- * Pipeline Step 5: Salva traduções no cache para uso futuro
+ * Pipeline Step 8: Salva traduções no cache para uso futuro
  * Persiste apenas traduções novas (que não vieram do cache)
  */
 @Slf4j
@@ -18,6 +19,7 @@ import java.util.List;
 public class CacheSaveStep implements PipelineStep {
 
     private final CachePort cachePort;
+    private final CacheKeyGenerator cacheKeyGenerator;
 
     @Override
     public TranslationContext execute(TranslationContext context) {
@@ -26,13 +28,19 @@ public class CacheSaveStep implements PipelineStep {
         List<String> processedTexts = context.getProcessedTexts();
         List<String> translatedTexts = context.getTranslatedTexts();
         List<Boolean> fromCache = context.getFromCache();
+        List<Boolean> passThrough = context.getPassThrough();
         
         int savedCount = 0;
         
         for (int i = 0; i < processedTexts.size(); i++) {
+            // Segmentos repassados pelo pré-filtro não ocupam o cache
+            if (passThrough != null && passThrough.get(i)) {
+                continue;
+            }
+            
             // Salva apenas traduções que não vieram do cache
             if (!fromCache.get(i)) {
-                String cacheKey = generateCacheKey(
+                String cacheKey = cacheKeyGenerator.generate(
                     processedTexts.get(i),
                     context.getSourceLanguage(),
                     context.getTargetLanguage()
@@ -54,8 +62,4 @@ public class CacheSaveStep implements PipelineStep {
     public String getStepName() {
         return "CacheSave";
     }
-    
-    private String generateCacheKey(String text, String sourceLang, String targetLang) {
-        return String.format("%s:%s:%s", sourceLang, targetLang, text.hashCode());
-    }
 }
@@ -5,7 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
- * Pipeline Step 6: Log final com estatísticas e métricas do processamento
+ * Pipeline Step 12: Log final com estatísticas e métricas do processamento
  * Último passo do pipeline - coleta métricas para monitoramento
  */
 @Slf4j
@@ -28,6 +28,7 @@ public class LogStep implements PipelineStep {
             context.getCacheHits() > 0 
                 ? (context.getCacheHits() * 100.0 / (context.getCacheHits() + context.getCacheMisses())) 
                 : 0);
+        log.info("Passed through without translation: {}", context.getPassThroughCount());
         log.info("Texts translated: {}", context.getProcessedTexts().size());
         log.info("Total processing time: {} ms", processingTime);
         log.info("Average time per text: {} ms", 
@@ -0,0 +1,57 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.text.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pipeline Step 4: Normaliza os textos (NFC) e separa os espaços das bordas
+ * A chave de cache usa a forma canônica (CacheKeyGenerator); os espaços originais das bordas
+ * são reaplicados à tradução pelo SurfaceRestoreStep, os internos seguem a forma canônica
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NormalizationStep implements PipelineStep {
+
+    private final TextNormalizer textNormalizer;
+
+    @Override
+    public TranslationContext execute(TranslationContext context) {
+        log.debug("Executing NormalizationStep for {} texts", context.getProcessedTexts().size());
+
+        List<String> normalizedTexts = new ArrayList<>();
+        List<String> leadingWhitespace = new ArrayList<>();
+        List<String> trailingWhitespace = new ArrayList<>();
+        int changed = 0;
+
+        for (String text : context.getProcessedTexts()) {
+            String normalized = textNormalizer.normalize(text);
+            if (!normalized.equals(text)) {
+                changed++;
+            }
+
+            normalizedTexts.add(normalized);
+            leadingWhitespace.add(textNormalizer.leadingWhitespace(text));
+            trailingWhitespace.add(textNormalizer.trailingWhitespace(text));
+        }
+
+        context.setProcessedTexts(normalizedTexts);
+        context.setLeadingWhitespace(leadingWhitespace);
+        context.setTrailingWhitespace(trailingWhitespace);
+
+        log.info("Normalized {} texts", changed);
+
+        return context;
+    }
+
+    @Override
+    public String getStepName() {
+        return "Normalization";
+    }
+}
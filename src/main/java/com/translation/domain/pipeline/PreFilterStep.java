@@ -0,0 +1,87 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SegmentCategory;
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.model.TranslationType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pipeline Step 6: Pré-filtro local para segmentos não traduzíveis
+ * Números, SKUs, URLs, emails, emojis, código e textos já no idioma de destino
+ * são repassados sem chamada ao serviço externo (tradução identidade)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreFilterStep implements PipelineStep {
+
+    private static final Set<TranslationType> SUPPORTED_TYPES = Set.of(TranslationType.TEXT, TranslationType.DOCUMENT);
+
+    private final SegmentClassifier segmentClassifier;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.pipeline.pre-filter.enabled:true}")
+    private boolean enabled = true;
+
+    @Override
+    public TranslationContext execute(TranslationContext context) {
+        List<String> processedTexts = context.getProcessedTexts();
+        List<String> translatedTexts = context.getTranslatedTexts();
+        List<Boolean> passThrough = new ArrayList<>();
+        processedTexts.forEach(text -> passThrough.add(false));
+        context.setPassThrough(passThrough);
+
+        if (!enabled || !SUPPORTED_TYPES.contains(context.getType())) {
+            log.debug("Pre-filter skipped for type {}", context.getType());
+            return context;
+        }
+
+        log.debug("Executing PreFilterStep for {} texts", processedTexts.size());
+
+        Map<SegmentCategory, Integer> counts = new EnumMap<>(SegmentCategory.class);
+        int passThroughCount = 0;
+
+        for (int i = 0; i < processedTexts.size(); i++) {
+            // Apenas textos que não vieram do cache
+            if (translatedTexts.get(i) != null) {
+                continue;
+            }
+
+            String text = processedTexts.get(i);
+            SegmentCategory category = segmentClassifier.classify(
+                    text, context.getSourceLanguage(), context.getTargetLanguage());
+            counts.merge(category, 1, Integer::sum);
+            meterRegistry.counter("translation.prefilter.segments", "category", category.name()).increment();
+
+            if (category.isPassThrough()) {
+                translatedTexts.set(i, text); // Tradução identidade
+                passThrough.set(i, true);
+                passThroughCount++;
+                meterRegistry.counter("translation.prefilter.characters.saved", "category", category.name())
+                        .increment(text.length());
+            }
+        }
+
+        context.setTranslatedTexts(translatedTexts);
+        context.setPassThroughCount(passThroughCount);
+
+        log.info("Pre-filter passed through {} texts without translation. Categories: {}", passThroughCount, counts);
+
+        return context;
+    }
+
+    @Override
+    public String getStepName() {
+        return "PreFilter";
+    }
+}
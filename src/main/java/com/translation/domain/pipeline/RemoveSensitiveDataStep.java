@@ -1,16 +1,22 @@
 package com.translation.domain.pipeline;
 
+import com.translation.domain.model.SensitiveDataMode;
 import com.translation.domain.model.TranslationContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Pipeline Step 2: Remove ou mascara dados sensíveis (LGPD compliance)
  * Remove CPF, CNPJ, emails, telefones, cartões de crédito, etc.
+ * No modo TOKENIZE usa placeholders indexados, restaurados pelo RestoreSensitiveDataStep
  */
 @Slf4j
 @Component
@@ -22,64 +28,67 @@ public class RemoveSensitiveDataStep implements PipelineStep {
     private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
     private static final Pattern PHONE_PATTERN = Pattern.compile("\\(?\\d{2}\\)?\\s?9?\\d{4}-?\\d{4}");
     private static final Pattern CREDIT_CARD_PATTERN = Pattern.compile("\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}[\\s-]?\\d{4}");
-    
+
+    // Ordem de aplicação dos padrões e a tag usada no modo MASK
+    private static final Map<Pattern, String> MASKS = new LinkedHashMap<>();
+
+    static {
+        MASKS.put(CPF_PATTERN, "[CPF REMOVIDO]");
+        MASKS.put(CNPJ_PATTERN, "[CNPJ REMOVIDO]");
+        MASKS.put(EMAIL_PATTERN, "[EMAIL REMOVIDO]");
+        MASKS.put(PHONE_PATTERN, "[TELEFONE REMOVIDO]");
+        MASKS.put(CREDIT_CARD_PATTERN, "[CARTÃO REMOVIDO]");
+    }
+
+    /**
+     * Formato do placeholder reversível - mantido intacto pelo motor de tradução
+     */
+    public static final String PLACEHOLDER_FORMAT = "{{PII_%d}}";
+
+    @Value("${translation.pipeline.sensitive-data.mode:MASK}")
+    private SensitiveDataMode mode = SensitiveDataMode.MASK;
+
     @Override
     public TranslationContext execute(TranslationContext context) {
-        log.debug("Executing RemoveSensitiveDataStep for {} texts", context.getProcessedTexts().size());
-        
+        log.debug("Executing RemoveSensitiveDataStep for {} texts (mode {})",
+                context.getProcessedTexts().size(), mode);
+
         List<String> processedTexts = context.getProcessedTexts();
         List<String> sanitizedTexts = new ArrayList<>();
         List<Boolean> hadSensitiveData = new ArrayList<>();
+        List<Map<String, String>> sensitiveTokens = new ArrayList<>();
         int sensitiveDataCount = 0;
-        
+
         for (String text : processedTexts) {
+            // placeholder -> valor original (apenas no modo TOKENIZE)
+            Map<String, String> tokens = new LinkedHashMap<>();
             String sanitized = text;
-            boolean hasSensitive = false;
-            
-            // Remove/mascara CPF
-            if (CPF_PATTERN.matcher(sanitized).find()) {
-                sanitized = CPF_PATTERN.matcher(sanitized).replaceAll("[CPF REMOVIDO]");
-                hasSensitive = true;
-            }
-            
-            // Remove/mascara CNPJ
-            if (CNPJ_PATTERN.matcher(sanitized).find()) {
-                sanitized = CNPJ_PATTERN.matcher(sanitized).replaceAll("[CNPJ REMOVIDO]");
-                hasSensitive = true;
-            }
-            
-            // Remove/mascara Email
-            if (EMAIL_PATTERN.matcher(sanitized).find()) {
-                sanitized = EMAIL_PATTERN.matcher(sanitized).replaceAll("[EMAIL REMOVIDO]");
-                hasSensitive = true;
-            }
-            
-            // Remove/mascara Telefone
-            if (PHONE_PATTERN.matcher(sanitized).find()) {
-                sanitized = PHONE_PATTERN.matcher(sanitized).replaceAll("[TELEFONE REMOVIDO]");
-                hasSensitive = true;
-            }
-            
-            // Remove/mascara Cartão de Crédito
-            if (CREDIT_CARD_PATTERN.matcher(sanitized).find()) {
-                sanitized = CREDIT_CARD_PATTERN.matcher(sanitized).replaceAll("[CARTÃO REMOVIDO]");
-                hasSensitive = true;
+
+            for (Map.Entry<Pattern, String> mask : MASKS.entrySet()) {
+                sanitized = mode == SensitiveDataMode.TOKENIZE
+                        ? tokenize(sanitized, mask.getKey(), tokens)
+                        : mask(sanitized, mask.getKey(), mask.getValue());
             }
-            
+
+            boolean hasSensitive = !sanitized.equals(text);
             if (hasSensitive) {
                 sensitiveDataCount++;
             }
-            
+
             sanitizedTexts.add(sanitized);
             hadSensitiveData.add(hasSensitive);
+            sensitiveTokens.add(tokens);
         }
-        
+
         context.setProcessedTexts(sanitizedTexts);
         context.setHadSensitiveData(hadSensitiveData);
         context.setSensitiveDataRemoved(sensitiveDataCount);
-        
+        if (mode == SensitiveDataMode.TOKENIZE) {
+            context.setSensitiveTokens(sensitiveTokens);
+        }
+
         log.info("Removed sensitive data from {} texts", sensitiveDataCount);
-        
+
         return context;
     }
 
@@ -87,4 +96,39 @@ public class RemoveSensitiveDataStep implements PipelineStep {
     public String getStepName() {
         return "RemoveSensitiveData";
     }
+
+    private String mask(String text, Pattern pattern, String replacement) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.replaceAll(Matcher.quoteReplacement(replacement)) : text;
+    }
+
+    /**
+     * Substitui cada valor sensível por um placeholder indexado.
+     * Valores repetidos no mesmo texto reutilizam o mesmo índice, de modo que textos
+     * que diferem apenas nos dados sensíveis geram a mesma forma (e a mesma chave de cache).
+     */
+    private String tokenize(String text, Pattern pattern, Map<String, String> tokens) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder();
+        do {
+            String value = matcher.group();
+            String placeholder = tokens.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(value))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElseGet(() -> {
+                        String created = String.format(PLACEHOLDER_FORMAT, tokens.size());
+                        tokens.put(created, value);
+                        return created;
+                    });
+            matcher.appendReplacement(result, Matcher.quoteReplacement(placeholder));
+        } while (matcher.find());
+        matcher.appendTail(result);
+
+        return result.toString();
+    }
 }
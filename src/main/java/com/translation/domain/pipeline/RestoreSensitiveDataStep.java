@@ -0,0 +1,63 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.TranslationContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pipeline Step 11: Restaura os dados sensíveis tokenizados no RemoveSensitiveDataStep
+ * Executa após o CacheSaveStep para que o cache guarde apenas a forma com placeholders
+ */
+@Slf4j
+@Component
+public class RestoreSensitiveDataStep implements PipelineStep {
+
+    @Override
+    public TranslationContext execute(TranslationContext context) {
+        List<Map<String, String>> sensitiveTokens = context.getSensitiveTokens();
+        if (sensitiveTokens == null) {
+            log.debug("No tokenized sensitive data to restore");
+            return context;
+        }
+
+        log.debug("Executing RestoreSensitiveDataStep for {} texts", sensitiveTokens.size());
+
+        List<String> translatedTexts = context.getTranslatedTexts();
+        int restoredCount = 0;
+
+        for (int i = 0; i < translatedTexts.size(); i++) {
+            Map<String, String> tokens = sensitiveTokens.get(i);
+            String translated = translatedTexts.get(i);
+            if (tokens.isEmpty() || translated == null) {
+                continue;
+            }
+
+            for (Map.Entry<String, String> token : tokens.entrySet()) {
+                if (!translated.contains(token.getKey())) {
+                    // O motor não preservou o placeholder: anexa o valor para não perdê-lo
+                    log.warn("Placeholder {} not preserved in translation at index {}", token.getKey(), i);
+                    translated = translated + " " + token.getValue();
+                    continue;
+                }
+                translated = translated.replace(token.getKey(), token.getValue());
+            }
+
+            translatedTexts.set(i, translated);
+            restoredCount++;
+        }
+
+        context.setTranslatedTexts(translatedTexts);
+
+        log.info("Restored sensitive data in {} texts", restoredCount);
+
+        return context;
+    }
+
+    @Override
+    public String getStepName() {
+        return "RestoreSensitiveData";
+    }
+}
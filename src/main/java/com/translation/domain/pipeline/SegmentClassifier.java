@@ -0,0 +1,192 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SegmentCategory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.Character.UnicodeScript;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Classificador local e sem I/O para segmentos que não precisam de tradução
+ * (números, SKUs, URLs, emails, emojis, código e textos já no idioma de destino)
+ */
+@Component
+public class SegmentClassifier {
+
+    private static final Pattern PLACEHOLDER_ONLY = Pattern.compile("(\\{\\{PII_\\d+}}[\\s\\p{Punct}]*)+");
+    private static final Pattern URL = Pattern.compile("(?i)(https?://|www\\.)\\S+");
+    private static final Pattern EMAIL = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
+    private static final Pattern NUMERIC = Pattern.compile("(?:[A-Z]{1,3}\\p{Sc}|[A-Z]{3}\\s)?[\\p{Sc}+\\-±~]?[\\d\\s.,:/%°\\p{Sc}+\\-x×]*\\d[\\d\\s.,:/%°\\p{Sc}+\\-x×]*");
+    private static final Pattern SKU = Pattern.compile("(?=.*\\d)[A-Z0-9]+([-_./#][A-Z0-9]+)*");
+    private static final Pattern FENCED_CODE = Pattern.compile("(?s)(```.*```|`[^`]+`)");
+    private static final Pattern IDENTIFIER = Pattern.compile(
+            "[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*(\\(\\))?");
+    // Sinais de código numa linha: chaves, atribuição, chamada de função ou palavra-chave no início
+    private static final Pattern CODE_SIGNAL = Pattern.compile(
+            "[{}]|[\\w\\])]\\s*[-+*/%]?=(?!=)|[A-Za-z_][\\w.]*\\(|"
+                    + "^\\s*(?:(?:return|import|const|let|var|def|class|public|private|protected|static|function)\\b"
+                    + "|#include|(?:if|for|while|switch)\\s*\\()");
+    private static final Pattern INDENTED = Pattern.compile("(?m)^(?:\\t| {2,})\\S");
+    private static final Pattern WORD_SPLIT = Pattern.compile("[^\\p{L}']+");
+
+    private static final int MAX_SKU_LENGTH = 40;
+    private static final int MIN_WORDS_FOR_LANGUAGE = 4;
+
+    private static final Map<String, Set<UnicodeScript>> SCRIPTS = Map.of(
+            "ja", EnumSet.of(UnicodeScript.HIRAGANA, UnicodeScript.KATAKANA, UnicodeScript.HAN),
+            "zh", EnumSet.of(UnicodeScript.HAN),
+            "ko", EnumSet.of(UnicodeScript.HANGUL, UnicodeScript.HAN),
+            "ar", EnumSet.of(UnicodeScript.ARABIC),
+            "ru", EnumSet.of(UnicodeScript.CYRILLIC)
+    );
+
+    // Palavras funcionais frequentes, usadas para detectar texto já no idioma de destino
+    private static final Map<String, Set<String>> STOPWORDS = Map.of(
+            "pt", Set.of("o", "os", "as", "um", "uma", "não", "é", "são", "com", "para", "você", "seu", "sua", "está", "isso", "mas", "também", "muito", "obrigado", "pelo", "pela", "nós"),
+            "en", Set.of("the", "and", "is", "are", "you", "your", "with", "for", "this", "that", "not", "was", "have", "has", "will", "of", "to", "it", "we", "thank", "please"),
+            "es", Set.of("el", "los", "las", "un", "una", "es", "son", "con", "para", "usted", "su", "está", "pero", "también", "muy", "gracias", "por", "nosotros", "y"),
+            "fr", Set.of("le", "la", "les", "un", "une", "est", "sont", "avec", "pour", "vous", "votre", "et", "mais", "aussi", "très", "merci", "nous", "ce", "pas"),
+            "de", Set.of("der", "die", "das", "ein", "eine", "ist", "sind", "mit", "für", "sie", "ihr", "und", "nicht", "aber", "auch", "sehr", "danke", "wir", "zu"),
+            "it", Set.of("il", "lo", "gli", "un", "una", "è", "sono", "con", "per", "lei", "suo", "e", "ma", "anche", "molto", "grazie", "noi", "non", "che")
+    );
+
+    @Value("${translation.pipeline.pre-filter.detect-target-language:true}")
+    private boolean detectTargetLanguage = true;
+
+    /**
+     * Classifica um segmento considerando o par de idiomas da requisição
+     */
+    public SegmentCategory classify(String text, String sourceLang, String targetLang) {
+        if (text == null || text.isBlank()) {
+            return SegmentCategory.BLANK;
+        }
+
+        String trimmed = text.strip();
+
+        if (PLACEHOLDER_ONLY.matcher(trimmed).matches()) {
+            return SegmentCategory.PLACEHOLDER;
+        }
+        if (URL.matcher(trimmed).matches()) {
+            return SegmentCategory.URL;
+        }
+        if (EMAIL.matcher(trimmed).matches()) {
+            return SegmentCategory.EMAIL;
+        }
+        if (NUMERIC.matcher(trimmed).matches()) {
+            return SegmentCategory.NUMERIC;
+        }
+        if (trimmed.length() <= MAX_SKU_LENGTH && SKU.matcher(trimmed).matches()) {
+            return SegmentCategory.SKU;
+        }
+        if (trimmed.codePoints().noneMatch(Character::isLetterOrDigit)) {
+            return SegmentCategory.EMOJI;
+        }
+        if (isCode(trimmed)) {
+            return SegmentCategory.CODE;
+        }
+        if (detectTargetLanguage && isInTargetLanguage(trimmed, lower(sourceLang), lower(targetLang))) {
+            return SegmentCategory.TARGET_LANGUAGE;
+        }
+
+        return SegmentCategory.TRANSLATABLE;
+    }
+
+    private boolean isCode(String text) {
+        if (FENCED_CODE.matcher(text).matches()) {
+            return true;
+        }
+
+        // Identificador isolado com sintaxe de código (snake_case, a.b.c, metodo()); camelCase sozinho
+        // não basta, pois marcas e nomes próprios (iPhone, McDonald, YouTube) também têm maiúsculas internas
+        if (IDENTIFIER.matcher(text).matches()) {
+            return text.contains("_") || text.contains(".") || text.endsWith("()");
+        }
+
+        // Bloco multilinha em que a maioria das linhas tem sinais de código e há estrutura de código
+        // (chaves, indentação ou sinais em todas as linhas); linhas terminadas em ";" não bastam,
+        // pois cláusulas enumeradas ("a) ...;") também terminam assim
+        String[] lines = text.split("\\R");
+        if (lines.length < 2) {
+            return false;
+        }
+        long codeLines = 0;
+        long nonEmpty = 0;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            nonEmpty++;
+            if (CODE_SIGNAL.matcher(line).find()) {
+                codeLines++;
+            }
+        }
+        boolean structured = text.indexOf('{') >= 0 || text.indexOf('}') >= 0
+                || INDENTED.matcher(text).find() || codeLines == nonEmpty;
+        return nonEmpty > 0 && codeLines * 2 >= nonEmpty && structured;
+    }
+
+    private boolean isInTargetLanguage(String text, String sourceLang, String targetLang) {
+        Set<UnicodeScript> targetScripts = SCRIPTS.get(targetLang);
+        if (targetScripts != null) {
+            return isWrittenIn(text, targetScripts, SCRIPTS.getOrDefault(sourceLang, EnumSet.of(UnicodeScript.LATIN)));
+        }
+
+        Set<String> targetWords = STOPWORDS.get(targetLang);
+        Set<String> sourceWords = STOPWORDS.get(sourceLang);
+        if (targetWords == null || sourceWords == null) {
+            return false;
+        }
+
+        String[] words = WORD_SPLIT.split(text.toLowerCase(Locale.ROOT));
+        int total = 0;
+        int targetOnly = 0;
+        int sourceOnly = 0;
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            total++;
+            boolean inTarget = targetWords.contains(word);
+            boolean inSource = sourceWords.contains(word);
+            if (inTarget && !inSource) {
+                targetOnly++;
+            } else if (inSource && !inTarget) {
+                sourceOnly++;
+            }
+        }
+
+        return total >= MIN_WORDS_FOR_LANGUAGE
+                && sourceOnly == 0
+                && targetOnly >= 2
+                && targetOnly * 4 >= total;
+    }
+
+    /**
+     * Todas as letras pertencem à escrita do destino e nenhuma à escrita da origem
+     */
+    private boolean isWrittenIn(String text, Set<UnicodeScript> targetScripts, Set<UnicodeScript> sourceScripts) {
+        boolean hasLetter = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (!Character.isLetter(codePoint)) {
+                continue;
+            }
+            UnicodeScript script = UnicodeScript.of(codePoint);
+            if (!targetScripts.contains(script) || sourceScripts.contains(script)) {
+                return false;
+            }
+            hasLetter = true;
+        }
+        return hasLetter;
+    }
+
+    private String lower(String language) {
+        return language == null ? "" : language.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,83 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SegmentedText;
+import com.translation.domain.model.TranslationContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pipeline Step 10: Reconstrói os textos a partir das sentenças traduzidas
+ * Executa após o CacheSaveStep, que persiste cada sentença individualmente.
+ * Um texto conta como acerto de cache só quando todas as suas sentenças vieram do cache
+ */
+@Slf4j
+@Component
+public class SentenceReassemblyStep implements PipelineStep {
+
+    @Override
+    public TranslationContext execute(TranslationContext context) {
+        List<SegmentedText> segmentedTexts = context.getSegmentedTexts();
+        if (segmentedTexts == null) {
+            log.debug("No segmented texts to reassemble");
+            return context;
+        }
+
+        log.debug("Executing SentenceReassemblyStep for {} texts", segmentedTexts.size());
+
+        List<String> segments = context.getProcessedTexts();
+        List<String> translatedSegments = context.getTranslatedTexts();
+        List<Boolean> segmentFromCache = context.getFromCache();
+        List<Boolean> segmentPassThrough = context.getPassThrough();
+
+        List<String> processedTexts = new ArrayList<>();
+        List<String> translatedTexts = new ArrayList<>();
+        List<Boolean> fromCache = new ArrayList<>();
+        List<Boolean> passThrough = new ArrayList<>();
+
+        for (SegmentedText segmentedText : segmentedTexts) {
+            List<Integer> indices = segmentedText.getSegmentIndices();
+            List<String> separators = segmentedText.getSeparators();
+
+            StringBuilder original = new StringBuilder(separators.get(0));
+            StringBuilder translated = new StringBuilder(separators.get(0));
+            boolean allFromCache = true;
+            boolean allPassThrough = true;
+
+            for (int i = 0; i < indices.size(); i++) {
+                int idx = indices.get(i);
+                original.append(segments.get(idx)).append(separators.get(i + 1));
+                translated.append(translatedSegments.get(idx)).append(separators.get(i + 1));
+                allFromCache &= segmentFromCache.get(idx);
+                allPassThrough &= segmentPassThrough != null && segmentPassThrough.get(idx);
+            }
+
+            processedTexts.add(original.toString());
+            translatedTexts.add(translated.toString());
+            fromCache.add(!indices.isEmpty() && allFromCache);
+            passThrough.add(allPassThrough);
+        }
+
+        context.setProcessedTexts(processedTexts);
+        context.setTranslatedTexts(translatedTexts);
+        context.setFromCache(fromCache);
+        context.setPassThrough(passThrough);
+        context.setSegmentedTexts(null);
+
+        // O CacheConsultStep contou sentenças; a resposta reporta textos (totalTexts)
+        int cacheHits = (int) fromCache.stream().filter(Boolean::booleanValue).count();
+        context.setCacheHits(cacheHits);
+        context.setCacheMisses(fromCache.size() - cacheHits);
+
+        log.info("Reassembled {} texts from {} sentences", processedTexts.size(), segments.size());
+
+        return context;
+    }
+
+    @Override
+    public String getStepName() {
+        return "SentenceReassembly";
+    }
+}
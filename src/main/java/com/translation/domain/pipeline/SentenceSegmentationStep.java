@@ -0,0 +1,88 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SegmentedText;
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.text.SentenceSegmenter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pipeline Step 3: Divide textos em sentenças para cache e tradução por sentença
+ * Sentenças repetidas entre textos são traduzidas uma única vez;
+ * o SentenceReassemblyStep reconstrói os textos preservando os espaços
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SentenceSegmentationStep implements PipelineStep {
+
+    private static final Set<TranslationType> SUPPORTED_TYPES = Set.of(TranslationType.TEXT, TranslationType.DOCUMENT);
+
+    private final SentenceSegmenter sentenceSegmenter;
+
+    @Value("${translation.pipeline.segmentation.enabled:true}")
+    private boolean enabled = true;
+
+    @Override
+    public TranslationContext execute(TranslationContext context) {
+        if (!enabled || !SUPPORTED_TYPES.contains(context.getType())) {
+            log.debug("Sentence segmentation skipped for type {}", context.getType());
+            return context;
+        }
+
+        log.debug("Executing SentenceSegmentationStep for {} texts", context.getProcessedTexts().size());
+
+        // Sentença -> posição em processedTexts (deduplicada entre todos os textos)
+        Map<String, Integer> segments = new LinkedHashMap<>();
+        List<SegmentedText> segmentedTexts = new ArrayList<>();
+
+        for (String text : context.getProcessedTexts()) {
+            List<Integer> segmentIndices = new ArrayList<>();
+            List<String> separators = new ArrayList<>();
+            StringBuilder separator = new StringBuilder();
+
+            for (String sentence : sentenceSegmenter.split(text, context.getSourceLanguage())) {
+                String core = sentence.strip();
+                if (core.isEmpty()) {
+                    separator.append(sentence);
+                    continue;
+                }
+
+                int coreStart = sentence.indexOf(core);
+                separator.append(sentence, 0, coreStart);
+                separators.add(separator.toString());
+                separator.setLength(0);
+                separator.append(sentence, coreStart + core.length(), sentence.length());
+
+                segmentIndices.add(segments.computeIfAbsent(core, k -> segments.size()));
+            }
+            separators.add(separator.toString());
+
+            segmentedTexts.add(SegmentedText.builder()
+                    .segmentIndices(segmentIndices)
+                    .separators(separators)
+                    .build());
+        }
+
+        context.setSegmentedTexts(segmentedTexts);
+        context.setProcessedTexts(new ArrayList<>(segments.keySet()));
+
+        log.info("Split {} texts into {} distinct sentences", segmentedTexts.size(), segments.size());
+
+        return context;
+    }
+
+    @Override
+    public String getStepName() {
+        return "SentenceSegmentation";
+    }
+}
@@ -0,0 +1,58 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.text.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Pipeline Step 9: Reaplica os espaços das bordas separados pelo NormalizationStep
+ * Traduções vindas do cache recebem os espaços das bordas da requisição atual, não os da original.
+ * Os espaços internos não são restaurados: a tradução é sempre da forma canônica (TranslationStep),
+ * com espaços repetidos colapsados, venha ela do cache ou não
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurfaceRestoreStep implements PipelineStep {
+
+    private final TextNormalizer textNormalizer;
+
+    @Override
+    public TranslationContext execute(TranslationContext context) {
+        List<String> leadingWhitespace = context.getLeadingWhitespace();
+        List<String> trailingWhitespace = context.getTrailingWhitespace();
+        if (leadingWhitespace == null || trailingWhitespace == null) {
+            log.debug("No surface to restore");
+            return context;
+        }
+
+        log.debug("Executing SurfaceRestoreStep for {} texts", leadingWhitespace.size());
+
+        List<String> processedTexts = context.getProcessedTexts();
+        List<String> translatedTexts = context.getTranslatedTexts();
+
+        for (int i = 0; i < translatedTexts.size(); i++) {
+            String leading = leadingWhitespace.get(i);
+            String trailing = trailingWhitespace.get(i);
+
+            processedTexts.set(i, leading + processedTexts.get(i) + trailing);
+            if (translatedTexts.get(i) != null) {
+                translatedTexts.set(i, leading + textNormalizer.normalize(translatedTexts.get(i)) + trailing);
+            }
+        }
+
+        context.setProcessedTexts(processedTexts);
+        context.setTranslatedTexts(translatedTexts);
+
+        return context;
+    }
+
+    @Override
+    public String getStepName() {
+        return "SurfaceRestore";
+    }
+}
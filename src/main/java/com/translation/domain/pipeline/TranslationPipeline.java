@@ -19,19 +19,31 @@ public class TranslationPipeline {
     public TranslationPipeline(
             RemoveDuplicatesStep removeDuplicatesStep,
             RemoveSensitiveDataStep removeSensitiveDataStep,
+            SentenceSegmentationStep sentenceSegmentationStep,
+            NormalizationStep normalizationStep,
             CacheConsultStep cacheConsultStep,
+            PreFilterStep preFilterStep,
             TranslationStep translationStep,
             CacheSaveStep cacheSaveStep,
+            SurfaceRestoreStep surfaceRestoreStep,
+            SentenceReassemblyStep sentenceReassemblyStep,
+            RestoreSensitiveDataStep restoreSensitiveDataStep,
             LogStep logStep) {
         
         // Define a ordem dos passos do pipeline
         this.steps = List.of(
             removeDuplicatesStep,      // 1. Remove duplicidades
             removeSensitiveDataStep,   // 2. Remove dados sensíveis (LGPD)
-            cacheConsultStep,          // 3. Consulta cache
-            translationStep,           // 4. Traduz (usando Strategy Pattern)
-            cacheSaveStep,             // 5. Salva no cache
-            logStep                    // 6. Log e métricas
+            sentenceSegmentationStep,  // 3. Divide textos em sentenças
+            normalizationStep,         // 4. Normaliza Unicode e espaços das bordas
+            cacheConsultStep,          // 5. Consulta cache
+            preFilterStep,             // 6. Repassa segmentos não traduzíveis
+            translationStep,           // 7. Traduz (usando Strategy Pattern)
+            cacheSaveStep,             // 8. Salva no cache
+            surfaceRestoreStep,        // 9. Reaplica os espaços das bordas
+            sentenceReassemblyStep,    // 10. Reconstrói os textos a partir das sentenças
+            restoreSensitiveDataStep,  // 11. Restaura dados sensíveis tokenizados
+            logStep                    // 12. Log e métricas
         );
         
         log.info("Translation Pipeline initialized with {} steps", steps.size());
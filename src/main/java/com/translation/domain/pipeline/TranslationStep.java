@@ -2,16 +2,21 @@ package com.translation.domain.pipeline;
 
 import com.translation.domain.model.TranslationContext;
 import com.translation.domain.port.TranslationPort;
+import com.translation.domain.text.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Pipeline Step 4: Traduz textos que não estavam em cache
+ * Pipeline Step 7: Traduz textos que não estavam em cache
  * Usa Strategy Pattern para selecionar a estratégia correta de tradução
+ * Envia a forma canônica (a mesma da chave de cache): a tradução salva no cache não depende
+ * dos espaços internos de quem a pediu primeiro
  */
 @Slf4j
 @Component
@@ -19,6 +24,7 @@ import java.util.List;
 public class TranslationStep implements PipelineStep {
 
     private final TranslationPort translationPort;
+    private final TextNormalizer textNormalizer;
 
     @Override
     public TranslationContext execute(TranslationContext context) {
@@ -28,18 +34,20 @@ public class TranslationStep implements PipelineStep {
         List<String> translatedTexts = context.getTranslatedTexts();
         List<Boolean> fromCache = context.getFromCache();
         
-        List<String> textsToTranslate = new ArrayList<>();
-        List<Integer> indices = new ArrayList<>();
+        // Formas canônicas distintas a traduzir -> posições no contexto
+        // (após a tokenização de dados sensíveis, textos diferentes podem ter a mesma forma)
+        Map<String, List<Integer>> pending = new LinkedHashMap<>();
         
         // Identifica textos que precisam ser traduzidos (não estavam em cache)
         for (int i = 0; i < translatedTexts.size(); i++) {
             if (translatedTexts.get(i) == null) {
-                textsToTranslate.add(processedTexts.get(i));
-                indices.add(i);
+                pending.computeIfAbsent(textNormalizer.canonicalize(processedTexts.get(i)),
+                        k -> new ArrayList<>()).add(i);
             }
         }
         
-        if (!textsToTranslate.isEmpty()) {
+        if (!pending.isEmpty()) {
+            List<String> textsToTranslate = new ArrayList<>(pending.keySet());
             log.info("Translating {} texts that were not in cache", textsToTranslate.size());
             
             // Traduz em lote usando a porta de tradução
@@ -51,9 +59,10 @@ public class TranslationStep implements PipelineStep {
             );
             
             // Atualiza o contexto com as traduções
-            for (int i = 0; i < indices.size(); i++) {
-                int idx = indices.get(i);
-                translatedTexts.set(idx, translations.get(i));
+            for (int i = 0; i < textsToTranslate.size(); i++) {
+                for (int idx : pending.get(textsToTranslate.get(i))) {
+                    translatedTexts.set(idx, translations.get(i));
+                }
             }
             
             log.info("Successfully translated {} texts", translations.size());
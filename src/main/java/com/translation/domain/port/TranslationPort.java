@@ -1,8 +1,14 @@
 package com.translation.domain.port;
 
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
 import com.translation.domain.model.TranslationType;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Port (Hexagonal Architecture) - Interface para serviços de tradução
@@ -12,7 +18,25 @@ public interface TranslationPort {
     
     List<String> translate(List<String> texts, String sourceLang, String targetLang, TranslationType type);
     
-    String translateBinary(byte[] content, String sourceLang, String targetLang, TranslationType type);
+    BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang, TranslationType type);
+    
+    /**
+     * Formato aceito pela tradução com preservação de formato
+     */
+    boolean supportsFormattedDocument(String contentType);
+    
+    /**
+     * Traduz um documento (DOCX/ODT, HTML) escrevendo em target um arquivo no mesmo formato
+     */
+    void translateFormattedDocument(BinaryContent content, String contentType, OutputStream target,
+                                    String sourceLang, String targetLang) throws IOException;
+    
+    /**
+     * Traduz uma imagem entregando o texto em partes (onText) à medida que é gerado;
+     * o future completa com o resultado inteiro, e cancelá-lo interrompe a tradução
+     */
+    CompletableFuture<BinaryTranslation> streamImageTranslation(BinaryContent content, String sourceLang,
+                                                                String targetLang, Consumer<String> onText);
     
     boolean isLanguageSupported(String languageCode);
     
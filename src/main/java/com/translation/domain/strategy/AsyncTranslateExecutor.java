@@ -0,0 +1,197 @@
+package com.translation.domain.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+import software.amazon.awssdk.services.translate.model.TranslateTextRequest;
+import software.amazon.awssdk.services.translate.model.TranslateTextResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Execução não bloqueante das chamadas ao AWS Translate
+ * O limite por nó é o max-concurrency do cliente Netty compartilhado (AwsConfig);
+ * o limite por requisição é aplicado aqui, e os resultados preservam a ordem de entrada
+ */
+@Slf4j
+@Component
+public class AsyncTranslateExecutor {
+
+    private final TranslateAsyncClient translateAsyncClient;
+    private final int maxInFlightPerRequest;
+
+    public AsyncTranslateExecutor(
+            TranslateAsyncClient translateAsyncClient,
+            @Value("${translation.upstream.max-in-flight-per-request:8}") int maxInFlightPerRequest) {
+        this.translateAsyncClient = translateAsyncClient;
+        this.maxInFlightPerRequest = maxInFlightPerRequest;
+    }
+
+    /**
+     * Traduz um único texto; o future falha se a chamada falhar
+     */
+    public CompletableFuture<String> translateAsync(String text, String sourceLang, String targetLang) {
+        TranslateTextRequest request = TranslateTextRequest.builder()
+                .text(text)
+                .sourceLanguageCode(sourceLang)
+                .targetLanguageCode(targetLang)
+                .build();
+
+        return translateAsyncClient.translateText(request).thenApply(TranslateTextResponse::translatedText);
+    }
+
+    /**
+     * Limite por requisição para chamadas disparadas de dentro de outros futures (ex.: os segmentos
+     * de cada chunk), que mapBounded não alcança. Uma instância por requisição
+     */
+    public RequestLimit requestLimit() {
+        return new RequestLimit(maxInFlightPerRequest);
+    }
+
+    /**
+     * Semáforo não bloqueante: acima do limite, as chamadas esperam numa fila
+     * e são disparadas à medida que as anteriores terminam
+     */
+    public static final class RequestLimit {
+        private final int maxInFlight;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight;
+
+        RequestLimit(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public <R> CompletableFuture<R> submit(Supplier<CompletableFuture<R>> call) {
+            CompletableFuture<R> result = new CompletableFuture<>();
+            Runnable start = () -> {
+                CompletableFuture<R> future;
+                try {
+                    future = call.get();
+                } catch (RuntimeException e) {
+                    future = CompletableFuture.failedFuture(e);
+                }
+                future.whenComplete((value, error) -> {
+                    release();
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            };
+
+            synchronized (this) {
+                if (inFlight >= maxInFlight) {
+                    waiting.addLast(start);
+                    return result;
+                }
+                inFlight++;
+            }
+            start.run();
+            return result;
+        }
+
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.pollFirst();
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            next.run();
+        }
+    }
+
+    /**
+     * Traduz todos os textos em paralelo, limitado por requisição, preservando a ordem.
+     * Em caso de erro retorna o texto original daquele item.
+     */
+    public List<String> translateAll(List<String> texts, String sourceLang, String targetLang) {
+        return mapBounded(texts, text -> {
+            if (text.isBlank()) {
+                return CompletableFuture.completedFuture(text);
+            }
+            return translateAsync(text, sourceLang, targetLang).exceptionally(e -> {
+                log.error("Error translating text: {}", text, e);
+                return text; // Fallback
+            });
+        });
+    }
+
+    /**
+     * Aplica a chamada assíncrona a cada entrada com no máximo N chamadas em andamento
+     * para esta requisição e aguarda os resultados na ordem de entrada
+     */
+    public <T, R> List<R> mapBounded(List<T> inputs, Function<T, CompletableFuture<R>> call) {
+        return mapBounded(inputs.iterator(), call);
+    }
+
+    /**
+     * Variante para entradas produzidas sob demanda (ex.: chunks de um parse em andamento):
+     * cada entrada é enviada assim que chega, respeitando o mesmo limite
+     */
+    public <T, R> List<R> mapBounded(Iterator<T> inputs, Function<T, CompletableFuture<R>> call) {
+        return mapBounded(inputs, maxInFlightPerRequest, call);
+    }
+
+    /**
+     * Variante com limite próprio, para chamadas mais pesadas que as do AWS Translate (ex.: Bedrock)
+     */
+    public <T, R> List<R> mapBounded(Iterator<T> inputs, int maxInFlight, Function<T, CompletableFuture<R>> call) {
+        Semaphore permits = new Semaphore(maxInFlight);
+        List<CompletableFuture<R>> futures = new ArrayList<>();
+
+        while (inputs.hasNext()) {
+            T input = inputs.next();
+            permits.acquireUninterruptibly();
+            CompletableFuture<R> future;
+            try {
+                future = call.apply(input);
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            future.whenComplete((result, error) -> permits.release());
+            futures.add(future);
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<R> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Variante que entrega cada resultado ao consumidor na ordem de entrada, assim que ele e os
+     * anteriores terminam. A janela de N chamadas avança só quando a mais antiga termina, então
+     * no máximo N futures e resultados ficam retidos, qualquer que seja o número de entradas
+     */
+    public <T, R> void forEachOrdered(Iterator<T> inputs, Function<T, CompletableFuture<R>> call, Consumer<R> sink) {
+        Deque<CompletableFuture<R>> window = new ArrayDeque<>();
+        while (inputs.hasNext()) {
+            if (window.size() >= maxInFlightPerRequest) {
+                sink.accept(window.removeFirst().join());
+            }
+            window.addLast(call.apply(inputs.next()));
+            while (!window.isEmpty() && window.peekFirst().isDone()) {
+                sink.accept(window.removeFirst().join());
+            }
+        }
+        while (!window.isEmpty()) {
+            sink.accept(window.removeFirst().join());
+        }
+    }
+}
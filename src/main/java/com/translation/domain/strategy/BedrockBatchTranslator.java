@@ -0,0 +1,349 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Tradução de muitos segmentos curtos por chamada ao Claude no Bedrock
+ * Os segmentos vão como um array JSON ({"id", "text"}) em lotes limitados por uma estimativa
+ * de tokens; a resposta precisa trazer um item por id, com texto e os mesmos placeholders
+ * de marcação. Só os itens ausentes ou malformados numa resposta legível são reenviados
+ * (em lotes com metade do orçamento); lotes cuja chamada falhou (rede, throttling, 5xx) ou cuja
+ * resposta não traz um array JSON vão direto para o AWS Translate (PackedTextTranslator),
+ * assim como o que sobrar após as tentativas
+ * Item devolvido igual à origem duas vezes (nomes próprios, texto já no idioma de destino)
+ * não é mais reenviado: fica com o texto original
+ */
+@Slf4j
+@Component
+public class BedrockBatchTranslator {
+
+    // Respostas iguais à origem aceitas como definitivas
+    private static final int MAX_ECHOES = 2;
+    // Estimativa conservadora: ~3 bytes UTF-8 por token (texto latino rende mais, CJK ~1 caractere)
+    private static final int BYTES_PER_TOKEN = 3;
+    // Custo por item do JSON ({"id":N,"text":""}) em tokens
+    private static final int ITEM_OVERHEAD_TOKENS = 8;
+
+    // Marcação dos documentos (<g1>, <x2/>) e dados sensíveis mascarados pelo pipeline ({{PII_3}})
+    private static final Pattern PLACEHOLDER = Pattern.compile("</?g\\d+>|<x\\d+/>|\\{\\{PII_\\d+}}");
+
+    private static final String SYSTEM_PROMPT = """
+            You are a professional translator. Translate the "text" of every item of the JSON array \
+            from %s to %s.
+            Reply with only a JSON array containing one object per input item: {"id": <same id>, "text": <translation>}.
+            Do not merge, split, skip or add items, and do not add comments.
+            Keep placeholders such as <g1>, </g1>, <x2/> and {{PII_3}} exactly as written, around the corresponding words.""";
+
+    private final BedrockRuntimeAsyncClient bedrockAsyncClient;
+    private final ClaudeMessagesCodec messagesCodec;
+    private final ObjectMapper objectMapper;
+    private final AsyncTranslateExecutor translateExecutor;
+    private final PackedTextTranslator packedTextTranslator;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Set<String> languagePairs;
+    private final String modelId;
+    private final int tokenBudget;
+    private final int maxSegments;
+    private final int maxOutputTokens;
+    private final int maxRetries;
+    private final int maxInFlight;
+
+    public BedrockBatchTranslator(
+            BedrockRuntimeAsyncClient bedrockAsyncClient,
+            ClaudeMessagesCodec messagesCodec,
+            ObjectMapper objectMapper,
+            AsyncTranslateExecutor translateExecutor,
+            PackedTextTranslator packedTextTranslator,
+            MeterRegistry meterRegistry,
+            @Value("${translation.llm.enabled:false}") boolean enabled,
+            @Value("${translation.llm.language-pairs:}") String languagePairs,
+            @Value("${translation.llm.model-id:anthropic.claude-3-haiku-20240307-v1:0}") String modelId,
+            @Value("${translation.llm.batch-token-budget:1500}") int tokenBudget,
+            @Value("${translation.llm.max-segments-per-call:200}") int maxSegments,
+            @Value("${translation.llm.max-output-tokens:4096}") int maxOutputTokens,
+            @Value("${translation.llm.max-retries:2}") int maxRetries,
+            @Value("${translation.llm.max-in-flight:4}") int maxInFlight) {
+        this.bedrockAsyncClient = bedrockAsyncClient;
+        this.messagesCodec = messagesCodec;
+        this.objectMapper = objectMapper;
+        this.translateExecutor = translateExecutor;
+        this.packedTextTranslator = packedTextTranslator;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.languagePairs = Arrays.stream(languagePairs.split(","))
+                .map(pair -> pair.strip().toLowerCase(Locale.ROOT))
+                .filter(pair -> !pair.isEmpty())
+                .collect(Collectors.toSet());
+        this.modelId = modelId;
+        this.tokenBudget = tokenBudget;
+        this.maxSegments = maxSegments;
+        this.maxOutputTokens = maxOutputTokens;
+        this.maxRetries = maxRetries;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Par de idiomas configurado para tradução pelo LLM (origem:destino, ou * para todos)
+     */
+    public boolean handles(String sourceLang, String targetLang) {
+        return enabled && (languagePairs.contains("*")
+                || languagePairs.contains((sourceLang + ':' + targetLang).toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Traduz os segmentos preservando a ordem
+     */
+    public List<String> translate(List<String> segments, String sourceLang, String targetLang) {
+        return translate(segments, sourceLang, targetLang, new BitSet());
+    }
+
+    /**
+     * Como translate, marcando em fallbacks os índices que voltaram no texto original
+     * (falha também no AWS Translate)
+     */
+    public List<String> translate(List<String> segments, String sourceLang, String targetLang, BitSet fallbacks) {
+        List<String> translations = new ArrayList<>(segments);
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            if (!segments.get(i).isBlank()) {
+                pending.add(i);
+            }
+        }
+
+        // Reenviar um lote cuja chamada falhou só repetiria o erro (e o throttling)
+        List<Integer> unanswered = new ArrayList<>();
+        Map<Integer, Integer> echoes = new HashMap<>();
+        int budget = tokenBudget;
+        for (int round = 0; round <= maxRetries && !pending.isEmpty(); round++) {
+            if (round > 0) {
+                log.warn("Re-sending {} missing or malformed segments to Bedrock (attempt {})", pending.size(), round + 1);
+                count("retried", pending.size());
+            }
+
+            List<List<Integer>> batches = pack(segments, pending, budget);
+            List<BatchReply> results = translateExecutor.mapBounded(batches.iterator(), maxInFlight,
+                    batch -> translateBatch(batch.stream().map(segments::get).toList(), sourceLang, targetLang));
+
+            List<Integer> failed = new ArrayList<>();
+            int translatedCount = 0;
+            int echoedCount = 0;
+            for (int b = 0; b < batches.size(); b++) {
+                List<Integer> batch = batches.get(b);
+                BatchReply reply = results.get(b);
+                if (reply == null) {
+                    unanswered.addAll(batch);
+                    continue;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    String translated = reply.translations().get(i);
+                    if (translated != null) {
+                        translations.set(batch.get(i), translated);
+                        translatedCount++;
+                    } else if (reply.echoed().contains(i)
+                            && echoes.merge(batch.get(i), 1, Integer::sum) >= MAX_ECHOES) {
+                        // Já está com o texto original
+                        echoedCount++;
+                    } else {
+                        failed.add(batch.get(i));
+                    }
+                }
+            }
+            count("translated", translatedCount);
+            count("echoed", echoedCount);
+            pending = failed;
+            // Respostas truncadas ou confusas costumam vir de lotes grandes
+            budget = Math.max(1, budget / 2);
+        }
+
+        if (!pending.isEmpty()) {
+            log.warn("{} segments still missing after {} attempts, falling back to AWS Translate",
+                    pending.size(), maxRetries + 1);
+        }
+        if (!unanswered.isEmpty()) {
+            log.warn("{} segments without a usable Bedrock reply, falling back to AWS Translate",
+                    unanswered.size());
+        }
+        if (!pending.isEmpty() || !unanswered.isEmpty()) {
+            List<Integer> missing = new ArrayList<>(unanswered);
+            missing.addAll(pending);
+            missing.sort(null);
+            count("fallback", missing.size());
+            BitSet untranslated = new BitSet();
+            List<String> fallback = packedTextTranslator.translate(
+                    missing.stream().map(segments::get).toList(), sourceLang, targetLang, untranslated);
+            for (int i = 0; i < missing.size(); i++) {
+                translations.set(missing.get(i), fallback.get(i));
+            }
+            untranslated.stream().forEach(i -> fallbacks.set(missing.get(i)));
+        }
+        return translations;
+    }
+
+    /**
+     * Lotes na ordem original, até o orçamento de tokens e o limite de itens;
+     * um segmento maior que o orçamento vai sozinho
+     */
+    List<List<Integer>> pack(List<String> segments, List<Integer> indices, int budget) {
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        int tokens = 0;
+        for (int index : indices) {
+            int cost = estimateTokens(segments.get(index));
+            if (!current.isEmpty() && (tokens + cost > budget || current.size() >= maxSegments)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                tokens = 0;
+            }
+            current.add(index);
+            tokens += cost;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * Traduções válidas do lote, pela posição no lote; itens ausentes ou malformados ficam de fora.
+     * Null quando a chamada falhou ou a resposta não pôde ser lida
+     */
+    private CompletableFuture<BatchReply> translateBatch(List<String> batch, String sourceLang,
+                                                                 String targetLang) {
+        InvokeModelRequest request;
+        try {
+            ArrayNode items = objectMapper.createArrayNode();
+            for (int i = 0; i < batch.size(); i++) {
+                items.addObject().put("id", i).put("text", batch.get(i));
+            }
+            request = InvokeModelRequest.builder()
+                    .modelId(modelId)
+                    .body(messagesCodec.textRequest(String.format(SYSTEM_PROMPT, sourceLang, targetLang),
+                            objectMapper.writeValueAsString(items), maxOutputTokens))
+                    .build();
+        } catch (IOException e) {
+            log.error("Could not build Bedrock request for batch of {} segments", batch.size(), e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return bedrockAsyncClient.invokeModel(request).handle((response, error) -> {
+            if (error != null) {
+                log.error("Error translating batch of {} segments with Bedrock", batch.size(), error);
+                return null;
+            }
+            try {
+                return validate(batch, messagesCodec.readText(response.body().asInputStream()));
+            } catch (IOException e) {
+                log.warn("Unreadable Bedrock response for batch of {} segments: {}", batch.size(), e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Alinha a resposta com a entrada: um item por id, texto não vazio, diferente da origem
+     * (quando ela tem letras) e com os mesmos placeholders; os devolvidos iguais à origem ficam
+     * em echoed. Ids repetidos invalidam todas as suas ocorrências; null quando a resposta não
+     * traz um array JSON
+     */
+    BatchReply validate(List<String> batch, String reply) {
+        int start = reply.indexOf('[');
+        int end = reply.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            log.warn("Bedrock reply without a JSON array for batch of {} segments", batch.size());
+            return null;
+        }
+
+        JsonNode items;
+        try {
+            items = objectMapper.readTree(reply.substring(start, end + 1));
+        } catch (JsonProcessingException e) {
+            log.warn("Malformed JSON array from Bedrock for batch of {} segments: {}", batch.size(), e.getMessage());
+            return null;
+        }
+
+        Map<Integer, String> translations = new HashMap<>();
+        Set<Integer> echoed = new HashSet<>();
+        Set<Integer> repeated = new HashSet<>();
+        for (JsonNode item : items) {
+            JsonNode id = item.path("id");
+            JsonNode text = item.path("text");
+            if (!id.canConvertToInt() || id.asInt() < 0 || id.asInt() >= batch.size() || !text.isTextual()) {
+                continue;
+            }
+            int position = id.asInt();
+            String translated = text.asText();
+            String source = batch.get(position);
+            if (echoes(source, translated)) {
+                echoed.add(position);
+                continue;
+            }
+            if (translated.isBlank() || !placeholders(translated).equals(placeholders(source))) {
+                continue;
+            }
+            if (translations.put(position, translated) != null) {
+                repeated.add(position);
+            }
+        }
+        repeated.forEach(translations::remove);
+        echoed.removeAll(translations.keySet());
+        echoed.removeAll(repeated);
+        return new BatchReply(translations, echoed);
+    }
+
+    /**
+     * Texto devolvido sem tradução; números, códigos e pontuação podem legitimamente voltar iguais
+     */
+    private static boolean echoes(String source, String translated) {
+        return translated.strip().equals(source.strip()) && source.codePoints().anyMatch(Character::isLetter);
+    }
+
+    private static List<String> placeholders(String text) {
+        List<String> found = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        while (matcher.find()) {
+            found.add(matcher.group());
+        }
+        found.sort(null);
+        return found;
+    }
+
+    private static int estimateTokens(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length / BYTES_PER_TOKEN + ITEM_OVERHEAD_TOKENS;
+    }
+
+    private void count(String outcome, int segments) {
+        meterRegistry.counter("translation.llm.segments", "outcome", outcome).increment(segments);
+    }
+
+    /**
+     * Resposta legível de um lote: traduções válidas e itens devolvidos sem tradução, pela posição no lote
+     */
+    record BatchReply(Map<Integer, String> translations, Set<Integer> echoed) {
+    }
+}
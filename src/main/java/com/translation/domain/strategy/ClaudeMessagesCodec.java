@@ -0,0 +1,279 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.SdkBytes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Corpo das chamadas ao Claude no Bedrock (Messages API) em streaming com Jackson
+ * A imagem é codificada em base64 direto no buffer de saída, dimensionado no tamanho exato
+ * do JSON - uma única cópia do payload, sem Strings intermediárias. A resposta é lida
+ * token a token, sem montar a árvore nem a String do corpo inteiro
+ */
+@Component
+public class ClaudeMessagesCodec {
+
+    private static final String ANTHROPIC_VERSION = "bedrock-2023-05-31";
+    private static final byte[] NO_DATA = new byte[0];
+
+    private final JsonFactory jsonFactory;
+
+    public ClaudeMessagesCodec(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Mensagem com uma imagem e o prompt de texto
+     */
+    public SdkBytes imageRequest(byte[] image, String mediaType, String prompt, int maxTokens) throws IOException {
+        // O envelope é escrito antes sem a imagem; o base64 tem tamanho fixo (4 * ceil(n / 3))
+        int envelope = measure(NO_DATA, mediaType, prompt, maxTokens);
+        int base64 = 4 * ((image.length + 2) / 3);
+
+        FixedBufferOutputStream out = new FixedBufferOutputStream(envelope + base64);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            writeImageRequest(generator, image, mediaType, prompt, maxTokens);
+        }
+        return SdkBytes.fromByteArrayUnsafe(out.toByteArray());
+    }
+
+    /**
+     * Mensagem só de texto, com instruções de sistema e temperatura zero (tradução determinística)
+     */
+    public SdkBytes textRequest(String system, String prompt, int maxTokens) throws IOException {
+        FixedBufferOutputStream out = new FixedBufferOutputStream(system.length() + prompt.length() * 2 + 256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("anthropic_version", ANTHROPIC_VERSION);
+            generator.writeNumberField("max_tokens", maxTokens);
+            generator.writeNumberField("temperature", 0);
+            generator.writeStringField("system", system);
+            generator.writeArrayFieldStart("messages");
+            generator.writeStartObject();
+            generator.writeStringField("role", "user");
+            generator.writeStringField("content", prompt);
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return SdkBytes.fromByteArrayUnsafe(out.toByteArray());
+    }
+
+    /**
+     * Texto da resposta (ou de um evento do stream) e o motivo da parada; max_tokens indica
+     * saída cortada no limite, que não deve ser tratada como tradução completa
+     */
+    public record Reply(String text, String stopReason) {
+
+        public boolean truncated() {
+            return "max_tokens".equals(stopReason);
+        }
+    }
+
+    /**
+     * Concatena os blocos "text" de content; ignora os demais campos da resposta
+     */
+    public String readText(InputStream body) throws IOException {
+        return readReply(body).text();
+    }
+
+    /**
+     * Blocos "text" de content e o stop_reason da resposta
+     */
+    public Reply readReply(InputStream body) throws IOException {
+        StringBuilder text = new StringBuilder();
+        String stopReason = null;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected Bedrock response: expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("content".equals(field) && value == JsonToken.START_ARRAY) {
+                    readContent(parser, text);
+                } else if ("stop_reason".equals(field)) {
+                    stopReason = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new Reply(text.toString(), stopReason);
+    }
+
+    /**
+     * Texto de um evento do InvokeModelWithResponseStream (content_block_delta com text_delta);
+     * vazio para os demais eventos (message_start, content_block_stop, message_delta...)
+     */
+    public String readTextDelta(InputStream event) throws IOException {
+        return readEvent(event).text();
+    }
+
+    /**
+     * Evento do stream: o texto de content_block_delta e o stop_reason de message_delta
+     */
+    public Reply readEvent(InputStream event) throws IOException {
+        String type = null;
+        Reply delta = new Reply("", null);
+        try (JsonParser parser = jsonFactory.createParser(event)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected Bedrock stream event: expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("type".equals(field)) {
+                    type = parser.getValueAsString();
+                } else if ("delta".equals(field) && value == JsonToken.START_OBJECT) {
+                    delta = readDelta(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if ("content_block_delta".equals(type)) {
+            return new Reply(delta.text(), null);
+        }
+        return new Reply("", "message_delta".equals(type) ? delta.stopReason() : null);
+    }
+
+    private Reply readDelta(JsonParser parser) throws IOException {
+        String text = "";
+        String stopReason = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("text".equals(field)) {
+                text = parser.getValueAsString();
+            } else if ("stop_reason".equals(field)) {
+                stopReason = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new Reply(text, stopReason);
+    }
+
+    private void readContent(JsonParser parser, StringBuilder text) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String type = null;
+            String blockText = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("type".equals(field)) {
+                    type = parser.getValueAsString();
+                } else if ("text".equals(field)) {
+                    blockText = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if ("text".equals(type) && blockText != null) {
+                text.append(blockText);
+            }
+        }
+    }
+
+    private int measure(byte[] image, String mediaType, String prompt, int maxTokens) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (JsonGenerator generator = jsonFactory.createGenerator(counter)) {
+            writeImageRequest(generator, image, mediaType, prompt, maxTokens);
+        }
+        return counter.count;
+    }
+
+    private void writeImageRequest(JsonGenerator generator, byte[] image, String mediaType, String prompt,
+                                   int maxTokens) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("anthropic_version", ANTHROPIC_VERSION);
+        generator.writeNumberField("max_tokens", maxTokens);
+        generator.writeArrayFieldStart("messages");
+        generator.writeStartObject();
+        generator.writeStringField("role", "user");
+        generator.writeArrayFieldStart("content");
+
+        generator.writeStartObject();
+        generator.writeStringField("type", "image");
+        generator.writeObjectFieldStart("source");
+        generator.writeStringField("type", "base64");
+        generator.writeStringField("media_type", mediaType);
+        generator.writeFieldName("data");
+        // Base64 padrão (com padding, sem quebras de linha), escrito em blocos no buffer do gerador
+        generator.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, image, 0, image.length);
+        generator.writeEndObject();
+        generator.writeEndObject();
+
+        generator.writeStartObject();
+        generator.writeStringField("type", "text");
+        generator.writeStringField("text", prompt);
+        generator.writeEndObject();
+
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Saída sobre um array pré-alocado; cresce só se o tamanho previsto estiver errado
+     */
+    private static final class FixedBufferOutputStream extends OutputStream {
+
+        private byte[] buffer;
+        private int count;
+
+        FixedBufferOutputStream(int size) {
+            this.buffer = new byte[size];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        private void ensureCapacity(int length) {
+            if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+            }
+        }
+
+        byte[] toByteArray() {
+            return count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private int count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+}
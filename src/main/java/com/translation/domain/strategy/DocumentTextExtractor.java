@@ -0,0 +1,182 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.BinaryContent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.sax.BodyContentHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Extração de texto de documentos com Apache Tika
+ * O parser é criado uma única vez (thread-safe). No modo streaming o parse roda em uma
+ * thread própria e entrega chunks de parágrafos por uma fila limitada, de modo que a
+ * tradução começa antes do fim do parse e a memória não cresce com o tamanho do documento
+ */
+@Slf4j
+@Component
+public class DocumentTextExtractor {
+
+    // Marca de fim da fila (comparada por identidade)
+    private static final String END_OF_STREAM = new String("");
+
+    private final AutoDetectParser parser = new AutoDetectParser();
+    private final ExecutorService parseExecutor;
+    private final Timer firstChunkTimer;
+    private final int queueCapacity;
+
+    public DocumentTextExtractor(
+            MeterRegistry meterRegistry,
+            @Value("${translation.document.streaming.queue-capacity:16}") int queueCapacity,
+            @Value("${translation.document.streaming.parser-threads:4}") int parserThreads) {
+        this.queueCapacity = queueCapacity;
+        this.parseExecutor = Executors.newFixedThreadPool(parserThreads, r -> {
+            Thread thread = new Thread(r, "document-extract");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.firstChunkTimer = Timer.builder("translation.document.extraction.first-chunk")
+                .description("Time from parse start to the first extracted chunk")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Extrai todo o texto do documento de uma vez
+     */
+    public String extractText(BinaryContent content) throws IOException, TikaException, SAXException {
+        BodyContentHandler handler = new BodyContentHandler(-1); // -1 = sem limite
+        Metadata metadata = new Metadata();
+
+        try (InputStream in = openStream(content)) {
+            parser.parse(in, handler, metadata, new ParseContext());
+        }
+
+        log.info("Extracted text from document. Content type: {}", metadata.get("Content-Type"));
+        return handler.toString();
+    }
+
+    /**
+     * Inicia o parse em background e devolve os chunks na ordem do documento.
+     * O parse fica bloqueado enquanto a fila estiver cheia; fechar o stream cancela o parse
+     */
+    public ChunkStream stream(BinaryContent content, int maxChunkBytes) {
+        ChunkStream stream = new ChunkStream(new ArrayBlockingQueue<>(queueCapacity));
+        stream.parse = parseExecutor.submit(() -> parseInto(content, maxChunkBytes, stream));
+        return stream;
+    }
+
+    private void parseInto(BinaryContent content, int maxChunkBytes, ChunkStream stream) {
+        Timer.Sample sample = Timer.start();
+        boolean[] first = {true};
+        Metadata metadata = new Metadata();
+
+        ParagraphChunkHandler handler = new ParagraphChunkHandler(chunk -> {
+            if (first[0]) {
+                first[0] = false;
+                sample.stop(firstChunkTimer);
+            }
+            stream.queue.put(chunk);
+        }, maxChunkBytes);
+
+        try (InputStream in = openStream(content)) {
+            parser.parse(in, new BodyContentHandler(handler), metadata, new ParseContext());
+            log.info("Streamed text from document. Content type: {}", metadata.get("Content-Type"));
+        } catch (Exception e) {
+            stream.failure = e;
+        } finally {
+            try {
+                stream.queue.put(END_OF_STREAM);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // Consumidor já desistiu
+            }
+        }
+    }
+
+    /**
+     * Uploads em disco são abertos pelo caminho: parsers de PDF/ZIP fazem acesso aleatório
+     * ao arquivo em vez de o Tika copiar o stream para outro temporário
+     */
+    private InputStream openStream(BinaryContent content) throws IOException {
+        return content.file().isPresent()
+                ? TikaInputStream.get(content.file().get())
+                : TikaInputStream.get(content.openStream());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        parseExecutor.shutdownNow();
+    }
+
+    /**
+     * Chunks extraídos, consumidos na ordem em que o parse os produz
+     */
+    public static class ChunkStream implements Iterator<String>, AutoCloseable {
+
+        private final BlockingQueue<String> queue;
+        private volatile Exception failure;
+        private Future<?> parse;
+        private String next;
+        private boolean finished;
+
+        private ChunkStream(BlockingQueue<String> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TranslationException("Interrupted while waiting for document text", e);
+                }
+                if (next == END_OF_STREAM) {
+                    next = null;
+                    finished = true;
+                    if (failure != null) {
+                        throw new TranslationException("Failed to extract document text", failure);
+                    }
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String chunk = next;
+            next = null;
+            return chunk;
+        }
+
+        @Override
+        public void close() {
+            if (!finished) {
+                parse.cancel(true);
+                queue.clear();
+            }
+        }
+    }
+}
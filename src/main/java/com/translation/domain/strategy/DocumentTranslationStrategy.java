@@ -1,24 +1,25 @@
 package com.translation.domain.strategy;
 
 import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
 import com.translation.domain.model.TranslationType;
+import com.translation.domain.text.TextChunker;
+import com.translation.domain.text.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.exception.TikaException;
-import org.apache.tika.metadata.Metadata;
-import org.apache.tika.parser.AutoDetectParser;
-import org.apache.tika.parser.ParseContext;
-import org.apache.tika.sax.BodyContentHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.xml.sax.SAXException;
-import software.amazon.awssdk.services.translate.TranslateClient;
-import software.amazon.awssdk.services.translate.model.TranslateTextRequest;
-import software.amazon.awssdk.services.translate.model.TranslateTextResponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Strategy para tradução de documentos (PDF, DOC, DOCX) usando Apache Tika + AWS Translate
@@ -29,44 +30,100 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DocumentTranslationStrategy implements TranslationStrategy {
 
-    private final TranslateClient translateClient;
+    private final AsyncTranslateExecutor translateExecutor;
+    private final TextChunker textChunker;
+    private final TextNormalizer textNormalizer;
+    private final DocumentTextExtractor documentTextExtractor;
+    private final PdfPageExtractor pdfPageExtractor;
+    private final ExtractedTextCache extractedTextCache;
+    private final ParagraphTranslationMemory paragraphMemory;
+
+    // AWS Translate aceita até 10.000 bytes UTF-8 por requisição
+    @Value("${translation.document.chunk-max-bytes:9000}")
+    private int chunkMaxBytes = 9000;
+
+    // Traduz os parágrafos enquanto o Tika ainda está extraindo o restante do documento
+    @Value("${translation.document.streaming.enabled:true}")
+    private boolean streamingEnabled = true;
 
     @Override
     public List<String> translate(List<String> texts, String sourceLang, String targetLang) {
         log.info("Translating {} document texts using DocumentTranslationStrategy", texts.size());
         
-        List<String> translations = new ArrayList<>();
-        
+        // Para documentos, faz chunking dos textos longos e traduz todos os chunks em paralelo
+        List<List<String>> chunksPerText = new ArrayList<>();
+        List<String> allChunks = new ArrayList<>();
         for (String text : texts) {
-            try {
-                // Para documentos, pode fazer chunking para textos muito longos
-                String translated = translateLargeText(text, sourceLang, targetLang);
-                translations.add(translated);
-            } catch (Exception e) {
-                log.error("Error translating document text: {}", text, e);
-                translations.add(text);
-            }
+            List<String> chunks = textChunker.chunk(text, sourceLang, chunkMaxBytes);
+            chunksPerText.add(chunks);
+            allChunks.addAll(chunks);
+        }
+        
+        List<String> translatedChunks = translateChunks(allChunks, sourceLang, targetLang);
+        
+        // Reagrupa os chunks na ordem original
+        List<String> translations = new ArrayList<>();
+        int next = 0;
+        for (List<String> chunks : chunksPerText) {
+            translations.add(String.join("", translatedChunks.subList(next, next + chunks.size())));
+            next += chunks.size();
         }
         
         return translations;
     }
 
     @Override
-    public String translateBinary(byte[] content, String sourceLang, String targetLang) {
+    public BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang) {
         log.info("Translating binary document content");
         
         try {
-            // Extrai texto do documento usando Apache Tika
-            String extractedText = extractTextFromDocument(content);
+            ParagraphTranslationMemory.Reuse reuse = new ParagraphTranslationMemory.Reuse();
+            BinaryTranslation result = translateContent(content, sourceLang, targetLang, reuse,
+                    translateExecutor.requestLimit());
             
-            // Traduz o texto extraído
-            return translateLargeText(extractedText, sourceLang, targetLang);
+            result.setParagraphs(reuse.getTotal());
+            result.setReusedParagraphs(reuse.getReused());
+            result.setFallbackSegments(reuse.getFailed());
+            log.info("Document translated: {} of {} paragraphs reused", reuse.getReused(), reuse.getTotal());
+            return result;
             
         } catch (Exception e) {
             log.error("Error translating binary document", e);
             throw new TranslationException("Failed to translate document", e);
         }
     }
+    
+    private BinaryTranslation translateContent(BinaryContent content, String sourceLang, String targetLang,
+                                               ParagraphTranslationMemory.Reuse reuse,
+                                               AsyncTranslateExecutor.RequestLimit limit)
+            throws IOException, TikaException, SAXException {
+        // Mesmo arquivo já extraído (possivelmente para outro idioma de destino)
+        Optional<ExtractedTextCache.ExtractedText> cached = extractedTextCache.get(content);
+        if (cached.isPresent()) {
+            log.info("Reusing cached extracted text for document {}", content.sha256());
+            return translateExtracted(cached.get(), sourceLang, targetLang, reuse, limit);
+        }
+        
+        if (pdfPageExtractor.supports(content)) {
+            try {
+                return translatePdfByPage(content, sourceLang, targetLang, reuse, limit);
+            } catch (IOException e) {
+                // Ex.: PDF protegido por senha - o Tika ainda pode extrair o texto
+                log.warn("Could not open PDF for page extraction, falling back to Tika: {}", e.getMessage());
+            }
+        }
+        
+        if (streamingEnabled) {
+            return BinaryTranslation.of(translateStreaming(content, sourceLang, targetLang, reuse, limit));
+        }
+        
+        // Extrai texto do documento usando Apache Tika
+        String extractedText = documentTextExtractor.extractText(content);
+        extractedTextCache.put(content, new ExtractedTextCache.ExtractedText(List.of(extractedText), false));
+        
+        // Traduz o texto extraído
+        return BinaryTranslation.of(translateLargeText(extractedText, sourceLang, targetLang, reuse, limit));
+    }
 
     @Override
     public boolean supports(TranslationType type) {
@@ -79,68 +136,194 @@ public class DocumentTranslationStrategy implements TranslationStrategy {
     }
     
     /**
-     * Extrai texto de documentos usando Apache Tika
+     * PDFs: faixas de páginas extraídas em paralelo, cada faixa traduzida assim que termina.
+     * O texto final mantém a ordem das páginas e registra a posição de cada uma;
+     * páginas que falham (extração ou algum segmento não traduzido) trazem o erro, sem derrubar o documento
      */
-    private String extractTextFromDocument(byte[] content) throws IOException, TikaException, SAXException {
-        BodyContentHandler handler = new BodyContentHandler(-1); // -1 = sem limite
-        AutoDetectParser parser = new AutoDetectParser();
-        Metadata metadata = new Metadata();
-        ParseContext context = new ParseContext();
+    private BinaryTranslation translatePdfByPage(BinaryContent content, String sourceLang, String targetLang,
+                                                 ParagraphTranslationMemory.Reuse reuse,
+                                                 AsyncTranslateExecutor.RequestLimit limit) throws IOException {
+        List<CompletableFuture<List<PdfPageExtractor.PageText>>> extractedRanges = pdfPageExtractor.extractRanges(content);
+        
+        // A tradução de cada faixa é disparada desta thread, no limite por requisição,
+        // enquanto as threads de extração seguem com as faixas seguintes
+        List<PdfPageExtractor.PageText> extracted = new ArrayList<>();
+        List<PdfPageExtractor.PageText> translated = new ArrayList<>();
+        for (CompletableFuture<List<PdfPageExtractor.PageText>> range : extractedRanges) {
+            List<PdfPageExtractor.PageText> pages = range.join();
+            extracted.addAll(pages);
+            translated.addAll(translateExecutor.mapBounded(pages,
+                    page -> translatePageAsync(page, sourceLang, targetLang, reuse, limit)));
+        }
         
-        parser.parse(new ByteArrayInputStream(content), handler, metadata, context);
+        // Só armazena a extração completa
+        if (extracted.stream().allMatch(page -> page.text() != null)) {
+            extractedTextCache.put(content, new ExtractedTextCache.ExtractedText(
+                    extracted.stream().map(PdfPageExtractor.PageText::text).toList(), true));
+        }
         
-        log.info("Extracted text from document. Content type: {}", metadata.get("Content-Type"));
-        return handler.toString();
+        return assemblePages(translated);
     }
     
     /**
-     * Traduz textos grandes dividindo em chunks
-     * AWS Translate tem limite de 10.000 bytes por requisição
+     * Tradução a partir do texto extraído em cache, mantendo a divisão por páginas do PDF
      */
-    private String translateLargeText(String text, String sourceLang, String targetLang) {
-        final int MAX_CHUNK_SIZE = 5000; // Caracteres por chunk
+    private BinaryTranslation translateExtracted(ExtractedTextCache.ExtractedText extracted, String sourceLang,
+                                                 String targetLang, ParagraphTranslationMemory.Reuse reuse,
+                                                 AsyncTranslateExecutor.RequestLimit limit) {
+        if (!extracted.paginated()) {
+            return BinaryTranslation.of(
+                    translateLargeText(String.join("", extracted.pages()), sourceLang, targetLang, reuse, limit));
+        }
         
-        if (text.length() <= MAX_CHUNK_SIZE) {
-            return translateChunk(text, sourceLang, targetLang);
+        List<PdfPageExtractor.PageText> pages = new ArrayList<>();
+        for (int i = 0; i < extracted.pages().size(); i++) {
+            pages.add(new PdfPageExtractor.PageText(i + 1, extracted.pages().get(i), null));
+        }
+        return assemblePages(translateExecutor.mapBounded(pages,
+                page -> translatePageAsync(page, sourceLang, targetLang, reuse, limit)));
+    }
+    
+    /**
+     * Junta as páginas traduzidas na ordem, registrando a posição de cada uma
+     */
+    private BinaryTranslation assemblePages(List<PdfPageExtractor.PageText> translatedPages) {
+        StringBuilder text = new StringBuilder();
+        List<PageTranslation> pages = new ArrayList<>();
+        for (PdfPageExtractor.PageText page : translatedPages) {
+            PageTranslation.PageTranslationBuilder result = PageTranslation.builder()
+                    .pageNumber(page.pageNumber())
+                    .offset(text.length())
+                    .failed(page.error() != null)
+                    .error(page.error());
+            if (page.text() != null) {
+                text.append(page.text());
+                result.length(page.text().length());
+            }
+            pages.add(result.build());
         }
         
-        // Divide em chunks
-        List<String> chunks = splitIntoChunks(text, MAX_CHUNK_SIZE);
-        StringBuilder result = new StringBuilder();
+        long failed = pages.stream().filter(PageTranslation::isFailed).count();
+        log.info("PDF translated by page: {} pages, {} failed", pages.size(), failed);
         
-        for (String chunk : chunks) {
-            result.append(translateChunk(chunk, sourceLang, targetLang));
+        return BinaryTranslation.builder()
+                .translatedText(text.toString())
+                .pages(pages)
+                .build();
+    }
+    
+    /**
+     * Página traduzida com contagem própria: segmentos que voltaram no idioma original marcam a página
+     * como falha (mantendo o texto parcial) e entram na contagem da requisição
+     */
+    private CompletableFuture<PdfPageExtractor.PageText> translatePageAsync(PdfPageExtractor.PageText page,
+                                                                           String sourceLang, String targetLang,
+                                                                           ParagraphTranslationMemory.Reuse reuse,
+                                                                           AsyncTranslateExecutor.RequestLimit limit) {
+        if (page.text() == null) {
+            return CompletableFuture.completedFuture(page);
         }
         
-        return result.toString();
+        ParagraphTranslationMemory.Reuse pageReuse = new ParagraphTranslationMemory.Reuse();
+        return translateChunkAsync(page.text(), sourceLang, targetLang, pageReuse, limit)
+                .thenApply(text -> {
+                    reuse.add(pageReuse);
+                    if (pageReuse.getFailed() == 0) {
+                        return new PdfPageExtractor.PageText(page.pageNumber(), text, null);
+                    }
+                    log.warn("PDF page {}: {} segments could not be translated", page.pageNumber(), pageReuse.getFailed());
+                    return new PdfPageExtractor.PageText(page.pageNumber(), text,
+                            pageReuse.getFailed() + " segments could not be translated");
+                })
+                .exceptionally(e -> {
+                    log.warn("Failed to translate PDF page {}: {}", page.pageNumber(), e.getMessage());
+                    return new PdfPageExtractor.PageText(page.pageNumber(), null, e.getMessage());
+                });
     }
     
-    private String translateChunk(String text, String sourceLang, String targetLang) {
-        try {
-            TranslateTextRequest request = TranslateTextRequest.builder()
-                    .text(text)
-                    .sourceLanguageCode(sourceLang)
-                    .targetLanguageCode(targetLang)
-                    .build();
-            
-            TranslateTextResponse response = translateClient.translateText(request);
-            return response.translatedText();
-            
-        } catch (Exception e) {
-            log.error("Error translating chunk", e);
-            return text; // Fallback
+    /**
+     * Extração e tradução em pipeline: cada chunk de parágrafos é enviado ao AWS Translate
+     * assim que o Tika o produz, com o mesmo limite de chamadas simultâneas por requisição.
+     * As traduções são anexadas ao resultado em ordem à medida que terminam, então só a janela
+     * de chunks em andamento fica retida. O texto extraído não é guardado para o cache: a
+     * extração já corre em paralelo com a tradução, e a memória de parágrafos cobre as revisões
+     */
+    private String translateStreaming(BinaryContent content, String sourceLang, String targetLang,
+                                      ParagraphTranslationMemory.Reuse reuse,
+                                      AsyncTranslateExecutor.RequestLimit limit) {
+        StringBuilder translated = new StringBuilder();
+        try (DocumentTextExtractor.ChunkStream chunks =
+                     documentTextExtractor.stream(content, chunkMaxBytes)) {
+            translateExecutor.forEachOrdered(chunks,
+                    chunk -> translateChunkAsync(chunk, sourceLang, targetLang, reuse, limit),
+                    translated::append);
         }
+        return translated.toString();
+    }
+    
+    /**
+     * Traduz um chunk extraído: parágrafos já traduzidos vêm da memória de tradução,
+     * os demais vão ao AWS Translate. Os chunks em andamento disparam vários segmentos cada,
+     * então as chamadas passam pelo limite da requisição e não só pela janela de chunks
+     */
+    private CompletableFuture<String> translateChunkAsync(String chunk, String sourceLang, String targetLang,
+                                                          ParagraphTranslationMemory.Reuse reuse,
+                                                          AsyncTranslateExecutor.RequestLimit limit) {
+        return paragraphMemory.translate(chunk, sourceLang, targetLang, reuse,
+                segment -> translateUncachedAsync(segment, sourceLang, targetLang, limit));
     }
     
-    private List<String> splitIntoChunks(String text, int chunkSize) {
-        List<String> chunks = new ArrayList<>();
-        int length = text.length();
+    /**
+     * Segmentos acima do limite de bytes são recortados em sentenças;
+     * o future falha se alguma parte falhar (o fallback fica na memória de tradução)
+     */
+    private CompletableFuture<String> translateUncachedAsync(String chunk, String sourceLang, String targetLang,
+                                                             AsyncTranslateExecutor.RequestLimit limit) {
+        List<CompletableFuture<String>> pieces = textChunker.chunk(chunk, sourceLang, chunkMaxBytes).stream()
+                .map(piece -> translatePieceAsync(piece, sourceLang, targetLang, limit))
+                .toList();
         
-        for (int i = 0; i < length; i += chunkSize) {
-            int end = Math.min(i + chunkSize, length);
-            chunks.add(text.substring(i, end));
+        return CompletableFuture.allOf(pieces.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> pieces.stream().map(CompletableFuture::join).collect(Collectors.joining()));
+    }
+    
+    private CompletableFuture<String> translatePieceAsync(String piece, String sourceLang, String targetLang,
+                                                          AsyncTranslateExecutor.RequestLimit limit) {
+        String core = textNormalizer.normalize(piece);
+        if (core.isEmpty()) {
+            return CompletableFuture.completedFuture(piece);
         }
         
-        return chunks;
+        return limit.submit(() -> translateExecutor.translateAsync(core, sourceLang, targetLang))
+                .thenApply(translated -> textNormalizer.leadingWhitespace(piece) + translated
+                        + textNormalizer.trailingWhitespace(piece));
+    }
+    
+    /**
+     * Traduz textos grandes dividindo em chunks por parágrafo/sentença até o limite de bytes
+     * AWS Translate tem limite de 10.000 bytes por requisição
+     */
+    private String translateLargeText(String text, String sourceLang, String targetLang,
+                                      ParagraphTranslationMemory.Reuse reuse,
+                                      AsyncTranslateExecutor.RequestLimit limit) {
+        List<String> chunks = textChunker.chunk(text, sourceLang, chunkMaxBytes);
+        return String.join("", translateExecutor.mapBounded(chunks,
+                chunk -> translateChunkAsync(chunk, sourceLang, targetLang, reuse, limit)));
+    }
+    
+    /**
+     * Traduz os chunks em paralelo (limitado por requisição), preservando a ordem
+     * e os espaços/quebras de linha nas bordas de cada chunk
+     */
+    private List<String> translateChunks(List<String> chunks, String sourceLang, String targetLang) {
+        List<String> cores = chunks.stream().map(textNormalizer::normalize).toList();
+        List<String> translated = translateExecutor.translateAll(cores, sourceLang, targetLang);
+        
+        List<String> result = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            String chunk = chunks.get(i);
+            result.add(textNormalizer.leadingWhitespace(chunk) + translated.get(i) + textNormalizer.trailingWhitespace(chunk));
+        }
+        return result;
     }
 }
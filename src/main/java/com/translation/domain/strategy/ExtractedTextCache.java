@@ -0,0 +1,66 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.port.CachePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache do texto extraído de documentos, chaveado pelo SHA-256 do arquivo
+ * Vale para qualquer idioma de destino: o mesmo arquivo não passa de novo pelo Tika/PDFBox
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExtractedTextCache {
+
+    private static final String KEY_FORMAT = "extracted:%s";
+
+    private final CachePort cachePort;
+    private final ObjectMapper objectMapper;
+
+    // Textos maiores não são armazenados (tamanho do valor no Redis)
+    @Value("${translation.document.cache.max-extracted-chars:2000000}")
+    private int maxChars = 2_000_000;
+
+    /**
+     * Texto extraído: uma entrada por página (paginated) ou o documento inteiro
+     */
+    public record ExtractedText(List<String> pages, boolean paginated) {
+    }
+
+    public Optional<ExtractedText> get(BinaryContent content) {
+        try {
+            String cached = cachePort.get(String.format(KEY_FORMAT, content.sha256()));
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, ExtractedText.class));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Extracted text cache lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(BinaryContent content, ExtractedText text) {
+        if (text.pages().stream().mapToLong(String::length).sum() > maxChars) {
+            return;
+        }
+
+        try {
+            cachePort.put(String.format(KEY_FORMAT, content.sha256()), objectMapper.writeValueAsString(text));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not cache extracted text: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("Could not hash document content: {}", e.getMessage());
+        }
+    }
+}
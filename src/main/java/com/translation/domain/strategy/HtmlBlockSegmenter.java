@@ -0,0 +1,211 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.text.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Segmentação de HTML por bloco: um parágrafo com negrito, links e spans vira um único segmento,
+ * com a marcação inline codificada em placeholders numerados (&lt;g1&gt;...&lt;/g1&gt;, &lt;x2/&gt;).
+ * Na volta, os placeholders são validados e os elementos originais (com seus atributos)
+ * são reposicionados em torno do texto traduzido
+ */
+@Component
+@RequiredArgsConstructor
+public class HtmlBlockSegmenter {
+
+    // Elementos de texto corrido; qualquer outro elemento dentro do bloco impede a segmentação
+    private static final Set<String> INLINE_TAGS = Set.of(
+            "a", "abbr", "b", "bdi", "bdo", "br", "cite", "code", "data", "del", "dfn", "em", "font", "i",
+            "img", "ins", "kbd", "label", "mark", "q", "s", "samp", "small", "span", "strong", "sub", "sup",
+            "time", "u", "var", "wbr");
+
+    // Mantidos sem tradução, como placeholders vazios
+    private static final Set<String> OPAQUE_TAGS = Set.of("script", "style", "noscript", "svg", "math");
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("<(/?)g(\\d+)>|<x(\\d+)/>");
+
+    private final TextNormalizer textNormalizer;
+
+    /**
+     * Bloco codificado: text é o segmento a traduzir, sem os espaços das bordas;
+     * inline guarda os nós originais na ordem dos placeholders
+     */
+    public record Block(Element element, String leading, String text, String trailing, List<Node> inline) {
+    }
+
+    /**
+     * Elemento com texto cujo conteúdo é só marcação inline (unidade de tradução)
+     */
+    public boolean isSegmentable(Element element) {
+        if (OPAQUE_TAGS.contains(element.normalName()) || !element.hasText()) {
+            return false;
+        }
+        for (Element descendant : element.getAllElements()) {
+            if (descendant != element && !INLINE_TAGS.contains(descendant.normalName())
+                    && !OPAQUE_TAGS.contains(descendant.normalName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Codifica o conteúdo do bloco; vazio se o texto já contém algo parecido com um placeholder
+     */
+    public Optional<Block> encode(Element element) {
+        StringBuilder encoded = new StringBuilder();
+        List<Node> inline = new ArrayList<>();
+        if (!encodeChildren(element, encoded, inline)) {
+            return Optional.empty();
+        }
+
+        String text = encoded.toString();
+        String core = textNormalizer.normalize(text);
+        if (core.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Block(element, textNormalizer.leadingWhitespace(text), core,
+                textNormalizer.trailingWhitespace(text), inline));
+    }
+
+    private boolean encodeChildren(Element parent, StringBuilder encoded, List<Node> inline) {
+        for (Node child : parent.childNodes()) {
+            if (child instanceof TextNode textNode) {
+                String text = textNode.getWholeText();
+                if (PLACEHOLDER.matcher(text).find()) {
+                    return false;
+                }
+                encoded.append(text);
+            } else if (child instanceof Element element
+                    && !OPAQUE_TAGS.contains(element.normalName()) && element.childNodeSize() > 0) {
+                inline.add(element);
+                int id = inline.size();
+                encoded.append("<g").append(id).append('>');
+                if (!encodeChildren(element, encoded, inline)) {
+                    return false;
+                }
+                encoded.append("</g").append(id).append('>');
+            } else {
+                // Elementos vazios (br, img), comentários e conteúdo opaco
+                inline.add(child);
+                encoded.append("<x").append(inline.size()).append("/>");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reconstrói o bloco a partir da tradução; false (DOM intacto) se os placeholders
+     * vierem faltando, repetidos ou fora de ordem de aninhamento
+     */
+    public boolean rebuild(Block block, String translated) {
+        Set<Integer> containers = containerIds(block.text());
+        List<Object> tokens = tokenize(translated, block.inline().size(), containers);
+        if (tokens == null) {
+            return false;
+        }
+
+        // Desanexa os nós inline (mantendo atributos) e descarta o texto original
+        block.inline().forEach(Node::remove);
+        for (int id : containers) {
+            ((Element) block.inline().get(id - 1)).empty();
+        }
+        block.element().empty();
+
+        Deque<Element> open = new ArrayDeque<>();
+        open.push(block.element());
+        appendText(block.element(), block.leading());
+        for (Object token : tokens) {
+            if (token instanceof String text) {
+                appendText(open.peek(), text);
+            } else if ((Integer) token < 0) {
+                open.pop();
+            } else {
+                int id = (Integer) token;
+                Node node = block.inline().get(id - 1);
+                open.peek().appendChild(node);
+                if (containers.contains(id)) {
+                    open.push((Element) node);
+                }
+            }
+        }
+        appendText(block.element(), block.trailing());
+        return true;
+    }
+
+    /**
+     * Texto e placeholders em ordem: String para texto, +id para abertura ou vazio, -id para fechamento.
+     * null se a estrutura não corresponder à original
+     */
+    private List<Object> tokenize(String translated, int placeholders, Set<Integer> containers) {
+        List<Object> tokens = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        Deque<Integer> open = new ArrayDeque<>();
+
+        Matcher matcher = PLACEHOLDER.matcher(translated);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                tokens.add(translated.substring(last, matcher.start()));
+            }
+            last = matcher.end();
+
+            boolean container = matcher.group(2) != null;
+            int id = Integer.parseInt(container ? matcher.group(2) : matcher.group(3));
+            if (id < 1 || id > placeholders || container != containers.contains(id)) {
+                return null;
+            }
+
+            if (container && "/".equals(matcher.group(1))) {
+                if (open.isEmpty() || open.pop() != id) {
+                    return null;
+                }
+                tokens.add(-id);
+            } else {
+                if (!seen.add(id)) {
+                    return null;
+                }
+                if (container) {
+                    open.push(id);
+                }
+                tokens.add(id);
+            }
+        }
+        if (last < translated.length()) {
+            tokens.add(translated.substring(last));
+        }
+
+        return open.isEmpty() && seen.size() == placeholders ? tokens : null;
+    }
+
+    private Set<Integer> containerIds(String encoded) {
+        Set<Integer> ids = new HashSet<>();
+        Matcher matcher = PLACEHOLDER.matcher(encoded);
+        while (matcher.find()) {
+            if (matcher.group(2) != null) {
+                ids.add(Integer.parseInt(matcher.group(2)));
+            }
+        }
+        return ids;
+    }
+
+    private void appendText(Element element, String text) {
+        if (!text.isEmpty()) {
+            element.appendChild(new TextNode(text));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.parser.Parser;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Cache de subárvores HTML repetidas entre páginas (header, nav, footer, banners de cookies)
+ * A chave é o hash da estrutura (tags e atributos) e do texto da subárvore; o valor é a
+ * subárvore já traduzida e serializada, que substitui a original sem passar pela tradução
+ */
+@Slf4j
+@Component
+public class HtmlSubtreeCache {
+
+    // subtree:origem:destino:hash
+    private static final String KEY_FORMAT = "subtree:%s:%s:%s";
+
+    private final CachePort cachePort;
+    private final TextNormalizer textNormalizer;
+    private final boolean enabled;
+    private final String selectors;
+    private final int minTextChars;
+
+    public HtmlSubtreeCache(
+            CachePort cachePort,
+            TextNormalizer textNormalizer,
+            @Value("${translation.html.subtree-cache.enabled:true}") boolean enabled,
+            @Value("${translation.html.subtree-cache.selectors:header, nav, footer, aside, [role=banner], [role=navigation], [role=contentinfo], [id*=cookie], [class*=cookie]}") String selectors,
+            @Value("${translation.html.subtree-cache.min-text-chars:80}") int minTextChars) {
+        this.cachePort = cachePort;
+        this.textNormalizer = textNormalizer;
+        this.enabled = enabled;
+        this.selectors = selectors;
+        this.minTextChars = minTextChars;
+    }
+
+    /**
+     * Subárvore candidata e sua chave no cache
+     */
+    public record Subtree(Element element, String key) {
+    }
+
+    /**
+     * Candidatas do documento acima do limite de texto; subárvores aninhadas em outra candidata ficam de fora
+     */
+    public List<Subtree> candidates(Document doc, String sourceLang, String targetLang) {
+        List<Subtree> candidates = new ArrayList<>();
+        if (!enabled || doc.body() == null) {
+            return candidates;
+        }
+
+        List<Element> outermost = new ArrayList<>();
+        for (Element element : doc.body().select(selectors)) {
+            Elements parents = element.parents();
+            if (outermost.stream().noneMatch(parents::contains) && element.text().length() >= minTextChars) {
+                outermost.add(element);
+            }
+        }
+        for (Element element : outermost) {
+            candidates.add(new Subtree(element, String.format(KEY_FORMAT, sourceLang, targetLang, hash(element))));
+        }
+        return candidates;
+    }
+
+    /**
+     * Substitui a subárvore pela versão traduzida em cache; retorna o novo elemento
+     */
+    public Optional<Element> swapIn(Subtree subtree) {
+        String cached = lookup(subtree.key());
+        if (cached == null || subtree.element().parent() == null) {
+            return Optional.empty();
+        }
+
+        Element original = subtree.element();
+        Optional<Element> replacement = Parser.parseFragment(cached, original.parent(), original.baseUri()).stream()
+                .filter(Element.class::isInstance)
+                .map(Element.class::cast)
+                .findFirst();
+        replacement.ifPresent(original::replaceWith);
+        return replacement;
+    }
+
+    /**
+     * Armazena a subárvore já traduzida (se a tradução mudou algo); o chamador só a entrega
+     * quando todas as unidades dentro dela foram traduzidas, sem fallback para o original
+     */
+    public void put(Subtree subtree, String originalHtml) {
+        String translated = subtree.element().outerHtml();
+        if (translated.equals(originalHtml)) {
+            return;
+        }
+        try {
+            cachePort.put(subtree.key(), translated);
+        } catch (RuntimeException e) {
+            log.warn("Could not cache HTML subtree: {}", e.getMessage());
+        }
+    }
+
+    private String lookup(String key) {
+        try {
+            return cachePort.get(key);
+        } catch (RuntimeException e) {
+            log.warn("HTML subtree cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * SHA-256 de tags, atributos (em ordem) e texto canônico da subárvore
+     */
+    private String hash(Element element) {
+        MessageDigest digest = BinaryContent.newSha256();
+        update(digest, element);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void update(MessageDigest digest, Node node) {
+        if (node instanceof TextNode textNode) {
+            // Espaços de indentação não mudam a subárvore
+            String text = textNormalizer.canonicalize(textNode.getWholeText());
+            if (!text.isEmpty()) {
+                digest.update(text.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+        } else if (node instanceof Element element) {
+            TreeMap<String, String> attributes = new TreeMap<>();
+            for (Attribute attribute : element.attributes()) {
+                attributes.put(attribute.getKey(), attribute.getValue());
+            }
+            digest.update(('<' + element.normalName() + attributes + '>').getBytes(StandardCharsets.UTF_8));
+            for (Node child : element.childNodes()) {
+                update(digest, child);
+            }
+            digest.update((byte) 1);
+        }
+    }
+}
@@ -1,55 +1,114 @@
 package com.translation.domain.strategy;
 
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
 import com.translation.domain.model.TranslationType;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.CacheKeyGenerator;
+import com.translation.domain.text.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.services.translate.TranslateClient;
-import software.amazon.awssdk.services.translate.model.TranslateTextRequest;
-import software.amazon.awssdk.services.translate.model.TranslateTextResponse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Strategy para tradução de HTML usando Jsoup + AWS Translate
- * Preserva a estrutura HTML, traduzindo apenas o conteúdo textual
+ * Preserva a estrutura HTML, traduzindo apenas o conteúdo textual.
+ * Tradução em duas passadas: coleta as unidades traduzíveis de todos os documentos da requisição
+ * (sem repetições), resolve pelo cache e envia as restantes em lotes empacotados; depois aplica no DOM.
+ * Cada bloco (parágrafo, item, célula) é uma unidade, com a marcação inline em placeholders;
+ * blocos acima do limite de bytes por chamada ou cuja tradução perde os placeholders são traduzidos nó a nó.
+ * Subárvores repetidas entre páginas (header, nav, footer) vêm inteiras do HtmlSubtreeCache.
+ * Páginas grandes não montam o DOM: vão pelo StreamingHtmlRewriter
+ * Pares de idiomas configurados em translation.llm são traduzidos pelo BedrockBatchTranslator
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class HtmlTranslationStrategy implements TranslationStrategy {
 
-    private final TranslateClient translateClient;
+    private final PackedTextTranslator packedTextTranslator;
+    private final BedrockBatchTranslator batchTranslator;
+    private final CachePort cachePort;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final TextNormalizer textNormalizer;
+    private final HtmlBlockSegmenter blockSegmenter;
+    private final HtmlSubtreeCache subtreeCache;
+    private final StreamingHtmlRewriter streamingHtmlRewriter;
+
+    @Value("${translation.html.block-segmentation:true}")
+    private boolean blockSegmentation = true;
+    
+    // Blocos acima do limite de uma chamada seriam rejeitados pelo AWS Translate: vão nó a nó
+    @Value("${translation.packing.max-bytes:9000}")
+    private int maxBlockBytes = 9000;
+
+    // Páginas acima do limite são traduzidas pelo StreamingHtmlRewriter, em janelas limitadas, sem DOM
+    @Value("${translation.html.streaming.threshold-bytes:2097152}")
+    private long streamingThresholdBytes = 2_097_152;
 
     @Override
     public List<String> translate(List<String> htmlTexts, String sourceLang, String targetLang) {
         log.info("Translating {} HTML texts using HtmlTranslationStrategy", htmlTexts.size());
         
-        List<String> translations = new ArrayList<>();
-        
+        // Passada 1: unidades de todos os documentos, compartilhadas entre eles
+        TranslationUnits units = new TranslationUnits();
+        List<Document> documents = new ArrayList<>();
         for (String html : htmlTexts) {
-            try {
-                String translatedHtml = translateHtml(html, sourceLang, targetLang);
-                translations.add(translatedHtml);
-            } catch (Exception e) {
-                log.error("Error translating HTML", e);
-                translations.add(html); // Fallback
-            }
+            Document doc = Jsoup.parse(html);
+            collectUnits(doc, units, sourceLang, targetLang);
+            documents.add(doc);
+        }
+        
+        // Passada 2: traduz e escreve de volta nos nós
+        try {
+            translateAndApply(units, sourceLang, targetLang);
+        } catch (Exception e) {
+            log.error("Error translating HTML", e);
+            return new ArrayList<>(htmlTexts); // Fallback
         }
         
-        return translations;
+        return documents.stream().map(Document::html).toList();
     }
 
     @Override
-    public String translateBinary(byte[] content, String sourceLang, String targetLang) {
-        String html = new String(content);
-        return translateHtml(html, sourceLang, targetLang);
+    public BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang) {
+        try {
+            // O DOM de uma página grande ocupa várias vezes o seu tamanho; só o texto traduzido fica em memória
+            if (content.size() >= streamingThresholdBytes) {
+                log.info("HTML page of {} bytes translated by the streaming rewriter", content.size());
+                return BinaryTranslation.of(streamingHtmlRewriter.rewrite(content, sourceLang, targetLang));
+            }
+            
+            // Jsoup lê o stream direto, detectando o charset pelo BOM/meta
+            try (InputStream in = content.openStream()) {
+                return BinaryTranslation.of(translateHtml(Jsoup.parse(in, null, ""), sourceLang, targetLang));
+            }
+        } catch (IOException e) {
+            throw new TranslationException("Failed to read HTML content", e);
+        }
     }
 
     @Override
@@ -62,99 +121,296 @@ public class HtmlTranslationStrategy implements TranslationStrategy {
         return TranslationType.HTML;
     }
     
+    private String translateHtml(Document doc, String sourceLang, String targetLang) {
+        TranslationUnits units = new TranslationUnits();
+        collectUnits(doc, units, sourceLang, targetLang);
+        translateAndApply(units, sourceLang, targetLang);
+        return doc.html();
+    }
+    
     /**
-     * Traduz HTML preservando a estrutura
+     * Traduz as unidades e, para os blocos que não puderam ser reconstruídos, traduz nó a nó
      */
-    private String translateHtml(String html, String sourceLang, String targetLang) {
-        Document doc = Jsoup.parse(html);
+    private void translateAndApply(TranslationUnits units, String sourceLang, String targetLang) {
+        translateUnits(units, sourceLang, targetLang);
         
-        // Traduz title
-        if (doc.title() != null && !doc.title().isEmpty()) {
-            String translatedTitle = translateText(doc.title(), sourceLang, targetLang);
-            doc.title(translatedTitle);
+        if (!units.fallbackBlocks.isEmpty()) {
+            log.warn("Inline placeholders lost in {} HTML blocks, translating their text nodes", units.fallbackBlocks.size());
+            TranslationUnits nodes = new TranslationUnits();
+            units.fallbackBlocks.forEach(block -> collectTextNodes(block, nodes));
+            translateUnits(nodes, sourceLang, targetLang);
+            units.untranslated.addAll(nodes.untranslated);
         }
         
-        // Traduz meta descriptions
-        Elements metaDescriptions = doc.select("meta[name=description]");
-        for (Element meta : metaDescriptions) {
-            String content = meta.attr("content");
-            if (content != null && !content.isEmpty()) {
-                String translatedContent = translateText(content, sourceLang, targetLang);
-                meta.attr("content", translatedContent);
+        // Subárvores traduzidas agora ficam disponíveis para as próximas páginas,
+        // desde que nenhuma unidade dentro delas tenha ficado no idioma original
+        units.pendingSubtrees.forEach((subtree, originalHtml) -> {
+            if (units.isFullyTranslated(subtree.element())) {
+                subtreeCache.put(subtree, originalHtml);
+            } else {
+                log.info("Not caching HTML subtree <{}>: some texts were left untranslated", subtree.element().normalName());
             }
+        });
+    }
+    
+    /**
+     * Coleta title, meta description, texto visível, alt e placeholders
+     */
+    private void collectUnits(Document doc, TranslationUnits units, String sourceLang, String targetLang) {
+        // Subárvores repetidas já traduzidas: substituídas inteiras, sem coletar seus textos
+        for (HtmlSubtreeCache.Subtree subtree : subtreeCache.candidates(doc, sourceLang, targetLang)) {
+            String originalHtml = subtree.element().outerHtml();
+            subtreeCache.swapIn(subtree).ifPresentOrElse(
+                    units.cachedSubtrees::add,
+                    () -> units.pendingSubtrees.put(subtree, originalHtml));
         }
         
-        // Traduz todo texto visível, preservando HTML
-        translateTextNodes(doc.body(), sourceLang, targetLang);
+        // Title
+        if (doc.title() != null && !doc.title().isEmpty()) {
+            units.add(doc.title(), doc.head(), doc::title);
+        }
         
-        // Traduz atributos alt de imagens
-        Elements images = doc.select("img[alt]");
-        for (Element img : images) {
-            String alt = img.attr("alt");
-            if (alt != null && !alt.isEmpty()) {
-                String translatedAlt = translateText(alt, sourceLang, targetLang);
-                img.attr("alt", translatedAlt);
+        // Meta descriptions
+        collectAttributes(doc.select("meta[name=description]"), "content", units);
+        
+        // Todo texto visível, preservando HTML
+        if (blockSegmentation) {
+            collectBlocks(doc.body(), units);
+        } else {
+            collectTextNodes(doc.body(), units);
+        }
+        
+        // Atributos alt de imagens
+        collectAttributes(doc.select("img[alt]"), "alt", units);
+        
+        // Placeholders de inputs
+        collectAttributes(doc.select("input[placeholder], textarea[placeholder]"), "placeholder", units);
+    }
+    
+    /**
+     * Cada unidade distinta é consultada no cache (mesmas chaves do pipeline de texto);
+     * as que faltam são traduzidas em lotes empacotados e salvas
+     */
+    private void translateUnits(TranslationUnits units, String sourceLang, String targetLang) {
+        List<TranslationUnit> pending = new ArrayList<>();
+        List<String> pendingKeys = new ArrayList<>();
+        
+        for (TranslationUnit unit : units.distinct()) {
+            String key = cacheKeyGenerator.generate(unit.text, sourceLang, targetLang);
+            String cached = lookup(key);
+            if (cached != null) {
+                unit.apply(cached);
+            } else {
+                pending.add(unit);
+                pendingKeys.add(key);
             }
         }
         
-        // Traduz placeholders de inputs
-        Elements inputs = doc.select("input[placeholder], textarea[placeholder]");
-        for (Element input : inputs) {
-            String placeholder = input.attr("placeholder");
-            if (placeholder != null && !placeholder.isEmpty()) {
-                String translatedPlaceholder = translateText(placeholder, sourceLang, targetLang);
-                input.attr("placeholder", translatedPlaceholder);
+        // Pares configurados para o LLM: lotes em array JSON no Bedrock (placeholders incluídos)
+        List<String> texts = pending.stream().map(unit -> unit.text).toList();
+        BitSet fallbacks = new BitSet();
+        List<String> translations = batchTranslator.handles(sourceLang, targetLang)
+                ? batchTranslator.translate(texts, sourceLang, targetLang, fallbacks)
+                : packedTextTranslator.translate(texts, sourceLang, targetLang, fallbacks);
+        for (int i = 0; i < pending.size(); i++) {
+            TranslationUnit unit = pending.get(i);
+            String translated = translations.get(i);
+            if (fallbacks.get(i)) {
+                unit.apply(translated);
+                units.untranslated.addAll(unit.anchors);
+                continue;
+            }
+            // Igual ao original: texto sem tradução; placeholders perdidos: não reaproveitável
+            if (unit.apply(translated) && !translated.equals(unit.text)) {
+                store(pendingKeys.get(i), translated);
             }
         }
         
-        log.info("HTML translation completed");
-        return doc.html();
+        log.info("HTML translation completed ({} texts, {} distinct, {} from cache)",
+                units.occurrences(), units.distinct().size(), units.distinct().size() - pending.size());
+    }
+    
+    private void collectAttributes(Elements elements, String attribute, TranslationUnits units) {
+        for (Element element : elements) {
+            if (units.isInsideCachedSubtree(element)) {
+                continue;
+            }
+            String value = element.attr(attribute);
+            if (value != null && !value.isEmpty()) {
+                units.add(value, element, translated -> element.attr(attribute, translated));
+            }
+        }
     }
     
     /**
-     * Traduz recursivamente todos os text nodes
+     * Coleta recursivamente os blocos; em elementos que misturam blocos e texto solto,
+     * o texto solto é traduzido por nó
      */
-    private void translateTextNodes(Element element, String sourceLang, String targetLang) {
-        if (element == null) return;
+    private void collectBlocks(Element element, TranslationUnits units) {
+        if (element == null || isSkipped(element) || units.cachedSubtrees.contains(element)) return;
         
-        // Não traduz scripts, styles, etc
-        if (element.tagName().equalsIgnoreCase("script") || 
-            element.tagName().equalsIgnoreCase("style")) {
+        if (blockSegmenter.isSegmentable(element)) {
+            Optional<HtmlBlockSegmenter.Block> block = blockSegmenter.encode(element)
+                    .filter(encoded -> encoded.text().getBytes(StandardCharsets.UTF_8).length <= maxBlockBytes);
+            if (block.isPresent()) {
+                units.addBlock(block.get());
+            } else {
+                collectTextNodes(element, units);
+            }
             return;
         }
         
-        // Traduz text nodes diretos
         for (TextNode textNode : element.textNodes()) {
-            String text = textNode.text().trim();
-            if (!text.isEmpty()) {
-                String translated = translateText(text, sourceLang, targetLang);
-                textNode.text(translated);
-            }
+            addTextNode(textNode, units);
+        }
+        for (Element child : element.children()) {
+            collectBlocks(child, units);
+        }
+    }
+    
+    /**
+     * Coleta recursivamente todos os text nodes
+     */
+    private void collectTextNodes(Element element, TranslationUnits units) {
+        if (element == null || isSkipped(element) || units.cachedSubtrees.contains(element)) return;
+        
+        // Text nodes diretos
+        for (TextNode textNode : element.textNodes()) {
+            addTextNode(textNode, units);
         }
         
         // Recursivamente processa filhos
         for (Element child : element.children()) {
-            translateTextNodes(child, sourceLang, targetLang);
+            collectTextNodes(child, units);
+        }
+    }
+    
+    private void addTextNode(TextNode textNode, TranslationUnits units) {
+        String original = textNode.getWholeText();
+        String text = original.trim();
+        if (!text.isEmpty()) {
+            // Mantém os espaços ao redor do texto (separação de tags inline)
+            String leading = original.substring(0, original.indexOf(text));
+            String trailing = original.substring(original.indexOf(text) + text.length());
+            units.add(text, textNode, translated -> textNode.text(leading + translated + trailing));
         }
     }
     
     /**
-     * Traduz um único texto usando AWS Translate
+     * Não traduz scripts, styles, etc
      */
-    private String translateText(String text, String sourceLang, String targetLang) {
+    private boolean isSkipped(Element element) {
+        return element.tagName().equalsIgnoreCase("script") || 
+               element.tagName().equalsIgnoreCase("style");
+    }
+    
+    private String lookup(String key) {
         try {
-            TranslateTextRequest request = TranslateTextRequest.builder()
-                    .text(text)
-                    .sourceLanguageCode(sourceLang)
-                    .targetLanguageCode(targetLang)
-                    .build();
-            
-            TranslateTextResponse response = translateClient.translateText(request);
-            return response.translatedText();
-            
-        } catch (Exception e) {
-            log.error("Error translating text: {}", text, e);
-            return text; // Fallback
+            return cachePort.get(key);
+        } catch (RuntimeException e) {
+            log.warn("HTML cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    private void store(String key, String translated) {
+        try {
+            cachePort.put(key, translated);
+        } catch (RuntimeException e) {
+            log.warn("Could not cache HTML translation: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Texto traduzível e todos os pontos do DOM onde ele aparece (anchors: o nó de cada ocorrência)
+     */
+    private static final class TranslationUnit {
+        private final String text;
+        private final List<Predicate<String>> setters = new ArrayList<>();
+        private final List<Node> anchors = new ArrayList<>();
+        
+        private TranslationUnit(String text) {
+            this.text = text;
+        }
+        
+        /**
+         * Aplica em todas as ocorrências; false se alguma não pôde receber a tradução
+         */
+        private boolean apply(String translated) {
+            boolean applied = true;
+            for (Predicate<String> setter : setters) {
+                applied &= setter.test(translated);
+            }
+            return applied;
+        }
+    }
+    
+    /**
+     * Unidades agrupadas pela forma canônica, na ordem em que aparecem
+     */
+    private final class TranslationUnits {
+        private final Map<String, TranslationUnit> units = new LinkedHashMap<>();
+        private final List<Element> fallbackBlocks = new ArrayList<>();
+        private final Set<Element> cachedSubtrees = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<HtmlSubtreeCache.Subtree, String> pendingSubtrees = new LinkedHashMap<>();
+        // Nós cujo texto ficou no idioma original por erro na tradução
+        private final List<Node> untranslated = new ArrayList<>();
+        private int occurrences;
+        
+        private void add(String text, Node anchor, Consumer<String> setter) {
+            addUnit(text, anchor, translated -> {
+                setter.accept(translated);
+                return true;
+            });
+        }
+        
+        private void addBlock(HtmlBlockSegmenter.Block block) {
+            addUnit(block.text(), block.element(), translated -> {
+                if (blockSegmenter.rebuild(block, translated)) {
+                    return true;
+                }
+                fallbackBlocks.add(block.element());
+                return false;
+            });
+        }
+        
+        private void addUnit(String text, Node anchor, Predicate<String> setter) {
+            TranslationUnit unit = units.computeIfAbsent(textNormalizer.canonicalize(text),
+                    canonical -> new TranslationUnit(text));
+            unit.setters.add(setter);
+            unit.anchors.add(anchor);
+            occurrences++;
+        }
+        
+        private List<TranslationUnit> distinct() {
+            return new ArrayList<>(units.values());
+        }
+        
+        private int occurrences() {
+            return occurrences;
+        }
+        
+        private boolean isFullyTranslated(Element subtree) {
+            for (Node node : untranslated) {
+                for (Node current = node; current != null; current = current.parent()) {
+                    if (current == subtree) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        
+        private boolean isInsideCachedSubtree(Element element) {
+            if (cachedSubtrees.isEmpty()) {
+                return false;
+            }
+            for (Element current = element; current != null; current = current.parent()) {
+                if (cachedSubtrees.contains(current)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 }
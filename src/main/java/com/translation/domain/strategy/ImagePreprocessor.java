@@ -0,0 +1,293 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.exception.InvalidInputException;
+import com.translation.domain.model.BinaryContent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Preparo local de imagens antes do envio ao Bedrock
+ * Detecta o formato real pelos bytes iniciais, reduz a imagem até o lado máximo configurado
+ * (em etapas, para manter o texto legível), opcionalmente converte para tons de cinza
+ * e recodifica no formato configurado. Se o resultado não for menor, envia o original
+ * As dimensões são lidas do cabeçalho antes de decodificar: imagens acima de max-pixels são recusadas.
+ * Formatos que o Bedrock não aceita (BMP, TIFF) são sempre recodificados, mesmo com o preparo desligado
+ */
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    // Media types aceitos pela API de mensagens do Bedrock
+    private static final Set<String> ACCEPTED_MEDIA_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxEdge;
+    private final boolean grayscale;
+    private final String outputFormat;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImagePreprocessor(
+            MeterRegistry meterRegistry,
+            @Value("${translation.image.preprocessing.enabled:true}") boolean enabled,
+            @Value("${translation.image.preprocessing.max-edge:1568}") int maxEdge,
+            @Value("${translation.image.preprocessing.grayscale:false}") boolean grayscale,
+            @Value("${translation.image.preprocessing.output-format:jpeg}") String outputFormat,
+            @Value("${translation.image.preprocessing.jpeg-quality:0.85}") float jpegQuality,
+            @Value("${translation.image.preprocessing.max-pixels:40000000}") long maxPixels) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxEdge = maxEdge;
+        this.grayscale = grayscale;
+        this.outputFormat = outputFormat.toLowerCase(Locale.ROOT);
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        // Formato sem encoder no ImageIO (ex.: webp) falharia só na primeira imagem
+        if (!ImageIO.getImageWritersByFormatName(this.outputFormat).hasNext()) {
+            throw new IllegalStateException("No ImageIO writer for image output format: " + outputFormat);
+        }
+    }
+
+    /**
+     * Imagem pronta para o modelo, com o media type correspondente aos bytes; pixels é a imagem
+     * decodificada como foi enviada (para o hash perceptual, sem decodificar de novo), ou null
+     * se ela seguiu sem ser decodificada
+     */
+    public record PreparedImage(byte[] data, String mediaType, BufferedImage pixels) {
+    }
+
+    public PreparedImage prepare(BinaryContent content) throws IOException {
+        byte[] original = content.readAllBytes();
+        String originalType = detectMediaType(original);
+        if (!enabled && ACCEPTED_MEDIA_TYPES.contains(originalType)) {
+            return new PreparedImage(original, originalType, null);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        PreparedImage prepared = transform(original, originalType);
+        sample.stop(meterRegistry.timer("translation.image.preprocess"));
+
+        DistributionSummary.builder("translation.image.preprocess.bytes").tag("stage", "original")
+                .baseUnit("bytes").register(meterRegistry).record(original.length);
+        DistributionSummary.builder("translation.image.preprocess.bytes").tag("stage", "sent")
+                .baseUnit("bytes").register(meterRegistry).record(prepared.data().length);
+        meterRegistry.counter("translation.image.preprocess.bytes.saved")
+                .increment(Math.max(0, original.length - prepared.data().length));
+
+        log.debug("Image prepared: {} {} bytes -> {} {} bytes",
+                originalType, original.length, prepared.mediaType(), prepared.data().length);
+        return prepared;
+    }
+
+    /**
+     * Imagem inteira decodificada (ex.: para recorte em faixas), com o mesmo limite de max-pixels;
+     * null se o formato não tiver leitor no ImageIO
+     */
+    public BufferedImage decode(BinaryContent content) throws IOException {
+        try (InputStream in = content.openStream()) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Prepara uma imagem já decodificada (ex.: uma faixa de um scan): reduzida se preciso e recodificada
+     */
+    public PreparedImage prepare(BufferedImage image) throws IOException {
+        boolean resized = Math.max(image.getWidth(), image.getHeight()) > maxEdge;
+        BufferedImage target = convert(resized ? downscale(image) : image);
+        return new PreparedImage(encode(target, outputFormat), "image/" + outputFormat, target);
+    }
+
+    private PreparedImage transform(byte[] original, String originalType) throws IOException {
+        boolean accepted = ACCEPTED_MEDIA_TYPES.contains(originalType);
+        BufferedImage image;
+        try (InputStream in = new ByteArrayInputStream(original)) {
+            image = read(in);
+        } catch (IIOException e) {
+            if (!accepted) {
+                throw new InvalidInputException("Could not decode " + originalType + " image: " + e.getMessage());
+            }
+            // Variante que o leitor do ImageIO não decodifica (ex.: JPEG em CMYK): segue como veio
+            log.warn("Could not decode {} image, sending it unchanged: {}", originalType, e.getMessage());
+            return new PreparedImage(original, originalType, null);
+        }
+        if (image == null) {
+            if (!accepted) {
+                throw new InvalidInputException("Unsupported image format: " + originalType);
+            }
+            // Formato sem leitor no ImageIO (ex.: WebP): segue como veio
+            return new PreparedImage(original, originalType, null);
+        }
+
+        boolean resized = Math.max(image.getWidth(), image.getHeight()) > maxEdge;
+        BufferedImage target = resized ? downscale(image) : image;
+        target = convert(target);
+
+        byte[] encoded = encode(target, outputFormat);
+        if (encoded.length < original.length) {
+            return new PreparedImage(encoded, "image/" + outputFormat, target);
+        }
+        if (!resized && accepted) {
+            return new PreparedImage(original, originalType, target);
+        }
+        // Capturas de tela com texto sobre fundo liso comprimem melhor sem perdas
+        byte[] lossless = encode(target, "png");
+        return lossless.length < encoded.length
+                ? new PreparedImage(lossless, "image/png", target)
+                : new PreparedImage(encoded, "image/" + outputFormat, target);
+    }
+
+    /**
+     * Decodifica com o leitor do formato depois de conferir largura x altura no cabeçalho;
+     * null se o formato não tiver leitor no ImageIO
+     */
+    private BufferedImage read(InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new InvalidInputException(String.format("Image of %dx%d pixels is above the %d pixel limit",
+                            reader.getWidth(0), reader.getHeight(0), maxPixels));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Redução em etapas de no máximo 50% com interpolação bilinear - evita o serrilhado
+     * de uma redução direta, que prejudica a leitura de textos pequenos
+     */
+    private BufferedImage downscale(BufferedImage image) {
+        double scale = (double) maxEdge / Math.max(image.getWidth(), image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, BufferedImage.TYPE_INT_ARGB);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * Tipo de pixel aceito pelo encoder: sem canal alfa (fundo branco) ou tons de cinza
+     */
+    private BufferedImage convert(BufferedImage image) {
+        int type = grayscale ? BufferedImage.TYPE_BYTE_GRAY
+                : "png".equals(outputFormat) ? image.getType() : BufferedImage.TYPE_INT_RGB;
+        if (image.getType() == type || type == BufferedImage.TYPE_CUSTOM) {
+            return image;
+        }
+        return draw(image, image.getWidth(), image.getHeight(), type);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (type != BufferedImage.TYPE_INT_ARGB) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Formato pelos bytes iniciais; application/octet-stream quando desconhecido
+     */
+    static String detectMediaType(byte[] data) {
+        if (startsWith(data, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(data, 0x89, 'P', 'N', 'G')) {
+            return "image/png";
+        }
+        if (startsWith(data, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (startsWith(data, 'R', 'I', 'F', 'F') && data.length >= 12
+                && data[8] == 'W' && data[9] == 'E' && data[10] == 'B' && data[11] == 'P') {
+            return "image/webp";
+        }
+        if (startsWith(data, 'B', 'M')) {
+            return "image/bmp";
+        }
+        if (startsWith(data, 'I', 'I', 0x2A, 0x00) || startsWith(data, 'M', 'M', 0x00, 0x2A)) {
+            return "image/tiff";
+        }
+        return "application/octet-stream";
+    }
+
+    private static boolean startsWith(byte[] data, int... prefix) {
+        if (data.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((data[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,357 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recorte de scans grandes em faixas horizontais sobrepostas, traduzidas em paralelo
+ * Cada faixa tem sua própria chamada (e seu próprio max_tokens), o que evita a saída truncada
+ * de páginas densas; na volta, os textos são unidos de cima para baixo e as linhas repetidas
+ * na sobreposição entre faixas vizinhas são descartadas
+ * Páginas mais largas que max-edge são antes divididas em colunas nas calhas (faixas verticais
+ * sem tinta), para que nenhuma faixa precise ser reduzida antes do envio; sem calha, a coluna
+ * fica larga e é reduzida pelo ImagePreprocessor
+ * Linhas só são consideradas repetidas quando iguais (sem pontuação e caixa); a exceção é a linha
+ * cortada pela borda de uma faixa, que pode aparecer pela metade
+ */
+@Component
+public class ImageTiler {
+
+    // Linhas comparadas na junção de duas faixas (a sobreposição cobre poucas linhas de texto)
+    private static final int MAX_OVERLAP_LINES = 6;
+    // Tamanho mínimo do trecho de uma linha cortada pela borda para casar com a linha inteira
+    private static final int MIN_EDGE_FRAGMENT = 8;
+    // Luminância abaixo da qual o pixel conta como tinta (texto escuro sobre papel claro)
+    private static final int INK_LUMINANCE = 128;
+    // Largura mínima de uma calha entre colunas de texto
+    private static final int MIN_GUTTER = 12;
+    // Fração de pixels com tinta tolerada numa calha (poeira e ruído do scanner)
+    private static final double GUTTER_NOISE = 0.002;
+
+    private final boolean enabled;
+    private final int minHeight;
+    private final int tileHeight;
+    private final int overlap;
+    private final int maxTiles;
+    private final int maxInFlight;
+    private final int maxEdge;
+
+    public ImageTiler(
+            @Value("${translation.image.tiling.enabled:true}") boolean enabled,
+            @Value("${translation.image.tiling.min-height:3000}") int minHeight,
+            @Value("${translation.image.tiling.tile-height:1400}") int tileHeight,
+            @Value("${translation.image.tiling.overlap:160}") int overlap,
+            @Value("${translation.image.tiling.max-tiles:8}") int maxTiles,
+            @Value("${translation.image.tiling.max-in-flight:4}") int maxInFlight,
+            @Value("${translation.image.preprocessing.max-edge:1568}") int maxEdge) {
+        this.enabled = enabled;
+        this.minHeight = minHeight;
+        this.tileHeight = tileHeight;
+        this.overlap = overlap;
+        this.maxTiles = maxTiles;
+        this.maxInFlight = maxInFlight;
+        this.maxEdge = maxEdge;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Imagem alta (ou larga) o bastante para o recorte; lê só o cabeçalho, sem decodificar os pixels
+     */
+    public boolean shouldTile(BinaryContent content) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+        try (InputStream in = content.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) {
+                return false;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                return Math.max(reader.getWidth(0), reader.getHeight(0)) >= minHeight;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Faixas em ordem de leitura: coluna por coluna, da esquerda para a direita, e dentro de cada
+     * coluna de cima para baixo, sobrepostas em overlap pixels e nunca mais altas que tile-height
+     * Acima de max-tiles a página inteira é reduzida uma vez, na escala necessária para caber
+     */
+    public List<BufferedImage> split(BufferedImage image) {
+        List<BufferedImage> columns = columns(image);
+        int tiles = columns.stream().mapToInt(column -> strips(column.getHeight())).sum();
+        if (tiles > maxTiles && image.getHeight() > tileHeight) {
+            int rows = Math.max(1, maxTiles / columns.size());
+            double scale = (double) (rows * (tileHeight - overlap) + overlap) / image.getHeight();
+            image = scale(image, scale);
+            columns = columns(image);
+        }
+
+        List<BufferedImage> strips = new ArrayList<>();
+        for (BufferedImage column : columns) {
+            strips.addAll(rows(column));
+        }
+        return strips;
+    }
+
+    /**
+     * Divide uma faixa cuja tradução foi cortada em max_tokens em duas metades sobrepostas;
+     * vazio quando a faixa é baixa demais para dividir
+     */
+    public List<BufferedImage> halve(BufferedImage strip) {
+        int height = strip.getHeight();
+        if (height < 3 * overlap) {
+            return List.of();
+        }
+        int half = (height + overlap) / 2;
+        return List.of(strip.getSubimage(0, 0, strip.getWidth(), half),
+                strip.getSubimage(0, height - half, strip.getWidth(), half));
+    }
+
+    private int strips(int height) {
+        return Math.max(1, (int) Math.ceil((double) (height - overlap) / (tileHeight - overlap)));
+    }
+
+    private List<BufferedImage> rows(BufferedImage column) {
+        int height = column.getHeight();
+        int tiles = strips(height);
+        int step = (int) Math.ceil((double) (height - overlap) / tiles);
+
+        List<BufferedImage> strips = new ArrayList<>(tiles);
+        for (int i = 0; i < tiles; i++) {
+            int y = i * step;
+            strips.add(column.getSubimage(0, y, column.getWidth(), Math.min(step + overlap, height - y)));
+        }
+        return strips;
+    }
+
+    /**
+     * Colunas de no máximo max-edge de largura, cortadas no meio da calha mais larga de cada trecho
+     * e aparadas nas margens sem tinta; colunas em branco são descartadas
+     */
+    private List<BufferedImage> columns(BufferedImage image) {
+        if (image.getWidth() <= maxEdge) {
+            return List.of(image);
+        }
+        int[] ink = inkPerColumn(image);
+        int noise = (int) (GUTTER_NOISE * image.getHeight() / 2);
+        int[] page = inked(ink, noise, 0, ink.length);
+        if (page == null) {
+            return List.of(image);
+        }
+
+        List<BufferedImage> columns = new ArrayList<>();
+        int left = page[0];
+        while (left < page[1]) {
+            int right = page[1] - left > maxEdge ? gutter(ink, noise, left + maxEdge / 4, left + maxEdge) : -1;
+            if (right < 0) {
+                right = page[1];
+            }
+            int[] column = inked(ink, noise, left, right);
+            if (column != null) {
+                columns.add(image.getSubimage(column[0], 0, column[1] - column[0], image.getHeight()));
+            }
+            left = right;
+        }
+        return columns;
+    }
+
+    /**
+     * Meio da calha mais larga que começa em [from, to), limitado a to; -1 se não houver calha
+     */
+    private static int gutter(int[] ink, int noise, int from, int to) {
+        int best = -1;
+        int bestWidth = MIN_GUTTER - 1;
+        int start = -1;
+        for (int x = from; x <= ink.length; x++) {
+            if (start < 0 && x >= to) {
+                break;
+            }
+            boolean clear = x < ink.length && ink[x] <= noise;
+            if (clear && start < 0) {
+                start = x;
+            } else if (!clear && start >= 0) {
+                if (x - start > bestWidth) {
+                    bestWidth = x - start;
+                    best = Math.min((start + x) / 2, to);
+                }
+                start = -1;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Trecho [início, fim) de [from, to) entre a primeira e a última coluna com tinta, com meia calha
+     * de margem; null se o trecho estiver em branco
+     */
+    private static int[] inked(int[] ink, int noise, int from, int to) {
+        int first = from;
+        while (first < to && ink[first] <= noise) {
+            first++;
+        }
+        if (first == to) {
+            return null;
+        }
+        int last = to - 1;
+        while (ink[last] <= noise) {
+            last--;
+        }
+        return new int[]{Math.max(from, first - MIN_GUTTER / 2), Math.min(to, last + 1 + MIN_GUTTER / 2)};
+    }
+
+    /**
+     * Pixels com tinta em cada coluna, amostrando uma linha a cada duas
+     */
+    private static int[] inkPerColumn(BufferedImage image) {
+        int width = image.getWidth();
+        int[] ink = new int[width];
+        int[] row = new int[width];
+        for (int y = 0; y < image.getHeight(); y += 2) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                int luminance = (299 * ((rgb >> 16) & 0xFF) + 587 * ((rgb >> 8) & 0xFF) + 114 * (rgb & 0xFF)) / 1000;
+                if (luminance < INK_LUMINANCE) {
+                    ink[x]++;
+                }
+            }
+        }
+        return ink;
+    }
+
+    private static BufferedImage scale(BufferedImage image, double scale) {
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Une os textos das faixas em ordem; quando as últimas linhas de uma faixa equivalem às
+     * primeiras da seguinte, fica uma cópia só (a mais longa, já que a borda corta linhas ao meio)
+     */
+    public static String merge(List<String> tiles) {
+        return merge(tiles, null).getTranslatedText();
+    }
+
+    /**
+     * Junção com a posição de cada faixa no texto (uma PageTranslation por faixa, como as páginas
+     * de um PDF); faixas sem texto (null) entram vazias e marcadas com o erro correspondente
+     */
+    public static BinaryTranslation merge(List<String> tiles, List<String> errors) {
+        List<String> merged = new ArrayList<>();
+        int[] firstLine = new int[tiles.size()];
+        for (int t = 0; t < tiles.size(); t++) {
+            String tile = tiles.get(t);
+            List<String> lines = tile == null ? List.of() : trimBlankLines(tile.lines().toList());
+            int repeated = overlap(merged, lines);
+            for (int i = 0; i < repeated; i++) {
+                int index = merged.size() - repeated + i;
+                if (lines.get(i).strip().length() > merged.get(index).strip().length()) {
+                    merged.set(index, lines.get(i));
+                }
+            }
+            firstLine[t] = merged.size();
+            merged.addAll(lines.subList(repeated, lines.size()));
+        }
+
+        String text = String.join("\n", merged);
+        List<PageTranslation> strips = new ArrayList<>(tiles.size());
+        int lineStart = 0;
+        int line = 0;
+        for (int t = 0; t < tiles.size(); t++) {
+            int end = t + 1 < tiles.size() ? firstLine[t + 1] : merged.size();
+            while (line < firstLine[t]) {
+                lineStart += merged.get(line++).length() + 1;
+            }
+            int length = 0;
+            for (int i = firstLine[t]; i < end; i++) {
+                length += merged.get(i).length() + (i + 1 < end ? 1 : 0);
+            }
+            String error = tiles.get(t) == null && errors != null ? errors.get(t) : null;
+            strips.add(PageTranslation.builder()
+                    .pageNumber(t + 1)
+                    .offset(Math.min(lineStart, text.length()))
+                    .length(length)
+                    .failed(tiles.get(t) == null)
+                    .error(error)
+                    .build());
+        }
+        return BinaryTranslation.builder().translatedText(text).pages(strips).build();
+    }
+
+    private static int overlap(List<String> previous, List<String> next) {
+        int max = Math.min(MAX_OVERLAP_LINES, Math.min(previous.size(), next.size()));
+        for (int k = max; k > 0; k--) {
+            boolean matches = true;
+            boolean hasText = false;
+            for (int i = 0; i < k && matches; i++) {
+                String a = canonical(previous.get(previous.size() - k + i));
+                String b = canonical(next.get(i));
+                // Só a última linha da faixa de cima e a primeira da de baixo podem estar cortadas
+                matches = a.equals(b) || ((i == 0 || i == k - 1) && edgeFragment(a, b));
+                hasText |= !a.isEmpty();
+            }
+            if (matches && hasText) {
+                return k;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Linha cortada pela borda da faixa: o trecho lido é o início ou o fim da linha inteira
+     */
+    private static boolean edgeFragment(String a, String b) {
+        String shorter = a.length() < b.length() ? a : b;
+        String longer = a.length() < b.length() ? b : a;
+        return shorter.length() >= MIN_EDGE_FRAGMENT && (longer.startsWith(shorter) || longer.endsWith(shorter));
+    }
+
+    private static String canonical(String line) {
+        return line.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").strip();
+    }
+
+    private static List<String> trimBlankLines(List<String> lines) {
+        int start = 0;
+        int end = lines.size();
+        while (start < end && lines.get(start).isBlank()) {
+            start++;
+        }
+        while (end > start && lines.get(end - 1).isBlank()) {
+            end--;
+        }
+        return lines.subList(start, end);
+    }
+}
@@ -1,18 +1,39 @@
 package com.translation.domain.strategy;
 
+import com.translation.domain.exception.InvalidInputException;
 import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
 import com.translation.domain.model.TranslationType;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelWithResponseStreamRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelWithResponseStreamResponseHandler;
+import software.amazon.awssdk.services.bedrockruntime.model.PayloadPart;
 
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 /**
  * Strategy para tradução de imagens usando Amazon Bedrock (Claude 3 com visão)
@@ -20,11 +41,42 @@ import java.util.List;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ImageTranslationStrategy implements TranslationStrategy {
 
     private final BedrockRuntimeClient bedrockClient;
+    private final BedrockRuntimeAsyncClient bedrockAsyncClient;
+    private final ImagePreprocessor imagePreprocessor;
+    private final ClaudeMessagesCodec messagesCodec;
+    private final PerceptualImageCache perceptualCache;
+    private final ImageTiler imageTiler;
+    private final AsyncTranslateExecutor translateExecutor;
+    // Tradução em faixas pedida pelo endpoint de streaming, fora da thread da requisição
+    private final ExecutorService tiledStreamWorkers;
     private static final String MODEL_ID = "anthropic.claude-3-sonnet-20240229-v1:0";
+    private static final int MAX_TOKENS = 4096;
+
+    public ImageTranslationStrategy(
+            BedrockRuntimeClient bedrockClient,
+            BedrockRuntimeAsyncClient bedrockAsyncClient,
+            ImagePreprocessor imagePreprocessor,
+            ClaudeMessagesCodec messagesCodec,
+            PerceptualImageCache perceptualCache,
+            ImageTiler imageTiler,
+            AsyncTranslateExecutor translateExecutor,
+            @Value("${translation.image.streaming.tiled-workers:2}") int tiledWorkers) {
+        this.bedrockClient = bedrockClient;
+        this.bedrockAsyncClient = bedrockAsyncClient;
+        this.imagePreprocessor = imagePreprocessor;
+        this.messagesCodec = messagesCodec;
+        this.perceptualCache = perceptualCache;
+        this.imageTiler = imageTiler;
+        this.translateExecutor = translateExecutor;
+        this.tiledStreamWorkers = Executors.newFixedThreadPool(tiledWorkers, r -> {
+            Thread thread = new Thread(r, "image-tiled-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     @Override
     public List<String> translate(List<String> texts, String sourceLang, String targetLang) {
@@ -34,60 +86,139 @@ public class ImageTranslationStrategy implements TranslationStrategy {
     }
 
     @Override
-    public String translateBinary(byte[] content, String sourceLang, String targetLang) {
+    public BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang) {
         log.info("Translating image content using Amazon Bedrock");
         
         try {
-            String base64Image = Base64.getEncoder().encodeToString(content);
+            // Scans altos: faixas sobrepostas traduzidas em paralelo
+            if (imageTiler.shouldTile(content)) {
+                BufferedImage scan = imagePreprocessor.decode(content);
+                if (scan != null) {
+                    return translateTiled(scan, sourceLang, targetLang);
+                }
+            }
             
-            // Prompt para Claude extrair e traduzir texto da imagem
-            String prompt = String.format(
-                "Extract all text from this image and translate it from %s to %s. " +
-                "Return only the translated text, preserving the original formatting as much as possible.",
-                sourceLang, targetLang
-            );
+            // Formato real, reduzido e recodificado antes do envio
+            ImagePreprocessor.PreparedImage image = imagePreprocessor.prepare(content);
             
-            String requestBody = String.format("""
-                {
-                    "anthropic_version": "bedrock-2023-05-31",
-                    "max_tokens": 4096,
-                    "messages": [
-                        {
-                            "role": "user",
-                            "content": [
-                                {
-                                    "type": "image",
-                                    "source": {
-                                        "type": "base64",
-                                        "media_type": "image/jpeg",
-                                        "data": "%s"
-                                    }
-                                },
-                                {
-                                    "type": "text",
-                                    "text": "%s"
-                                }
-                            ]
+            // Mesma imagem (ou quase) já traduzida para este par de idiomas
+            Optional<PerceptualImageCache.ImageHash> hash = perceptualCache.hash(image.pixels());
+            Optional<String> cached = hash.flatMap(h -> perceptualCache.find(h, sourceLang, targetLang));
+            if (cached.isPresent()) {
+                log.info("Image translation served from perceptual cache");
+                return BinaryTranslation.of(cached.get());
+            }
+            
+            InvokeModelResponse response = bedrockClient.invokeModel(request(image, prompt(sourceLang, targetLang)));
+            ClaudeMessagesCodec.Reply reply = messagesCodec.readReply(response.body().asInputStream());
+            if (reply.truncated()) {
+                log.warn("Image translation truncated at max_tokens; result not cached");
+                return truncated(reply.text());
+            }
+            hash.ifPresent(h -> perceptualCache.put(h, sourceLang, targetLang, reply.text()));
+            
+            log.info("Image translation completed successfully");
+            return BinaryTranslation.of(reply.text());
+            
+        } catch (InvalidInputException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error translating image", e);
+            throw new TranslationException("Failed to translate image", e);
+        }
+    }
+
+    /**
+     * Tradução com o texto entregue em partes (onText) à medida que o Bedrock gera os tokens;
+     * o future completa com o resultado inteiro, já armazenado no cache perceptual
+     * Cancelar o future cancela a chamada ao Bedrock e descarta as partes que ainda chegarem
+     */
+    public CompletableFuture<BinaryTranslation> translateStreaming(BinaryContent content, String sourceLang,
+                                                                   String targetLang, Consumer<String> onText) {
+        log.info("Streaming image translation using Amazon Bedrock");
+        
+        try {
+            // Faixas em paralelo: o texto só existe depois da junção, e vai inteiro de uma vez
+            if (imageTiler.shouldTile(content)) {
+                CompletableFuture<BinaryTranslation> tiled = new CompletableFuture<>();
+                tiledStreamWorkers.execute(() -> {
+                    if (tiled.isDone()) {
+                        return; // Cancelado antes de começar
+                    }
+                    try {
+                        BinaryTranslation result = translateBinary(content, sourceLang, targetLang);
+                        if (!tiled.isDone()) {
+                            onText.accept(result.getTranslatedText());
                         }
-                    ]
-                }
-                """, base64Image, prompt);
+                        tiled.complete(result);
+                    } catch (RuntimeException e) {
+                        tiled.completeExceptionally(e);
+                    }
+                });
+                return tiled;
+            }
             
-            InvokeModelRequest request = InvokeModelRequest.builder()
+            ImagePreprocessor.PreparedImage image = imagePreprocessor.prepare(content);
+            Optional<PerceptualImageCache.ImageHash> hash = perceptualCache.hash(image.pixels());
+            Optional<String> cached = hash.flatMap(h -> perceptualCache.find(h, sourceLang, targetLang));
+            if (cached.isPresent()) {
+                log.info("Image translation served from perceptual cache");
+                onText.accept(cached.get());
+                return CompletableFuture.completedFuture(BinaryTranslation.of(cached.get()));
+            }
+            
+            InvokeModelWithResponseStreamRequest request = InvokeModelWithResponseStreamRequest.builder()
                     .modelId(MODEL_ID)
-                    .body(SdkBytes.fromUtf8String(requestBody))
+                    .body(messagesCodec.imageRequest(image.data(), image.mediaType(),
+                            prompt(sourceLang, targetLang), MAX_TOKENS))
                     .build();
             
-            InvokeModelResponse response = bedrockClient.invokeModel(request);
-            String responseBody = response.body().asUtf8String();
-            
-            // Parse resposta (simplificado - em produção usar Jackson)
-            String translatedText = extractTextFromResponse(responseBody);
+            // Eventos de um mesmo stream chegam em sequência
+            StringBuilder translatedText = new StringBuilder();
+            AtomicReference<String> stopReason = new AtomicReference<>();
+            CompletableFuture<BinaryTranslation> result = new CompletableFuture<>();
+            InvokeModelWithResponseStreamResponseHandler handler = InvokeModelWithResponseStreamResponseHandler.builder()
+                    .subscriber(InvokeModelWithResponseStreamResponseHandler.Visitor.builder()
+                            .onChunk(chunk -> {
+                                ClaudeMessagesCodec.Reply event = readEvent(chunk);
+                                if (event.stopReason() != null) {
+                                    stopReason.set(event.stopReason());
+                                }
+                                String delta = event.text();
+                                if (!delta.isEmpty() && !result.isDone()) {
+                                    translatedText.append(delta);
+                                    onText.accept(delta);
+                                }
+                            })
+                            .build())
+                    .build();
             
-            log.info("Image translation completed successfully");
-            return translatedText;
+            CompletableFuture<Void> call = bedrockAsyncClient.invokeModelWithResponseStream(request, handler);
+            call.whenComplete((done, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                String text = translatedText.toString();
+                if (new ClaudeMessagesCodec.Reply(text, stopReason.get()).truncated()) {
+                    log.warn("Streaming image translation truncated at max_tokens; result not cached");
+                    result.complete(truncated(text));
+                    return;
+                }
+                hash.ifPresent(h -> perceptualCache.put(h, sourceLang, targetLang, text));
+                log.info("Streaming image translation completed successfully");
+                result.complete(BinaryTranslation.of(text));
+            });
+            // Cliente desconectado ou timeout do stream: o SDK aborta a chamada em andamento
+            result.whenComplete((translation, error) -> {
+                if (error instanceof CancellationException) {
+                    log.info("Streaming image translation cancelled");
+                    call.cancel(true);
+                }
+            });
+            return result;
             
-        } catch (Exception e) {
+        } catch (IOException e) {
             log.error("Error translating image", e);
             throw new TranslationException("Failed to translate image", e);
         }
@@ -102,18 +233,152 @@ public class ImageTranslationStrategy implements TranslationStrategy {
     public TranslationType getType() {
         return TranslationType.IMAGE;
     }
+
+    /**
+     * Uma chamada por faixa (cada uma com seu max_tokens), no máximo max-in-flight em andamento;
+     * os textos são unidos em ordem de leitura, sem as linhas repetidas da sobreposição
+     * Uma faixa com erro (inclusive a cortada em max_tokens mesmo depois de dividida) não derruba
+     * as demais: sai vazia e marcada em pages, e o resultado parcial não vai para os caches;
+     * só falha a imagem se nenhuma faixa for traduzida
+     */
+    private BinaryTranslation translateTiled(BufferedImage scan, String sourceLang, String targetLang) throws IOException {
+        Optional<PerceptualImageCache.ImageHash> hash = perceptualCache.hash(scan);
+        Optional<String> cached = hash.flatMap(h -> perceptualCache.find(h, sourceLang, targetLang));
+        if (cached.isPresent()) {
+            log.info("Image translation served from perceptual cache");
+            return BinaryTranslation.of(cached.get());
+        }
+        
+        List<BufferedImage> strips = imageTiler.split(scan);
+        log.info("Translating {}x{} image in {} overlapping strips", scan.getWidth(), scan.getHeight(), strips.size());
+        
+        // Cada faixa é preparada só quando sua chamada pode começar
+        List<String> errors = new ArrayList<>(Collections.nCopies(strips.size(), null));
+        List<String> texts = translateExecutor.mapBounded(
+                IntStream.range(0, strips.size()).iterator(), imageTiler.getMaxInFlight(),
+                index -> translateStrip(strips.get(index), index, strips.size(), sourceLang, targetLang, true)
+                        .exceptionally(e -> {
+                            Throwable cause = e instanceof CompletionException && e.getCause() != null
+                                    ? e.getCause() : e;
+                            log.warn("Strip {} of {} could not be translated: {}",
+                                    index + 1, strips.size(), cause.getMessage());
+                            errors.set(index, "Strip could not be translated: " + cause.getMessage());
+                            return null;
+                        }));
+        
+        int failed = (int) texts.stream().filter(Objects::isNull).count();
+        if (failed == strips.size()) {
+            throw new TranslationException("Failed to translate image: no strip could be translated");
+        }
+        BinaryTranslation result = ImageTiler.merge(texts, errors);
+        result.setFallbackSegments(failed);
+        if (failed == 0) {
+            hash.ifPresent(h -> perceptualCache.put(h, sourceLang, targetLang, result.getTranslatedText()));
+            log.info("Tiled image translation completed successfully");
+        } else {
+            log.warn("Tiled image translation completed with {} of {} strips missing", failed, strips.size());
+        }
+        return result;
+    }
     
-    private String extractTextFromResponse(String responseBody) {
-        // Simplificado - em produção usar Jackson para parsing JSON
+    /**
+     * Faixa cortada em max_tokens é traduzida de novo em duas metades (uma depois da outra, dentro
+     * da mesma vaga de max-in-flight); se uma metade também for cortada, a faixa falha
+     */
+    private CompletableFuture<String> translateStrip(BufferedImage strip, int index, int total,
+                                                     String sourceLang, String targetLang, boolean resplit) {
         try {
-            int startIdx = responseBody.indexOf("\"text\":\"") + 8;
-            int endIdx = responseBody.indexOf("\"", startIdx);
-            return responseBody.substring(startIdx, endIdx)
-                    .replace("\\n", "\n")
-                    .replace("\\\"", "\"");
-        } catch (Exception e) {
-            log.error("Error parsing Bedrock response", e);
-            return "";
+            return bedrockAsyncClient.invokeModel(stripRequest(strip, index, total, sourceLang, targetLang))
+                    .thenCompose(response -> {
+                        ClaudeMessagesCodec.Reply reply = readReply(response);
+                        if (!reply.truncated()) {
+                            return CompletableFuture.completedFuture(reply.text());
+                        }
+                        List<BufferedImage> halves = resplit ? imageTiler.halve(strip) : List.of();
+                        if (halves.isEmpty()) {
+                            return CompletableFuture.failedFuture(
+                                    new TranslationException("translation truncated at max_tokens"));
+                        }
+                        log.info("Strip {} of {} truncated at max_tokens, translating it again in two halves",
+                                index + 1, total);
+                        return translateStrip(halves.get(0), index, total, sourceLang, targetLang, false)
+                                .thenCompose(top -> translateStrip(
+                                        halves.get(1), index, total, sourceLang, targetLang, false)
+                                        .thenApply(bottom -> ImageTiler.merge(List.of(top, bottom))));
+                    });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * Texto cortado em max_tokens: entregue, mas marcado como falha (e fora dos caches)
+     */
+    private BinaryTranslation truncated(String text) {
+        return BinaryTranslation.builder()
+                .translatedText(text)
+                .pages(List.of(PageTranslation.builder()
+                        .pageNumber(1)
+                        .length(text.length())
+                        .failed(true)
+                        .error("Translation truncated at max_tokens")
+                        .build()))
+                .fallbackSegments(1)
+                .build();
+    }
+    
+    /**
+     * Prompt para Claude extrair e traduzir texto da imagem
+     */
+    private String prompt(String sourceLang, String targetLang) {
+        return String.format(
+            "Extract all text from this image and translate it from %s to %s. " +
+            "Return only the translated text, preserving the original formatting as much as possible.",
+            sourceLang, targetLang
+        );
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        tiledStreamWorkers.shutdownNow();
+    }
+    
+    private InvokeModelRequest stripRequest(BufferedImage strip, int index, int total,
+                                            String sourceLang, String targetLang) {
+        String prompt = String.format(
+            "This image is part %d of %d of a larger page, cut into strips read column by column, " +
+            "top to bottom; strips of the same column overlap slightly. " +
+            "Extract all text in this part and translate it from %s to %s. " +
+            "Return only the translated text, one line per line of text in the image.",
+            index + 1, total, sourceLang, targetLang
+        );
+        try {
+            return request(imagePreprocessor.prepare(strip), prompt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private InvokeModelRequest request(ImagePreprocessor.PreparedImage image, String prompt) throws IOException {
+        return InvokeModelRequest.builder()
+                .modelId(MODEL_ID)
+                .body(messagesCodec.imageRequest(image.data(), image.mediaType(), prompt, MAX_TOKENS))
+                .build();
+    }
+    
+    private ClaudeMessagesCodec.Reply readEvent(PayloadPart chunk) {
+        try {
+            return messagesCodec.readEvent(chunk.bytes().asInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private ClaudeMessagesCodec.Reply readReply(InvokeModelResponse response) {
+        try {
+            return messagesCodec.readReply(response.body().asInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
@@ -0,0 +1,53 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.TranslationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Strategy para tradução de texto pelo Claude no Bedrock, em lotes com entrada e saída em array JSON
+ * Só atende os pares de idiomas configurados em translation.llm.language-pairs;
+ * os demais seguem para a TextTranslationStrategy (AWS Translate)
+ */
+@Slf4j
+@Component
+@Order(0) // Antes da estratégia padrão do tipo TEXT
+@RequiredArgsConstructor
+public class LlmBatchTranslationStrategy implements TranslationStrategy {
+
+    private final BedrockBatchTranslator batchTranslator;
+
+    @Override
+    public List<String> translate(List<String> texts, String sourceLang, String targetLang) {
+        log.info("Translating {} texts using LlmBatchTranslationStrategy", texts.size());
+        
+        return batchTranslator.translate(texts, sourceLang, targetLang);
+    }
+
+    @Override
+    public BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang) {
+        // Não suportado para texto simples
+        throw new UnsupportedOperationException("Binary translation not supported for LLM TEXT strategy");
+    }
+
+    @Override
+    public boolean supports(TranslationType type) {
+        return type == TranslationType.TEXT;
+    }
+
+    @Override
+    public boolean supportsLanguagePair(String sourceLang, String targetLang) {
+        return batchTranslator.handles(sourceLang, targetLang);
+    }
+
+    @Override
+    public TranslationType getType() {
+        return TranslationType.TEXT;
+    }
+}
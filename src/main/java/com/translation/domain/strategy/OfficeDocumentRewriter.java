@@ -0,0 +1,604 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.text.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Tradução de DOCX/ODT preservando a formatação
+ * Percorre o ZIP em streaming e reescreve apenas as partes XML de texto com StAX, sem DOM.
+ * Cada trecho de parágrafo (entre quebras) é traduzido inteiro, com os limites dos runs
+ * (negrito, itálico, links) codificados em placeholders &lt;gN&gt;, como no HTML; cada run recebe
+ * a tradução do seu placeholder. Se os placeholders não voltarem intactos, o trecho vai inteiro
+ * para o primeiro run. Os eventos ficam em buffer só até o lote de parágrafos ser traduzido
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OfficeDocumentRewriter {
+
+    public static final String DOCX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    public static final String ODT_CONTENT_TYPE = "application/vnd.oasis.opendocument.text";
+
+    private static final String XML_NS = "http://www.w3.org/XML/1998/namespace";
+
+    private static final Pattern RUN_PLACEHOLDER = Pattern.compile("<(/?)g(\\d+)>");
+
+    private static final XmlPartFormat DOCX = new XmlPartFormat(
+            Pattern.compile("word/(document|header\\d*|footer\\d*|footnotes|endnotes)\\.xml"),
+            "http://schemas.openxmlformats.org/wordprocessingml/2006/main",
+            Set.of("p"), Set.of("t"), Set.of("tab", "br", "cr"), Set.of(), Set.of(), true, "r", "rPr");
+
+    private static final XmlPartFormat ODT = new XmlPartFormat(
+            Pattern.compile("(content|styles)\\.xml"),
+            "urn:oasis:names:tc:opendocument:xmlns:text:1.0",
+            Set.of("p", "h"), Set.of(), Set.of("tab", "line-break"), Set.of("s"), Set.of("note-citation"), false,
+            "", "");
+
+    private final PackedTextTranslator packedTextTranslator;
+    private final TextNormalizer textNormalizer;
+
+    private final XMLInputFactory inputFactory = createInputFactory();
+    private final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+    private final XMLEventFactory eventFactory = XMLEventFactory.newInstance();
+
+    // Texto acumulado antes de traduzir um lote de parágrafos
+    @Value("${translation.document.formatted.batch-bytes:32000}")
+    private int batchBytes = 32000;
+
+    // Limite de eventos XML em buffer (documentos com muita marcação e pouco texto)
+    @Value("${translation.document.formatted.max-buffered-events:50000}")
+    private int maxBufferedEvents = 50000;
+
+    public boolean supports(String contentType) {
+        return DOCX_CONTENT_TYPE.equals(contentType) || ODT_CONTENT_TYPE.equals(contentType);
+    }
+
+    /**
+     * Escreve em target o documento traduzido, no mesmo formato do original.
+     * O stream de destino não é fechado
+     */
+    public void rewrite(BinaryContent source, OutputStream target, String sourceLang, String targetLang) throws IOException {
+        int translatedParts = 0;
+
+        try (InputStream in = source.openStream(); ZipInputStream zipIn = new ZipInputStream(in)) {
+            ZipOutputStream zipOut = new ZipOutputStream(target);
+
+            ZipEntry entry;
+            while ((entry = zipIn.getNextEntry()) != null) {
+                XmlPartFormat format = entry.isDirectory() ? null : formatOf(entry.getName());
+                if (format != null) {
+                    zipOut.putNextEntry(new ZipEntry(entry.getName()));
+                    rewritePart(zipIn, zipOut, format, sourceLang, targetLang);
+                    translatedParts++;
+                } else {
+                    zipOut.putNextEntry(copyOf(entry));
+                    zipIn.transferTo(zipOut);
+                }
+                zipOut.closeEntry();
+            }
+            zipOut.finish();
+        } catch (XMLStreamException e) {
+            throw new TranslationException("Failed to rewrite document XML", e);
+        }
+
+        log.info("Format-preserving document translation completed ({} XML parts)", translatedParts);
+    }
+
+    private void rewritePart(InputStream in, OutputStream out, XmlPartFormat format,
+                             String sourceLang, String targetLang) throws XMLStreamException {
+        // O parser fecha a entrada ao fim do documento; a entrada do ZIP precisa continuar aberta
+        XMLEventReader reader = inputFactory.createXMLEventReader(new FilterInputStream(in) {
+            @Override
+            public void close() {
+            }
+        });
+        XMLEventWriter writer = outputFactory.createXMLEventWriter(out, "UTF-8");
+
+        PartRewriter part = new PartRewriter(format, writer, sourceLang, targetLang);
+        while (reader.hasNext()) {
+            part.accept(reader.nextEvent());
+        }
+        part.flush();
+
+        // O writer não é fechado para não fechar o stream do ZIP
+        writer.flush();
+        reader.close();
+    }
+
+    private XmlPartFormat formatOf(String entryName) {
+        if (DOCX.parts().matcher(entryName).matches()) {
+            return DOCX;
+        }
+        if (ODT.parts().matcher(entryName).matches()) {
+            return ODT;
+        }
+        return null;
+    }
+
+    /**
+     * Entradas copiadas sem alteração; entradas STORED (ex.: mimetype do ODT, que precisa ser a
+     * primeira e sem compressão) mantêm o método, o tamanho e o CRC do original
+     */
+    private ZipEntry copyOf(ZipEntry entry) {
+        ZipEntry copy = new ZipEntry(entry.getName());
+        if (entry.getLastModifiedTime() != null) {
+            copy.setLastModifiedTime(entry.getLastModifiedTime());
+        }
+        if (entry.getMethod() == ZipEntry.STORED) {
+            copy.setMethod(ZipEntry.STORED);
+            copy.setSize(entry.getSize());
+            copy.setCompressedSize(entry.getSize());
+            copy.setCrc(entry.getCrc());
+        }
+        return copy;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Elementos de uma parte XML: parágrafos, elementos de texto (vazio = todo texto do parágrafo),
+     * quebras que separam trechos, elementos que representam espaços (text:s), elementos ignorados
+     * e runs com suas propriedades (w:r/w:rPr; vazio = cada elemento com texto é um run)
+     */
+    private record XmlPartFormat(Pattern parts, String namespace, Set<String> paragraphs, Set<String> textElements,
+                                 Set<String> breaks, Set<String> spaces, Set<String> skipped, boolean preserveSpace,
+                                 String run, String runProperties) {
+    }
+
+    /**
+     * Texto de um run (ou de runs vizinhos com a mesma formatação): recebe a tradução do seu placeholder
+     */
+    private static class Piece {
+        private final int event;
+        private final int wrapper; // StartElement que contém o texto (w:t, text:span, text:p)
+        private final String signature;
+        private final StringBuilder text = new StringBuilder();
+        private final List<Integer> merged = new ArrayList<>(); // Eventos dos runs juntados a este
+
+        Piece(int event, int wrapper, String signature, String text) {
+            this.event = event;
+            this.wrapper = wrapper;
+            this.signature = signature;
+            this.text.append(text);
+        }
+    }
+
+    /**
+     * Trecho de parágrafo: runs e os espaços entre eles, na ordem do documento
+     */
+    private static class Segment {
+        private final List<Object> parts = new ArrayList<>(); // Piece ou espaços entre runs (String)
+        private final List<Integer> removed = new ArrayList<>(); // Espaços soltos e text:s, reescritos nos runs
+        private final StringBuilder text = new StringBuilder();
+        private final StringBuilder spaces = new StringBuilder();
+        private Piece last;
+        private String encoded;
+
+        void addText(int event, int wrapper, String signature, String data) {
+            text.append(data);
+            if (data.isBlank()) {
+                spaces.append(data);
+                removed.add(event);
+            } else if (last != null && parts.get(parts.size() - 1) == last && last.signature.equals(signature)) {
+                last.text.append(spaces).append(data);
+                last.merged.add(event);
+                spaces.setLength(0);
+            } else {
+                closeSpaces();
+                last = new Piece(event, wrapper, signature, data);
+                parts.add(last);
+            }
+        }
+
+        void addSpaces(int event, int count) {
+            text.append(" ".repeat(count));
+            spaces.append(" ".repeat(count));
+            removed.add(event);
+        }
+
+        void closeSpaces() {
+            if (!spaces.isEmpty()) {
+                parts.add(spaces.toString());
+                spaces.setLength(0);
+            }
+        }
+
+        List<Piece> pieces() {
+            List<Piece> pieces = new ArrayList<>();
+            for (Object part : parts) {
+                if (part instanceof Piece piece) {
+                    pieces.add(piece);
+                }
+            }
+            return pieces;
+        }
+    }
+
+    /**
+     * Reescrita de uma parte XML: bufferiza eventos até o fim de um lote de parágrafos
+     * de nível superior, traduz os trechos do lote e escreve os eventos
+     */
+    private class PartRewriter {
+
+        private final XmlPartFormat format;
+        private final XMLEventWriter writer;
+        private final String sourceLang;
+        private final String targetLang;
+
+        private final List<XMLEvent> buffer = new ArrayList<>();
+        // Eventos trocados na escrita (texto traduzido, text:s); lista vazia remove o evento
+        private final Map<Integer, List<XMLEvent>> replacements = new HashMap<>();
+        private final Deque<Integer> openElements = new ArrayDeque<>();
+        private final List<Segment> segments = new ArrayList<>();
+        private Segment current;
+        private int pendingBytes;
+        private int paragraphDepth;
+        private int textDepth;
+        private int skipDepth;
+        // Run atual: elemento pai e propriedades, para juntar runs vizinhos com a mesma formatação
+        private int runParent = -1;
+        private final StringBuilder runSignature = new StringBuilder();
+        private int propertiesDepth;
+
+        PartRewriter(XmlPartFormat format, XMLEventWriter writer, String sourceLang, String targetLang) {
+            this.format = format;
+            this.writer = writer;
+            this.sourceLang = sourceLang;
+            this.targetLang = targetLang;
+        }
+
+        void accept(XMLEvent event) throws XMLStreamException {
+            if (event.isStartElement()) {
+                StartElement start = event.asStartElement();
+                onStart(start);
+                if (isTextElement(start.getName(), format.spaces()) && collecting()) {
+                    segment().addSpaces(buffer.size(), spaceCount(start));
+                }
+                buffer.add(event);
+                openElements.push(buffer.size() - 1);
+                return;
+            }
+
+            if (event.isEndElement()) {
+                QName name = event.asEndElement().getName();
+                if (isTextElement(name, format.spaces()) && collecting()) {
+                    segment().removed.add(buffer.size());
+                }
+                buffer.add(event);
+                openElements.poll();
+                if (isTextElement(name, format.paragraphs())) {
+                    closeSegment();
+                    paragraphDepth--;
+                } else if (isTextElement(name, format.textElements())) {
+                    textDepth--;
+                } else if (isTextElement(name, format.skipped())) {
+                    skipDepth--;
+                } else if (isTextElement(name, Set.of(format.runProperties()))) {
+                    propertiesDepth--;
+                }
+
+                if (paragraphDepth == 0 && (pendingBytes >= batchBytes || buffer.size() >= maxBufferedEvents)) {
+                    flush();
+                }
+                return;
+            }
+
+            if (event.isCharacters() && collecting()) {
+                int wrapper = openElements.isEmpty() ? -1 : openElements.peek();
+                String signature = format.run().isEmpty() ? "@" + wrapper : runSignature + "@" + runParent;
+                segment().addText(buffer.size(), wrapper, signature, event.asCharacters().getData());
+            }
+            buffer.add(event);
+        }
+
+        private Segment segment() {
+            if (current == null) {
+                current = new Segment();
+            }
+            return current;
+        }
+
+        private int spaceCount(StartElement start) {
+            Attribute count = start.getAttributeByName(new QName(format.namespace(), "c"));
+            try {
+                return count != null ? Math.max(1, Integer.parseInt(count.getValue())) : 1;
+            } catch (NumberFormatException e) {
+                return 1;
+            }
+        }
+
+        private void onStart(StartElement start) {
+            QName name = start.getName();
+            if (isTextElement(name, format.paragraphs())) {
+                closeSegment(); // Parágrafo aninhado (ex.: caixa de texto, nota)
+                paragraphDepth++;
+            } else if (isTextElement(name, format.breaks())) {
+                closeSegment();
+            } else if (isTextElement(name, format.textElements())) {
+                textDepth++;
+            } else if (isTextElement(name, format.skipped())) {
+                skipDepth++;
+            } else if (isTextElement(name, Set.of(format.run()))) {
+                runParent = openElements.isEmpty() ? -1 : openElements.peek();
+                runSignature.setLength(0);
+            } else if (isTextElement(name, Set.of(format.runProperties()))) {
+                propertiesDepth++;
+            } else if (propertiesDepth > 0) {
+                runSignature.append('<').append(name.getLocalPart());
+                start.getAttributes().forEachRemaining(attribute -> runSignature.append(' ')
+                        .append(attribute.getName().getLocalPart()).append('=').append(attribute.getValue()));
+                runSignature.append('>');
+            }
+        }
+
+        private boolean collecting() {
+            return paragraphDepth > 0 && skipDepth == 0 && (format.textElements().isEmpty() || textDepth > 0);
+        }
+
+        private boolean isTextElement(QName name, Set<String> localNames) {
+            return format.namespace().equals(name.getNamespaceURI()) && localNames.contains(name.getLocalPart());
+        }
+
+        private void closeSegment() {
+            if (current != null) {
+                current.closeSpaces();
+                segments.add(current);
+                pendingBytes += current.text.toString().getBytes(StandardCharsets.UTF_8).length;
+                current = null;
+            }
+        }
+
+        /**
+         * Traduz os trechos do lote (empacotados por chamada) e escreve os eventos bufferizados
+         */
+        void flush() throws XMLStreamException {
+            closeSegment();
+
+            List<Segment> translatable = new ArrayList<>();
+            List<String> cores = new ArrayList<>();
+            for (Segment segment : segments) {
+                segment.encoded = encode(segment);
+                String core = textNormalizer.normalize(segment.encoded);
+                if (!core.isEmpty()) {
+                    translatable.add(segment);
+                    cores.add(core);
+                }
+            }
+
+            List<String> translations = packedTextTranslator.translate(cores, sourceLang, targetLang);
+            for (int i = 0; i < translatable.size(); i++) {
+                apply(translatable.get(i), translations.get(i));
+            }
+
+            for (int i = 0; i < buffer.size(); i++) {
+                List<XMLEvent> replacement = replacements.get(i);
+                if (replacement == null) {
+                    writer.add(buffer.get(i));
+                    continue;
+                }
+                for (XMLEvent event : replacement) {
+                    writer.add(event);
+                }
+            }
+            buffer.clear();
+            replacements.clear();
+            segments.clear();
+            pendingBytes = 0;
+        }
+
+        /**
+         * Texto do trecho com um placeholder &lt;gN&gt; por run, os espaços das bordas de cada run fora
+         * dele; texto plano se houver um único run ou se o texto já contiver algo parecido com um placeholder
+         */
+        private String encode(Segment segment) {
+            String plain = segment.text.toString();
+            List<Piece> pieces = segment.pieces();
+            if (pieces.size() < 2 || RUN_PLACEHOLDER.matcher(plain).find()) {
+                return plain;
+            }
+
+            StringBuilder encoded = new StringBuilder();
+            int id = 0;
+            for (Object part : segment.parts) {
+                if (part instanceof Piece piece) {
+                    String text = piece.text.toString();
+                    String leading = textNormalizer.leadingWhitespace(text);
+                    String trailing = textNormalizer.trailingWhitespace(text);
+                    id++;
+                    encoded.append(leading).append("<g").append(id).append('>')
+                            .append(text, leading.length(), text.length() - trailing.length())
+                            .append("</g").append(id).append('>').append(trailing);
+                } else {
+                    encoded.append(part);
+                }
+            }
+            return encoded.toString();
+        }
+
+        private void apply(Segment segment, String translation) {
+            List<Piece> pieces = segment.pieces();
+            boolean placeholders = !segment.encoded.equals(segment.text.toString());
+            List<String> texts = placeholders ? distribute(translation, pieces.size()) : null;
+            if (texts == null) {
+                if (placeholders) {
+                    // Placeholders perdidos ou alterados: o trecho vai inteiro para o primeiro run
+                    log.debug("Run placeholders not preserved, flattening segment of {} runs", pieces.size());
+                    translation = RUN_PLACEHOLDER.matcher(translation).replaceAll("");
+                }
+                texts = new ArrayList<>();
+                texts.add(translation);
+                for (int i = 1; i < pieces.size(); i++) {
+                    texts.add("");
+                }
+            }
+
+            int lastIndex = pieces.size() - 1;
+            texts.set(0, textNormalizer.leadingWhitespace(segment.encoded) + texts.get(0));
+            texts.set(lastIndex, texts.get(lastIndex) + textNormalizer.trailingWhitespace(segment.encoded));
+
+            for (int i = 0; i < pieces.size(); i++) {
+                Piece piece = pieces.get(i);
+                replacements.put(piece.event, characters(texts.get(i), piece, i == 0));
+                for (int event : piece.merged) {
+                    replacements.put(event, List.of());
+                }
+                // Word descarta espaços nas bordas de w:t sem xml:space="preserve"
+                if (format.preserveSpace() && piece.wrapper >= 0 && !texts.get(i).isEmpty()) {
+                    buffer.set(piece.wrapper, preserveSpace(buffer.get(piece.wrapper).asStartElement()));
+                }
+            }
+            for (int event : segment.removed) {
+                replacements.put(event, List.of());
+            }
+        }
+
+        /**
+         * Texto traduzido de cada run; null se os placeholders vierem faltando, repetidos, aninhados
+         * ou fora da ordem do documento (os runs não mudam de lugar, e o texto sairia embaralhado).
+         * Texto fora dos placeholders fica com o run anterior (ou com o primeiro, se vier antes de todos)
+         */
+        private List<String> distribute(String translation, int runs) {
+            StringBuilder[] texts = new StringBuilder[runs];
+            StringBuilder prefix = new StringBuilder();
+            int open = -1;
+            int previous = -1;
+            int last = 0;
+
+            Matcher matcher = RUN_PLACEHOLDER.matcher(translation);
+            while (matcher.find()) {
+                String between = translation.substring(last, matcher.start());
+                last = matcher.end();
+                int id = Integer.parseInt(matcher.group(2)) - 1;
+                boolean closing = "/".equals(matcher.group(1));
+
+                if (open >= 0) {
+                    if (!closing || id != open) {
+                        return null;
+                    }
+                    texts[open].append(between);
+                    previous = open;
+                    open = -1;
+                    continue;
+                }
+                if (closing || id != previous + 1 || id >= runs) {
+                    return null;
+                }
+                if (previous >= 0) {
+                    texts[previous].append(between);
+                } else {
+                    prefix.append(between);
+                }
+                texts[id] = new StringBuilder(prefix);
+                prefix.setLength(0);
+                open = id;
+            }
+            if (open >= 0 || previous < 0) {
+                return null;
+            }
+            texts[previous].append(translation.substring(last));
+
+            List<String> result = new ArrayList<>();
+            for (StringBuilder text : texts) {
+                if (text == null) {
+                    return null;
+                }
+                result.add(text.toString());
+            }
+            return result;
+        }
+
+        /**
+         * Eventos do texto de um run; no ODT, sequências de espaços (e o espaço no início do trecho)
+         * voltam a ser text:s, pois o ODF colapsa espaços repetidos no texto
+         */
+        private List<XMLEvent> characters(String text, Piece piece, boolean first) {
+            if (format.spaces().isEmpty() || !text.contains(" ")) {
+                return List.of(eventFactory.createCharacters(text));
+            }
+
+            String prefix = piece.wrapper >= 0 ? buffer.get(piece.wrapper).asStartElement().getName().getPrefix() : "";
+            List<XMLEvent> events = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < text.length()) {
+                int end = i;
+                while (end < text.length() && text.charAt(end) == ' ') {
+                    end++;
+                }
+                int count = end - i;
+                if (count >= 2 || (count == 1 && i == 0 && first)) {
+                    if (!literal.isEmpty()) {
+                        events.add(eventFactory.createCharacters(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    String space = format.spaces().iterator().next();
+                    List<Attribute> attributes = count > 1
+                            ? List.of(eventFactory.createAttribute(prefix, format.namespace(), "c", String.valueOf(count)))
+                            : List.of();
+                    events.add(eventFactory.createStartElement(prefix, format.namespace(), space,
+                            attributes.iterator(), null));
+                    events.add(eventFactory.createEndElement(prefix, format.namespace(), space));
+                    i = end;
+                } else if (count == 1) {
+                    literal.append(' ');
+                    i = end;
+                } else {
+                    literal.append(text.charAt(i++));
+                }
+            }
+            if (!literal.isEmpty()) {
+                events.add(eventFactory.createCharacters(literal.toString()));
+            }
+            return events;
+        }
+
+        private StartElement preserveSpace(StartElement start) {
+            if (start.getAttributeByName(new QName(XML_NS, "space")) != null) {
+                return start;
+            }
+            List<Attribute> attributes = new ArrayList<>();
+            start.getAttributes().forEachRemaining(attributes::add);
+            attributes.add(eventFactory.createAttribute("xml", XML_NS, "space", "preserve"));
+            return eventFactory.createStartElement(start.getName(), attributes.iterator(), start.getNamespaces());
+        }
+    }
+}
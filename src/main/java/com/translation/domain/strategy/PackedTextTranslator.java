@@ -0,0 +1,141 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.text.SegmentPacker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Tradução de vários segmentos por chamada ao AWS Translate
+ * Empacota segmentos até o limite de bytes UTF-8 da API; se a divisão da resposta
+ * for ambígua, traduz os segmentos daquele pacote individualmente.
+ * Os pacotes e depois os segmentos individuais são enviados pelo AsyncTranslateExecutor,
+ * sempre dentro do mesmo limite de chamadas em andamento por requisição
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PackedTextTranslator {
+
+    private final AsyncTranslateExecutor translateExecutor;
+    private final SegmentPacker segmentPacker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.packing.enabled:true}")
+    private boolean enabled = true;
+
+    // AWS Translate aceita até 10.000 bytes por requisição; mantém margem para os marcadores
+    @Value("${translation.packing.max-bytes:9000}")
+    private int maxBytes = 9000;
+
+    /**
+     * Traduz os segmentos preservando a ordem; em caso de erro retorna o segmento original
+     */
+    public List<String> translate(List<String> segments, String sourceLang, String targetLang) {
+        return translate(segments, sourceLang, targetLang, new BitSet());
+    }
+
+    /**
+     * Como translate, marcando em fallbacks os índices que voltaram no texto original por erro
+     * (para quem não pode guardar o resultado como tradução, ex.: caches de subárvores)
+     */
+    public List<String> translate(List<String> segments, String sourceLang, String targetLang, BitSet fallbacks) {
+        if (segments.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        if (!enabled) {
+            return translateExecutor.mapBounded(IntStream.range(0, segments.size()).boxed().toList(), index ->
+                    translateSingle(segments, index, sourceLang, targetLang, fallbacks));
+        }
+
+        List<List<Integer>> packs = segmentPacker.pack(segments, maxBytes);
+        List<Optional<List<String>>> packTranslations = translateExecutor.mapBounded(packs, pack ->
+                translatePack(segments, pack, sourceLang, targetLang, fallbacks));
+
+        List<String> translations = new ArrayList<>(segments);
+        List<Integer> singles = new ArrayList<>();
+        for (int p = 0; p < packs.size(); p++) {
+            List<Integer> pack = packs.get(p);
+            Optional<List<String>> packTranslation = packTranslations.get(p);
+            if (packTranslation.isEmpty()) {
+                singles.addAll(pack);
+                continue;
+            }
+            for (int i = 0; i < pack.size(); i++) {
+                translations.set(pack.get(i), packTranslation.get().get(i));
+            }
+        }
+
+        // Pacotes com erro ou divisão ambígua: segmentos individuais, no mesmo limite por requisição
+        List<String> singleTranslations = translateExecutor.mapBounded(singles, index ->
+                translateSingle(segments, index, sourceLang, targetLang, fallbacks));
+        for (int i = 0; i < singles.size(); i++) {
+            translations.set(singles.get(i), singleTranslations.get(i));
+        }
+        return translations;
+    }
+
+    /**
+     * Tradução do pacote dividida por segmento; vazio quando os segmentos precisam ir individualmente
+     */
+    private CompletableFuture<Optional<List<String>>> translatePack(List<String> all, List<Integer> pack,
+                                                                   String sourceLang, String targetLang,
+                                                                   BitSet fallbacks) {
+        if (pack.size() == 1) {
+            count("single");
+            return translateSingle(all, pack.get(0), sourceLang, targetLang, fallbacks)
+                    .thenApply(translated -> Optional.of(List.of(translated)));
+        }
+
+        List<String> segments = pack.stream().map(all::get).toList();
+        return translateExecutor.translateAsync(segmentPacker.join(segments), sourceLang, targetLang)
+                .handle((packed, error) -> {
+                    if (error != null) {
+                        log.error("Error translating packed segments, falling back to single calls", error);
+                        count("error");
+                        return Optional.<List<String>>empty();
+                    }
+
+                    Optional<List<String>> split = segmentPacker.split(packed, segments.size());
+                    if (split.isPresent()) {
+                        count("packed");
+                        meterRegistry.counter("translation.packing.segments").increment(segments.size());
+                    } else {
+                        log.warn("Ambiguous split of packed translation ({} segments), falling back to single calls",
+                                segments.size());
+                        count("ambiguous");
+                    }
+                    return split;
+                });
+    }
+
+    private CompletableFuture<String> translateSingle(List<String> segments, int index, String sourceLang,
+                                                      String targetLang, BitSet fallbacks) {
+        String text = segments.get(index);
+        if (text.isBlank()) {
+            return CompletableFuture.completedFuture(text);
+        }
+        return translateExecutor.translateAsync(text, sourceLang, targetLang).exceptionally(e -> {
+            log.error("Error translating text: {}", text, e);
+            // Completado em threads do cliente AWS
+            synchronized (fallbacks) {
+                fallbacks.set(index);
+            }
+            return text; // Fallback: retorna texto original
+        });
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("translation.packing.requests", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,150 @@
+package com.translation.domain.strategy;
+
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.Set;
+
+/**
+ * Handler SAX que agrupa o texto extraído pelo Tika em chunks de parágrafos inteiros
+ * Emite um chunk sempre que o próximo parágrafo ultrapassaria o limite de bytes UTF-8,
+ * mantendo em memória no máximo um chunk e o parágrafo corrente
+ */
+class ParagraphChunkHandler extends DefaultHandler {
+
+    // Elementos XHTML emitidos pelo Tika que encerram um parágrafo
+    private static final Set<String> BLOCK_ELEMENTS = Set.of(
+            "p", "div", "h1", "h2", "h3", "h4", "h5", "h6", "li", "tr", "pre", "blockquote", "table");
+
+    /**
+     * Destino dos chunks; pode bloquear (backpressure) enquanto a tradução consome
+     */
+    interface ChunkSink {
+        void accept(String chunk) throws InterruptedException;
+    }
+
+    private final ChunkSink sink;
+    private final int maxBytes;
+
+    private final StringBuilder chunk = new StringBuilder();
+    private final StringBuilder paragraph = new StringBuilder();
+    private int chunkBytes;
+    private int paragraphBytes;
+
+    ParagraphChunkHandler(ChunkSink sink, int maxBytes) {
+        this.sink = sink;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        for (int i = start; i < start + length; i++) {
+            paragraph.append(ch[i]);
+            paragraphBytes += utf8Length(ch[i]);
+        }
+
+        // Parágrafo sem marcação de bloco (ex.: texto puro) - corta no último espaço dentro do limite
+        if (paragraphBytes > maxBytes) {
+            splitParagraph();
+        }
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+        characters(ch, start, length);
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        if (BLOCK_ELEMENTS.contains(localName)) {
+            endParagraph();
+        }
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+        endParagraph();
+        if (!chunk.isEmpty()) {
+            emit(chunk.toString());
+            chunk.setLength(0);
+            chunkBytes = 0;
+        }
+    }
+
+    private void endParagraph() throws SAXException {
+        if (paragraph.isEmpty()) {
+            return;
+        }
+
+        if (chunkBytes + paragraphBytes > maxBytes && !chunk.isEmpty()) {
+            emit(chunk.toString());
+            chunk.setLength(0);
+            chunkBytes = 0;
+        }
+        chunk.append(paragraph);
+        chunkBytes += paragraphBytes;
+        paragraph.setLength(0);
+        paragraphBytes = 0;
+    }
+
+    private void splitParagraph() throws SAXException {
+        while (paragraphBytes > maxBytes) {
+            // Maior prefixo dentro do limite, preferindo terminar após um espaço
+            int bytes = 0;
+            int limit = 0;
+            int lastSpace = -1;
+            while (limit < paragraph.length() && bytes + utf8Length(paragraph.charAt(limit)) <= maxBytes) {
+                bytes += utf8Length(paragraph.charAt(limit));
+                if (Character.isWhitespace(paragraph.charAt(limit))) {
+                    lastSpace = limit;
+                }
+                limit++;
+            }
+            int cut = lastSpace >= 0 ? lastSpace + 1 : limit;
+            // Não separa pares substitutos
+            if (cut > 0 && cut < paragraph.length() && Character.isLowSurrogate(paragraph.charAt(cut))) {
+                cut--;
+            }
+            if (cut == 0) {
+                return;
+            }
+
+            String head = paragraph.substring(0, cut);
+            String tail = paragraph.substring(cut);
+            paragraph.setLength(0);
+            paragraph.append(head);
+            paragraphBytes = utf8Length(head);
+            endParagraph();
+
+            paragraph.append(tail);
+            paragraphBytes = utf8Length(tail);
+        }
+    }
+
+    private void emit(String text) throws SAXException {
+        try {
+            sink.accept(text);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SAXException("Document extraction cancelled", e);
+        }
+    }
+
+    private static int utf8Length(CharSequence text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            bytes += utf8Length(text.charAt(i));
+        }
+        return bytes;
+    }
+
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2; // Cada metade de um par substituto soma 2 dos 4 bytes
+        }
+        return 3;
+    }
+}
@@ -0,0 +1,156 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.ContentDefinedChunker;
+import com.translation.domain.text.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Memória de tradução por parágrafo para documentos revisados
+ * O texto é dividido em segmentos definidos pelo conteúdo e cada segmento é identificado
+ * pelo SHA-256 da sua forma canônica; só os segmentos sem tradução em cache vão ao AWS Translate.
+ * Uma nova versão do documento reaproveita todos os parágrafos que não mudaram
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParagraphTranslationMemory {
+
+    // para:origem:destino:fingerprint
+    private static final String KEY_FORMAT = "para:%s:%s:%s";
+
+    private final CachePort cachePort;
+    private final ContentDefinedChunker contentDefinedChunker;
+    private final TextNormalizer textNormalizer;
+
+    @Value("${translation.document.incremental.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * Contagem de segmentos de uma requisição (traduzidos em paralelo);
+     * failed conta os segmentos que voltaram no idioma original por erro
+     */
+    public static final class Reuse {
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger reused = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        public int getTotal() {
+            return total.get();
+        }
+
+        public int getReused() {
+            return reused.get();
+        }
+
+        public int getFailed() {
+            return failed.get();
+        }
+
+        /**
+         * Soma a contagem de uma parte (ex.: uma página) à da requisição
+         */
+        public void add(Reuse part) {
+            total.addAndGet(part.getTotal());
+            reused.addAndGet(part.getReused());
+            failed.addAndGet(part.getFailed());
+        }
+    }
+
+    /**
+     * Traduz o texto reaproveitando segmentos já traduzidos; os demais passam por translator,
+     * que recebe o segmento sem espaços nas bordas. Os espaços originais são preservados
+     * e segmentos com erro voltam no idioma original (contados em reuse.getFailed()).
+     * Todos os segmentos sem cache são entregues ao translator de uma vez; cabe a ele
+     * respeitar o limite de chamadas da requisição
+     */
+    public CompletableFuture<String> translate(String text, String sourceLang, String targetLang, Reuse reuse,
+                                               Function<String, CompletableFuture<String>> translator) {
+        if (!enabled) {
+            return translateOrKeep(text, reuse, translator);
+        }
+
+        List<CompletableFuture<String>> segments = contentDefinedChunker.split(text).stream()
+                .map(segment -> translateSegment(segment, sourceLang, targetLang, reuse, translator))
+                .toList();
+
+        return CompletableFuture.allOf(segments.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> segments.stream().map(CompletableFuture::join).collect(Collectors.joining()));
+    }
+
+    private CompletableFuture<String> translateSegment(String segment, String sourceLang, String targetLang,
+                                                       Reuse reuse, Function<String, CompletableFuture<String>> translator) {
+        String core = textNormalizer.normalize(segment);
+        if (core.isEmpty()) {
+            return CompletableFuture.completedFuture(segment);
+        }
+
+        String leading = textNormalizer.leadingWhitespace(segment);
+        String trailing = textNormalizer.trailingWhitespace(segment);
+        String key = String.format(KEY_FORMAT, sourceLang, targetLang, fingerprint(core));
+        reuse.total.incrementAndGet();
+
+        String cached = lookup(key);
+        if (cached != null) {
+            reuse.reused.incrementAndGet();
+            return CompletableFuture.completedFuture(leading + cached + trailing);
+        }
+
+        return translator.apply(core)
+                .thenApply(translated -> {
+                    // Igual ao original (ex.: nomes, números): nada a memorizar
+                    if (!translated.equals(core)) {
+                        store(key, translated);
+                    }
+                    return leading + translated + trailing;
+                })
+                .exceptionally(e -> {
+                    log.error("Error translating document segment", e);
+                    reuse.failed.incrementAndGet();
+                    return segment; // Fallback, sem memorizar
+                });
+    }
+
+    private CompletableFuture<String> translateOrKeep(String text, Reuse reuse,
+                                                      Function<String, CompletableFuture<String>> translator) {
+        return translator.apply(text).exceptionally(e -> {
+            log.error("Error translating document chunk", e);
+            reuse.failed.incrementAndGet();
+            return text; // Fallback
+        });
+    }
+
+    private String fingerprint(String core) {
+        byte[] canonical = textNormalizer.canonicalize(core).getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(BinaryContent.newSha256().digest(canonical));
+    }
+
+    private String lookup(String key) {
+        try {
+            return cachePort.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Paragraph cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String translated) {
+        try {
+            cachePort.put(key, translated);
+        } catch (RuntimeException e) {
+            log.warn("Could not cache paragraph translation: {}", e.getMessage());
+        }
+    }
+}
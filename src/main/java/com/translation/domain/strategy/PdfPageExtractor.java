@@ -0,0 +1,172 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Extração de PDFs por faixas de páginas em um pool limitado (PDFBox)
+ * Cada worker abre uma única instância do documento (PDDocument não é thread-safe) e consome
+ * as faixas de uma fila compartilhada, extraindo página a página: a falha de uma página não afeta as demais
+ */
+@Slf4j
+@Component
+public class PdfPageExtractor {
+
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+
+    private final ExecutorService workers;
+    private final boolean enabled;
+    private final int pagesPerRange;
+    private final int workerCount;
+
+    public PdfPageExtractor(
+            @Value("${translation.document.pdf.enabled:true}") boolean enabled,
+            @Value("${translation.document.pdf.pages-per-range:10}") int pagesPerRange,
+            @Value("${translation.document.pdf.workers:4}") int workers) {
+        this.enabled = enabled;
+        this.pagesPerRange = pagesPerRange;
+        this.workerCount = workers;
+        this.workers = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "pdf-extract");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Texto de uma página; text é null quando a extração falhou e error também marca
+     * páginas traduzidas só em parte (segmentos que mantiveram o texto original)
+     */
+    public record PageText(int pageNumber, String text, String error) {
+    }
+
+    /**
+     * Habilitado e o conteúdo começa com a assinatura de PDF
+     */
+    public boolean supports(BinaryContent content) {
+        if (!enabled) {
+            return false;
+        }
+        try (InputStream in = content.openStream()) {
+            return Arrays.equals(in.readNBytes(PDF_MAGIC.length), PDF_MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Um future por faixa de páginas, na ordem do documento; cada future completa assim que
+     * a faixa é extraída. Falha (IOException) se o documento não puder ser aberto
+     */
+    public List<CompletableFuture<List<PageText>>> extractRanges(BinaryContent content) throws IOException {
+        PDDocument first = load(content);
+        int pageCount = first.getNumberOfPages();
+        log.info("Extracting PDF with {} pages in ranges of {}", pageCount, pagesPerRange);
+
+        List<CompletableFuture<List<PageText>>> ranges = new ArrayList<>();
+        for (int start = 1; start <= pageCount; start += pagesPerRange) {
+            ranges.add(new CompletableFuture<>());
+        }
+        if (ranges.isEmpty()) {
+            first.close();
+            return ranges;
+        }
+
+        // O documento já aberto para contar as páginas é reaproveitado pelo primeiro worker
+        AtomicInteger nextRange = new AtomicInteger();
+        int tasks = Math.min(workerCount, ranges.size());
+        for (int i = 0; i < tasks; i++) {
+            PDDocument opened = i == 0 ? first : null;
+            workers.execute(() -> drainRanges(content, opened, pageCount, ranges, nextRange));
+        }
+        return ranges;
+    }
+
+    /**
+     * Consome faixas da fila até esvaziá-la, sobre uma única instância do documento.
+     * Se um worker extra não conseguir abrir o documento ele apenas sai: o primeiro worker,
+     * com o documento já aberto, drena a fila até o fim
+     */
+    private void drainRanges(BinaryContent content, PDDocument opened, int pageCount,
+                             List<CompletableFuture<List<PageText>>> ranges, AtomicInteger nextRange) {
+        PDDocument document = opened;
+        if (document == null) {
+            try {
+                document = load(content);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to open PDF in extraction worker: {}", e.getMessage());
+                return;
+            }
+        }
+
+        try {
+            PDFTextStripper stripper = new PDFTextStripper();
+            int index;
+            while ((index = nextRange.getAndIncrement()) < ranges.size()) {
+                int start = index * pagesPerRange + 1;
+                int end = Math.min(start + pagesPerRange - 1, pageCount);
+                ranges.get(index).complete(extractRange(document, stripper, start, end));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Nenhuma faixa pode ficar pendente: o chamador aguarda todas em ordem
+            ranges.forEach(range -> range.completeExceptionally(e));
+        } finally {
+            closeQuietly(document);
+        }
+    }
+
+    private List<PageText> extractRange(PDDocument document, PDFTextStripper stripper, int start, int end) {
+        List<PageText> pages = new ArrayList<>();
+        for (int page = start; page <= end; page++) {
+            try {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                pages.add(new PageText(page, stripper.getText(document), null));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to extract PDF page {}: {}", page, e.getMessage());
+                pages.add(new PageText(page, null, e.getMessage()));
+            }
+        }
+        return pages;
+    }
+
+    private void closeQuietly(PDDocument document) {
+        if (document == null) {
+            return;
+        }
+        try {
+            document.close();
+        } catch (IOException e) {
+            log.debug("Failed to close PDF document: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Uploads em disco são abertos pelo arquivo (acesso aleatório, sem cópia em memória)
+     */
+    private PDDocument load(BinaryContent content) throws IOException {
+        return content.file().isPresent()
+                ? PDDocument.load(content.file().get().toFile())
+                : PDDocument.load(content.readAllBytes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,311 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.port.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache de traduções de imagens por hash perceptual (dHash de 256 bits)
+ * Capturas da mesma tela ou o mesmo banner recodificado/redimensionado geram hashes a poucos
+ * bits de distância: o hash exato é consultado direto no CachePort e os vizinhos próximos
+ * (distância de Hamming até max-distance) são encontrados numa BK-tree em memória por par de idiomas
+ * Antes de reaproveitar (inclusive no hash exato) há uma segunda conferência: a tradução é guardada com
+ * a luminância média de uma grade de 64x64 células, e nenhuma célula pode diferir mais que
+ * MAX_CELL_DIFFERENCE - um caractere trocado (ex.: "Item 1" e "Item 2") não muda o hash de 256 bits,
+ * mas muda as células onde está
+ */
+@Slf4j
+@Component
+public class PerceptualImageCache {
+
+    // phash:origem:destino:hash
+    private static final String KEY_FORMAT = "phash:%s:%s:%s";
+
+    // Grade de 17x16 luminâncias: 16 comparações horizontais por linha = 256 bits
+    private static final int GRID_WIDTH = 17;
+    private static final int GRID_HEIGHT = 16;
+
+    // Diferença mínima de luminância para o bit valer 1: em áreas lisas, o ruído da compressão
+    // JPEG inverteria comparações entre células praticamente iguais
+    private static final double MIN_GRADIENT = 2.0;
+
+    // Conferência: grade de luminâncias guardada junto com a tradução (4 KB por imagem)
+    private static final int CELLS = 64;
+    // Recompressão e redimensionamento mudam a média das células em poucos níveis; texto trocado, em dezenas
+    private static final int MAX_CELL_DIFFERENCE = 12;
+
+    private final CachePort cachePort;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxDistance;
+    private final int maxEntries;
+
+    private final Map<String, BkTree> trees = new ConcurrentHashMap<>();
+
+    public PerceptualImageCache(
+            CachePort cachePort,
+            MeterRegistry meterRegistry,
+            @Value("${translation.image.perceptual-cache.enabled:true}") boolean enabled,
+            @Value("${translation.image.perceptual-cache.max-distance:2}") int maxDistance,
+            @Value("${translation.image.perceptual-cache.max-entries:50000}") int maxEntries) {
+        this.cachePort = cachePort;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxDistance = maxDistance;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Hash de busca (256 bits) e grade de luminâncias da conferência de uma imagem
+     */
+    public record ImageHash(long[] hash, byte[] cells) {
+    }
+
+    /**
+     * Hash de uma imagem já decodificada (a preparada para o envio ou o scan inteiro antes do
+     * recorte em faixas); vazio se desabilitado ou se a imagem não foi decodificada (null)
+     */
+    public Optional<ImageHash> hash(BufferedImage image) {
+        return enabled && image != null ? Optional.of(dHash(image)) : Optional.empty();
+    }
+
+    /**
+     * Tradução armazenada para o mesmo hash ou para o vizinho mais próximo dentro do limite,
+     * desde que a grade de luminâncias guardada com ela confira com a da imagem
+     */
+    public Optional<String> find(ImageHash hash, String sourceLang, String targetLang) {
+        String exact = verified(hash, hash.hash(), sourceLang, targetLang);
+        if (exact != null) {
+            meterRegistry.counter("translation.image.perceptual-cache", "result", "exact").increment();
+            return Optional.of(exact);
+        }
+
+        BkTree tree = trees.get(sourceLang + ':' + targetLang);
+        List<long[]> neighbours = tree == null || maxDistance == 0 ? List.of() : tree.within(hash.hash(), maxDistance);
+        for (long[] neighbour : neighbours) {
+            String similar = verified(hash, neighbour, sourceLang, targetLang);
+            if (similar != null) {
+                log.debug("Reusing translation of a near-identical image (distance {})",
+                        distance(hash.hash(), neighbour));
+                meterRegistry.counter("translation.image.perceptual-cache", "result", "near").increment();
+                return Optional.of(similar);
+            }
+        }
+
+        meterRegistry.counter("translation.image.perceptual-cache", "result", "miss").increment();
+        return Optional.empty();
+    }
+
+    public void put(ImageHash hash, String sourceLang, String targetLang, String translation) {
+        if (translation == null || translation.isEmpty()) {
+            return;
+        }
+        try {
+            // Valor: grade da conferência em base64, quebra de linha, tradução
+            cachePort.put(key(hash.hash(), sourceLang, targetLang),
+                    Base64.getEncoder().encodeToString(hash.cells()) + '\n' + translation);
+        } catch (RuntimeException e) {
+            log.warn("Could not cache image translation: {}", e.getMessage());
+            return;
+        }
+        trees.computeIfAbsent(sourceLang + ':' + targetLang, pair -> new BkTree()).add(hash.hash(), maxEntries);
+    }
+
+    /**
+     * Tradução guardada no hash indicado, se a grade de luminâncias conferir com a da imagem
+     */
+    private String verified(ImageHash image, long[] candidate, String sourceLang, String targetLang) {
+        String value = lookup(key(candidate, sourceLang, targetLang));
+        int separator = value == null ? -1 : value.indexOf('\n');
+        if (separator < 0) {
+            return null;
+        }
+        byte[] cells;
+        try {
+            cells = Base64.getDecoder().decode(value.substring(0, separator));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!matches(image.cells(), cells)) {
+            meterRegistry.counter("translation.image.perceptual-cache", "result", "rejected").increment();
+            return null;
+        }
+        return value.substring(separator + 1);
+    }
+
+    static boolean matches(byte[] a, byte[] b) {
+        if (a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (Math.abs((a[i] & 0xFF) - (b[i] & 0xFF)) > MAX_CELL_DIFFERENCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * dHash: luminância média de cada célula da grade comparada com a célula à direita;
+     * a grade da conferência é acumulada na mesma passada pelos pixels
+     */
+    static ImageHash dHash(BufferedImage image) {
+        double[] sums = new double[GRID_WIDTH * GRID_HEIGHT];
+        int[] counts = new int[GRID_WIDTH * GRID_HEIGHT];
+        double[] cellSums = new double[CELLS * CELLS];
+        int[] cellCounts = new int[CELLS * CELLS];
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int cellRow = y * GRID_HEIGHT / height * GRID_WIDTH;
+            int checkRow = y * CELLS / height * CELLS;
+            for (int x = 0; x < width; x++) {
+                int rgb = row[x];
+                double luminance = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                int cell = cellRow + x * GRID_WIDTH / width;
+                sums[cell] += luminance;
+                counts[cell]++;
+                int checkCell = checkRow + x * CELLS / width;
+                cellSums[checkCell] += luminance;
+                cellCounts[checkCell]++;
+            }
+        }
+
+        byte[] cells = new byte[CELLS * CELLS];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = (byte) Math.round(mean(cellSums, cellCounts, i));
+        }
+
+        long[] hash = new long[GRID_HEIGHT * (GRID_WIDTH - 1) / Long.SIZE];
+        int bit = 0;
+        for (int y = 0; y < GRID_HEIGHT; y++) {
+            for (int x = 0; x < GRID_WIDTH - 1; x++, bit++) {
+                int cell = y * GRID_WIDTH + x;
+                if (mean(sums, counts, cell) - mean(sums, counts, cell + 1) > MIN_GRADIENT) {
+                    hash[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+                }
+            }
+        }
+        return new ImageHash(hash, cells);
+    }
+
+    static int distance(long[] a, long[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Long.bitCount(a[i] ^ b[i]);
+        }
+        return distance;
+    }
+
+    private static double mean(double[] sums, int[] counts, int cell) {
+        // Imagens menores que a grade deixam células vazias
+        return counts[cell] == 0 ? 0 : sums[cell] / counts[cell];
+    }
+
+    private String lookup(String key) {
+        try {
+            return cachePort.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Perceptual image cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String key(long[] hash, String sourceLang, String targetLang) {
+        StringBuilder hex = new StringBuilder(hash.length * 16);
+        for (long part : hash) {
+            hex.append(HexFormat.of().toHexDigits(part));
+        }
+        return String.format(KEY_FORMAT, sourceLang, targetLang, hex);
+    }
+
+    /**
+     * BK-tree sobre a distância de Hamming: filhos indexados pela distância ao pai, e a busca
+     * só desce nos filhos cuja distância está a no máximo maxDistance da distância da consulta
+     */
+    private static final class BkTree {
+
+        private Node root;
+        private int size;
+
+        synchronized void add(long[] hash, int maxEntries) {
+            if (size >= maxEntries) {
+                // Sem remoção na BK-tree: recomeça; os hashes exatos continuam no CachePort
+                root = null;
+                size = 0;
+            }
+            if (root == null) {
+                root = new Node(hash);
+                size = 1;
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int distance = distance(hash, node.hash);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(hash));
+                    size++;
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        /**
+         * Vizinhos a no máximo maxDistance da consulta (o próprio hash é o acerto exato),
+         * do mais próximo ao mais distante
+         */
+        synchronized List<long[]> within(long[] hash, int maxDistance) {
+            List<long[]> found = new ArrayList<>();
+            Deque<Node> pending = new ArrayDeque<>();
+            if (root != null) {
+                pending.push(root);
+            }
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                int distance = distance(hash, node.hash);
+                if (distance > 0 && distance <= maxDistance) {
+                    found.add(node.hash);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                        pending.push(child.getValue());
+                    }
+                }
+            }
+            found.sort(Comparator.comparingInt(candidate -> distance(hash, candidate)));
+            return found;
+        }
+    }
+
+    private static final class Node {
+
+        private final long[] hash;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(long[] hash) {
+            this.hash = hash;
+        }
+    }
+}
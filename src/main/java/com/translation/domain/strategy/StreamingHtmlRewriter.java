@@ -0,0 +1,630 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.CacheKeyGenerator;
+import com.translation.domain.text.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.parser.Parser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tradução de páginas HTML grandes sem montar o DOM
+ * Um tokenizador simples lê o HTML em streaming e copia a marcação como está; textos e os atributos
+ * traduzíveis (alt, placeholder, meta description, title) ficam numa janela limitada de segmentos
+ * pendentes, traduzida em lotes (cache + PackedTextTranslator) e escrita na saída antes de continuar.
+ * Textos corridos são cortados no limite de bytes de uma chamada, e o conteúdo de script/style
+ * é copiado em partes: a memória depende do tamanho da janela, não do tamanho da página
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingHtmlRewriter {
+
+    public static final String HTML_CONTENT_TYPE = "text/html";
+    public static final String XHTML_CONTENT_TYPE = "application/xhtml+xml";
+
+    // Conteúdo copiado sem tradução até a tag de fechamento
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style");
+    // Conteúdo traduzido como texto puro até a tag de fechamento
+    private static final Set<String> RCDATA_TAGS = Set.of("title", "textarea");
+
+    private static final Pattern TAG_NAME = Pattern.compile("^</?([a-zA-Z][a-zA-Z0-9:-]*)");
+    private static final Pattern ATTRIBUTE = Pattern.compile(
+            "([^\\s\"'>/=]+)(?:\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'=<>`]+)))?");
+    private static final Pattern META_CHARSET = Pattern.compile(
+            "<meta[^>]+charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+    private static final int CHARSET_SNIFF_BYTES = 4096;
+    // Conteúdo de script/style copiado para a saída em partes deste tamanho
+    private static final int RAW_COPY_CHARS = 8192;
+    // Lookahead para reconhecer a tag de fechamento ("/textarea")
+    private static final int PUSHBACK_CHARS = 16;
+    // Entidade incompleta no fim de um corte forçado (ex.: "&#x4e2")
+    private static final int MAX_ENTITY_CHARS = 32;
+
+    private final PackedTextTranslator packedTextTranslator;
+    private final CachePort cachePort;
+    private final CacheKeyGenerator cacheKeyGenerator;
+    private final TextNormalizer textNormalizer;
+
+    // Texto acumulado por lote de tradução
+    @Value("${translation.html.streaming.batch-bytes:32000}")
+    private int batchBytes = 32000;
+
+    // Segmentos pendentes por lote (muitos textos curtos)
+    @Value("${translation.html.streaming.max-pending-segments:2000}")
+    private int maxPendingSegments = 2000;
+
+    // Marcação retida enquanto há segmentos pendentes
+    @Value("${translation.html.streaming.max-pending-chars:1048576}")
+    private int maxPendingChars = 1_048_576;
+
+    // Um texto corrido nunca passa do limite UTF-8 de uma chamada ao AWS Translate
+    @Value("${translation.packing.max-bytes:9000}")
+    private int segmentMaxBytes = 9000;
+
+    public boolean supports(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String mimeType = contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        return HTML_CONTENT_TYPE.equals(mimeType) || XHTML_CONTENT_TYPE.equals(mimeType);
+    }
+
+    /**
+     * Escreve a página traduzida em target, na codificação original; target não é fechado
+     */
+    public void rewrite(BinaryContent content, OutputStream target, String sourceLang, String targetLang)
+            throws IOException {
+        try (InputStream in = new BufferedInputStream(content.openStream())) {
+            Charset charset = detectCharset(in);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, charset));
+            rewrite(new InputStreamReader(in, charset), writer, charset.newEncoder(), sourceLang, targetLang);
+            writer.flush();
+        }
+    }
+
+    /**
+     * Página traduzida como texto (resposta JSON); caracteres fora da codificação da página
+     * continuam escapados, como na saída do DOM
+     */
+    public String rewrite(BinaryContent content, String sourceLang, String targetLang) throws IOException {
+        try (InputStream in = new BufferedInputStream(content.openStream())) {
+            Charset charset = detectCharset(in);
+            StringWriter writer = new StringWriter();
+            rewrite(new InputStreamReader(in, charset), writer, charset.newEncoder(), sourceLang, targetLang);
+            return writer.toString();
+        }
+    }
+
+    private void rewrite(Reader source, Writer target, CharsetEncoder encoder, String sourceLang, String targetLang)
+            throws IOException {
+        PushbackReader reader = new PushbackReader(new BufferedReader(source), PUSHBACK_CHARS);
+        PageRewriter page = new PageRewriter(reader, target, encoder, sourceLang, targetLang);
+        page.run();
+
+        log.info("Streamed HTML translation: {} segments ({} from cache) in {} batches",
+                page.segments, page.cacheHits, page.batches);
+    }
+
+    /**
+     * BOM ou meta charset nos primeiros bytes; UTF-8 por padrão
+     */
+    private Charset detectCharset(InputStream in) throws IOException {
+        in.mark(CHARSET_SNIFF_BYTES);
+        byte[] head = in.readNBytes(CHARSET_SNIFF_BYTES);
+        in.reset();
+
+        if (head.length >= 2 && (head[0] & 0xFF) == 0xFE && (head[1] & 0xFF) == 0xFF
+                || head.length >= 2 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16;
+        }
+
+        Matcher matcher = META_CHARSET.matcher(new String(head, StandardCharsets.ISO_8859_1));
+        if (matcher.find()) {
+            try {
+                return Charset.forName(matcher.group(1));
+            } catch (IllegalArgumentException e) {
+                log.warn("Unknown HTML charset {}, using UTF-8", matcher.group(1));
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Texto traduzível: raw é o trecho original (com entidades), core o texto a traduzir
+     */
+    private record Segment(String raw, String leading, String core, String trailing, char quote) {
+    }
+
+    /**
+     * Estado de uma página: leitura, janela de segmentos pendentes e escrita
+     */
+    private final class PageRewriter {
+
+        private final PushbackReader reader;
+        private final Writer writer;
+        private final CharsetEncoder encoder;
+        private final String sourceLang;
+        private final String targetLang;
+
+        // String (copiada como está) ou Segment, na ordem do documento
+        private final List<Object> pending = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private int textBytes;
+        // Posição logo após o último espaço do texto corrido (0: nenhum)
+        private int textCut;
+        private int pendingSegments;
+        private int pendingBytes;
+        private int pendingChars;
+
+        private int segments;
+        private int cacheHits;
+        private int batches;
+
+        private PageRewriter(PushbackReader reader, Writer writer, CharsetEncoder encoder,
+                             String sourceLang, String targetLang) {
+            this.reader = reader;
+            this.writer = writer;
+            this.encoder = encoder;
+            this.sourceLang = sourceLang;
+            this.targetLang = targetLang;
+        }
+
+        private void run() throws IOException {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c != '<') {
+                    appendText((char) c);
+                    continue;
+                }
+
+                int next = reader.read();
+                if (next == '!' || next == '?') {
+                    flushText();
+                    emitLiteral(readDeclaration((char) next));
+                } else if (next == '/' || isAsciiLetter(next)) {
+                    flushText();
+                    handleTag("<" + (char) next + readUntilTagEnd());
+                } else {
+                    appendText('<');
+                    if (next != -1) {
+                        reader.unread(next);
+                    }
+                }
+            }
+            flushText();
+            flush();
+        }
+
+        private void handleTag(String tag) throws IOException {
+            Matcher nameMatcher = TAG_NAME.matcher(tag);
+            if (!nameMatcher.find()) {
+                emitLiteral(tag);
+                return;
+            }
+            String name = nameMatcher.group(1).toLowerCase(Locale.ROOT);
+            boolean endTag = tag.startsWith("</");
+            boolean selfClosing = tag.endsWith("/>");
+
+            if (endTag) {
+                emitLiteral(tag);
+                return;
+            }
+
+            emitTag(name, tag, nameMatcher.end());
+
+            if (selfClosing || !(RAW_TEXT_TAGS.contains(name) || RCDATA_TAGS.contains(name))) {
+                return;
+            }
+            String closing = RAW_TEXT_TAGS.contains(name) ? copyRawText(name) : readRcdata(name);
+            if (closing != null) {
+                emitLiteral(closing + readUntilTagEnd());
+            }
+        }
+
+        /**
+         * Conteúdo de script/style copiado em partes, sem acumular o corpo do elemento;
+         * retorna o início da tag de fechamento ou null se o documento terminar antes
+         */
+        private String copyRawText(String name) throws IOException {
+            StringBuilder chunk = new StringBuilder();
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '<' && isEndTag(name)) {
+                    emitLiteral(chunk.toString());
+                    return "</" + readChars(name.length());
+                }
+                chunk.append((char) c);
+                if (chunk.length() >= RAW_COPY_CHARS) {
+                    emitLiteral(chunk.toString());
+                    chunk.setLength(0);
+                }
+            }
+            emitLiteral(chunk.toString());
+            return null;
+        }
+
+        /**
+         * Conteúdo de title/textarea traduzido como texto corrido, com os mesmos cortes por bytes
+         */
+        private String readRcdata(String name) throws IOException {
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '<' && isEndTag(name)) {
+                    flushText();
+                    return "</" + readChars(name.length());
+                }
+                appendText((char) c);
+            }
+            flushText();
+            return null;
+        }
+
+        /**
+         * Depois de um '<': a entrada continua com "/name" (sem diferenciar maiúsculas)? Nada é consumido
+         */
+        private boolean isEndTag(String name) throws IOException {
+            char[] ahead = new char[name.length() + 1];
+            int read = 0;
+            int n;
+            while (read < ahead.length && (n = reader.read(ahead, read, ahead.length - read)) > 0) {
+                read += n;
+            }
+            if (read > 0) {
+                reader.unread(ahead, 0, read);
+            }
+            return read == ahead.length && ahead[0] == '/'
+                    && new String(ahead, 1, name.length()).equalsIgnoreCase(name);
+        }
+
+        private String readChars(int count) throws IOException {
+            char[] chars = new char[count + 1];
+            int read = 0;
+            int n;
+            while (read < chars.length && (n = reader.read(chars, read, chars.length - read)) > 0) {
+                read += n;
+            }
+            return new String(chars, 1, read - 1);
+        }
+
+        /**
+         * Copia a tag, transformando em segmentos os atributos traduzíveis
+         */
+        private void emitTag(String name, String tag, int attributesStart) throws IOException {
+            String translatable = translatableAttribute(name, tag, attributesStart);
+            if (translatable == null) {
+                emitLiteral(tag);
+                return;
+            }
+
+            Matcher attribute = ATTRIBUTE.matcher(tag);
+            attribute.region(attributesStart, tag.length());
+            int copied = 0;
+            while (attribute.find()) {
+                if (!attribute.group(1).equalsIgnoreCase(translatable)) {
+                    continue;
+                }
+                int group = attribute.group(2) != null ? 2 : attribute.group(3) != null ? 3 : attribute.group(4) != null ? 4 : 0;
+                if (group == 0) {
+                    continue;
+                }
+                char quote = group == 3 ? '\'' : '"';
+                emitLiteral(tag.substring(copied, attribute.start(group)) + (group == 4 ? "\"" : ""));
+                emitSegment(attribute.group(group), true, quote);
+                copied = attribute.end(group);
+                if (group == 4) {
+                    emitLiteral("\"");
+                }
+            }
+            emitLiteral(tag.substring(copied));
+        }
+
+        /**
+         * Os mesmos atributos traduzidos pelo HtmlTranslationStrategy
+         */
+        private String translatableAttribute(String name, String tag, int attributesStart) {
+            switch (name) {
+                case "img":
+                    return "alt";
+                case "input":
+                case "textarea":
+                    return "placeholder";
+                case "meta":
+                    Matcher attribute = ATTRIBUTE.matcher(tag);
+                    attribute.region(attributesStart, tag.length());
+                    while (attribute.find()) {
+                        String value = attribute.group(2) != null ? attribute.group(2)
+                                : attribute.group(3) != null ? attribute.group(3) : attribute.group(4);
+                        if (attribute.group(1).equalsIgnoreCase("name") && "description".equalsIgnoreCase(value)) {
+                            return "content";
+                        }
+                    }
+                    return null;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Acumula texto corrido; antes de passar do limite de bytes, corta no último espaço
+         * ou, sem espaços (ex.: CJK), onde está
+         */
+        private void appendText(char c) throws IOException {
+            int bytes = utf8Length(c);
+            if (textBytes + bytes > segmentMaxBytes && !text.isEmpty()) {
+                cutText();
+            }
+            text.append(c);
+            textBytes += bytes;
+            if (Character.isWhitespace(c)) {
+                textCut = text.length();
+            }
+        }
+
+        private void cutText() throws IOException {
+            int cut = textCut > 0 ? textCut : forcedCut();
+            String rest = text.substring(cut);
+            text.setLength(cut);
+            flushText();
+            text.append(rest);
+            textBytes = utf8Length(rest);
+        }
+
+        /**
+         * Corte sem espaços: não separa um par surrogate nem uma entidade ainda incompleta
+         */
+        private int forcedCut() {
+            int cut = text.length();
+            if (Character.isHighSurrogate(text.charAt(cut - 1))) {
+                cut--;
+            }
+            int entity = text.lastIndexOf("&");
+            if (entity > 0 && text.indexOf(";", entity) < 0 && cut - entity < MAX_ENTITY_CHARS) {
+                cut = entity;
+            }
+            return cut > 0 ? cut : text.length();
+        }
+
+        private void flushText() throws IOException {
+            if (!text.isEmpty()) {
+                emitText(text.toString());
+                text.setLength(0);
+            }
+            textBytes = 0;
+            textCut = 0;
+        }
+
+        private void emitText(String raw) throws IOException {
+            emitSegment(raw, false, '"');
+        }
+
+        private void emitSegment(String raw, boolean attribute, char quote) throws IOException {
+            String unescaped = Parser.unescapeEntities(raw, attribute);
+            String core = textNormalizer.normalize(unescaped);
+            // Sem letras (espaços, números, pontuação): copiado como está
+            if (core.codePoints().noneMatch(Character::isLetter)) {
+                emitLiteral(raw);
+                return;
+            }
+
+            pending.add(new Segment(raw, textNormalizer.leadingWhitespace(unescaped), core,
+                    textNormalizer.trailingWhitespace(unescaped), attribute ? quote : 0));
+            pendingSegments++;
+            pendingBytes += core.getBytes(StandardCharsets.UTF_8).length;
+            if (pendingBytes >= batchBytes || pendingSegments >= maxPendingSegments) {
+                flush();
+            }
+        }
+
+        private void emitLiteral(String literal) throws IOException {
+            if (literal.isEmpty()) {
+                return;
+            }
+            if (pendingSegments == 0) {
+                write(literal);
+            } else {
+                pending.add(literal);
+                pendingChars += literal.length();
+                if (pendingChars >= maxPendingChars) {
+                    flush();
+                }
+            }
+        }
+
+        /**
+         * Traduz os segmentos pendentes (distintos, cache primeiro) e escreve a janela na saída
+         */
+        private void flush() throws IOException {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            Map<String, String> translations = new LinkedHashMap<>();
+            for (Object piece : pending) {
+                if (piece instanceof Segment segment) {
+                    translations.putIfAbsent(segment.core(), null);
+                }
+            }
+
+            List<String> misses = new ArrayList<>();
+            for (Map.Entry<String, String> entry : translations.entrySet()) {
+                String cached = lookup(cacheKeyGenerator.generate(entry.getKey(), sourceLang, targetLang));
+                if (cached != null) {
+                    entry.setValue(cached);
+                    cacheHits++;
+                } else {
+                    misses.add(entry.getKey());
+                }
+            }
+
+            BitSet fallbacks = new BitSet();
+            List<String> translated = packedTextTranslator.translate(misses, sourceLang, targetLang, fallbacks);
+            for (int i = 0; i < misses.size(); i++) {
+                translations.put(misses.get(i), translated.get(i));
+                // Fallback de erro ou igual ao original (texto sem tradução): nada a armazenar
+                if (!fallbacks.get(i) && !translated.get(i).equals(misses.get(i))) {
+                    store(cacheKeyGenerator.generate(misses.get(i), sourceLang, targetLang), translated.get(i));
+                }
+            }
+
+            for (Object piece : pending) {
+                if (piece instanceof Segment segment) {
+                    String translation = translations.get(segment.core());
+                    write(translation.equals(segment.core())
+                            ? segment.raw()
+                            : escape(segment.leading() + translation + segment.trailing(), segment.quote()));
+                    segments++;
+                } else {
+                    write((String) piece);
+                }
+            }
+
+            pending.clear();
+            pendingSegments = 0;
+            pendingBytes = 0;
+            pendingChars = 0;
+            batches++;
+        }
+
+        /**
+         * Escapa para texto ou atributo; caracteres fora da codificação da página viram referências numéricas
+         */
+        private String escape(String value, char quote) {
+            StringBuilder escaped = new StringBuilder(value.length() + 16);
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&' -> escaped.append("&amp;");
+                    case '<' -> escaped.append("&lt;");
+                    case '>' -> escaped.append("&gt;");
+                    case '\u00A0' -> escaped.append("&nbsp;");
+                    default -> {
+                        if (c == quote) {
+                            escaped.append(c == '"' ? "&quot;" : "&#39;");
+                        } else if (Character.isHighSurrogate(c) && i + 1 < value.length()) {
+                            String pair = value.substring(i, i + 2);
+                            escaped.append(encoder.canEncode(pair) ? pair : "&#x" + Integer.toHexString(pair.codePointAt(0)) + ";");
+                            i++;
+                        } else {
+                            escaped.append(encoder.canEncode(c) ? String.valueOf(c) : "&#x" + Integer.toHexString(c) + ";");
+                        }
+                    }
+                }
+            }
+            return escaped.toString();
+        }
+
+        private String readUntilTagEnd() throws IOException {
+            StringBuilder tag = new StringBuilder();
+            char quote = 0;
+            int c;
+            while ((c = reader.read()) != -1) {
+                tag.append((char) c);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = (char) c;
+                } else if (c == '>') {
+                    break;
+                }
+            }
+            return tag.toString();
+        }
+
+        /**
+         * Comentários, doctype, CDATA e instruções de processamento, copiados como estão
+         */
+        private String readDeclaration(char first) throws IOException {
+            StringBuilder declaration = new StringBuilder("<").append(first);
+            String terminator = ">";
+            int c;
+            while ((c = reader.read()) != -1) {
+                declaration.append((char) c);
+                if (declaration.length() == 4 && declaration.toString().equals("<!--")) {
+                    terminator = "-->";
+                } else if (declaration.length() == 9 && declaration.toString().equals("<![CDATA[")) {
+                    terminator = "]]>";
+                }
+                if (declaration.length() > 4 && endsWith(declaration, terminator)) {
+                    break;
+                }
+            }
+            return declaration.toString();
+        }
+
+        private void write(String value) throws IOException {
+            writer.write(value);
+        }
+    }
+
+    private String lookup(String key) {
+        try {
+            return cachePort.get(key);
+        } catch (RuntimeException e) {
+            log.warn("HTML cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(String key, String translated) {
+        try {
+            cachePort.put(key, translated);
+        } catch (RuntimeException e) {
+            log.warn("Could not cache HTML translation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Bytes UTF-8 de um char; cada metade de um par surrogate conta 2 (4 no total)
+     */
+    private static int utf8Length(char c) {
+        return c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+    }
+
+    private static int utf8Length(CharSequence text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            bytes += utf8Length(text.charAt(i));
+        }
+        return bytes;
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean endsWith(StringBuilder value, String suffix) {
+        int start = value.length() - suffix.length();
+        return start >= 0 && value.indexOf(suffix, start) == start;
+    }
+}
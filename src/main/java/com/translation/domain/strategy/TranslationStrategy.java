@@ -1,5 +1,7 @@
 package com.translation.domain.strategy;
 
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
 import com.translation.domain.model.TranslationType;
 
 import java.util.List;
@@ -18,13 +20,21 @@ public interface TranslationStrategy {
     /**
      * Traduz conteúdo binário (documentos/imagens)
      */
-    String translateBinary(byte[] content, String sourceLang, String targetLang);
+    BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang);
     
     /**
      * Verifica se esta estratégia suporta o tipo especificado
      */
     boolean supports(TranslationType type);
     
+    /**
+     * Verifica se esta estratégia atende o par de idiomas; várias estratégias podem
+     * disputar o mesmo tipo, e a fábrica escolhe a primeira (por @Order) que atender
+     */
+    default boolean supportsLanguagePair(String sourceLang, String targetLang) {
+        return true;
+    }
+    
     /**
      * Retorna o tipo suportado por esta estratégia
      */
@@ -0,0 +1,26 @@
+package com.translation.domain.text;
+
+import com.translation.domain.model.BinaryContent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+/**
+ * Gera as chaves de cache de tradução a partir da forma canônica do texto
+ * Compartilhado entre CacheConsultStep, CacheSaveStep e as unidades de HTML; o SHA-256 evita
+ * que textos diferentes com o mesmo hash de 32 bits recebam a tradução um do outro
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheKeyGenerator {
+
+    private final TextNormalizer textNormalizer;
+
+    public String generate(String text, String sourceLang, String targetLang) {
+        byte[] canonical = textNormalizer.canonicalize(text).getBytes(StandardCharsets.UTF_8);
+        return String.format("%s:%s:%s", sourceLang, targetLang,
+                HexFormat.of().formatHex(BinaryContent.newSha256().digest(canonical)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.translation.domain.text;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Divide textos em segmentos definidos pelo conteúdo (content-defined chunking)
+ * Sempre corta entre parágrafos; parágrafos longos são cortados onde o hash Gear dos
+ * últimos caracteres atinge a máscara, sempre após um espaço. Como o hash só depende
+ * da vizinhança, uma edição altera apenas os segmentos ao redor dela e as fronteiras
+ * seguintes continuam as mesmas entre versões do documento.
+ * A concatenação dos segmentos reproduz exatamente o texto original.
+ */
+@Component
+public class ContentDefinedChunker {
+
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\h*\\n\\s*");
+
+    // Tabela fixa: as fronteiras precisam ser as mesmas entre execuções e instâncias
+    private static final long[] GEAR = new SplittableRandom(0x5EED_C0DEL).longs(256).toArray();
+
+    private final int minChars;
+    private final int maxChars;
+    private final int maskBits;
+
+    public ContentDefinedChunker(
+            @Value("${translation.document.incremental.min-chars:512}") int minChars,
+            @Value("${translation.document.incremental.avg-chars:2048}") int avgChars,
+            @Value("${translation.document.incremental.max-chars:3000}") int maxChars) {
+        this.minChars = minChars;
+        this.maxChars = maxChars;
+        // O teste só ocorre após espaços (~1 a cada 6 caracteres)
+        this.maskBits = Math.max(1, 31 - Integer.numberOfLeadingZeros(Math.max(2, (avgChars - minChars) / 6)));
+    }
+
+    public List<String> split(String text) {
+        List<String> segments = new ArrayList<>();
+
+        Matcher matcher = PARAGRAPH_BREAK.matcher(text);
+        int start = 0;
+        while (matcher.find()) {
+            splitParagraph(text, start, matcher.end(), segments);
+            start = matcher.end();
+        }
+        splitParagraph(text, start, text.length(), segments);
+
+        return segments;
+    }
+
+    private void splitParagraph(String text, int start, int end, List<String> segments) {
+        if (start >= end) {
+            return;
+        }
+
+        long hash = 0;
+        int segmentStart = start;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            hash = (hash << 1) + GEAR[(c ^ (c >>> 8)) & 0xFF];
+
+            int length = i + 1 - segmentStart;
+            if (length < minChars || i + 1 == end) {
+                continue;
+            }
+
+            boolean boundary = Character.isWhitespace(c) && (hash >>> (64 - maskBits)) == 0;
+            // Sem fronteira natural: corta no limite, sem separar pares surrogate
+            boolean forced = length >= maxChars && (Character.isWhitespace(c)
+                    || (length >= 2 * maxChars && !Character.isHighSurrogate(c)));
+            if (boundary || forced) {
+                segments.add(text.substring(segmentStart, i + 1));
+                segmentStart = i + 1;
+            }
+        }
+        segments.add(text.substring(segmentStart, end));
+    }
+}
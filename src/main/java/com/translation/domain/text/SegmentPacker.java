@@ -0,0 +1,98 @@
+package com.translation.domain.text;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Empacota vários segmentos em um único texto para o serviço de tradução
+ * Os segmentos são separados por marcadores numerados que o motor preserva,
+ * e a resposta é dividida de volta validando a sequência dos marcadores
+ */
+@Component
+public class SegmentPacker {
+
+    private static final String MARKER_FORMAT = "\n[[#%d]]\n";
+    private static final Pattern MARKER = Pattern.compile("\\s*\\[\\[#(\\d+)]]\\s*");
+
+    /**
+     * Agrupa os índices dos segmentos em pacotes de até maxBytes (UTF-8), incluindo os marcadores.
+     * Segmentos que contêm um marcador ou excedem o limite sozinhos ficam em pacotes unitários.
+     */
+    public List<List<Integer>> pack(List<String> segments, int maxBytes) {
+        List<List<Integer>> packs = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        int currentBytes = 0;
+
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            int bytes = utf8Length(segment);
+
+            if (!isPackable(segment) || bytes >= maxBytes) {
+                packs.add(List.of(i));
+                continue;
+            }
+
+            int markerBytes = current.isEmpty() ? 0 : utf8Length(String.format(MARKER_FORMAT, current.size()));
+            if (!current.isEmpty() && currentBytes + markerBytes + bytes > maxBytes) {
+                packs.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+                markerBytes = 0;
+            }
+
+            current.add(i);
+            currentBytes += markerBytes + bytes;
+        }
+
+        if (!current.isEmpty()) {
+            packs.add(current);
+        }
+        return packs;
+    }
+
+    public String join(List<String> segments) {
+        StringBuilder joined = new StringBuilder(segments.get(0));
+        for (int i = 1; i < segments.size(); i++) {
+            joined.append(String.format(MARKER_FORMAT, i)).append(segments.get(i));
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Divide a tradução empacotada; vazio se os marcadores não vierem exatamente em sequência
+     */
+    public Optional<List<String>> split(String packed, int expectedSegments) {
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = MARKER.matcher(packed);
+        int start = 0;
+        int expectedMarker = 1;
+
+        while (matcher.find()) {
+            if (Integer.parseInt(matcher.group(1)) != expectedMarker++) {
+                return Optional.empty();
+            }
+            parts.add(packed.substring(start, matcher.start()).strip());
+            start = matcher.end();
+        }
+        parts.add(packed.substring(start).strip());
+
+        if (parts.size() != expectedSegments || parts.stream().anyMatch(String::isEmpty)) {
+            return Optional.empty();
+        }
+        return Optional.of(parts);
+    }
+
+    public int utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private boolean isPackable(String segment) {
+        return !segment.isBlank() && !MARKER.matcher(segment).find();
+    }
+}
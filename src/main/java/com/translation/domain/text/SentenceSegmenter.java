@@ -0,0 +1,86 @@
+package com.translation.domain.text;
+
+import org.springframework.stereotype.Component;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Segmentação de textos em sentenças usando BreakIterator com regras por idioma
+ * A concatenação dos segmentos retornados reproduz exatamente o texto original
+ */
+@Component
+public class SentenceSegmenter {
+
+    // Abreviações que não encerram sentença (BreakIterator quebra após "Dr. Silva")
+    private static final Map<String, Set<String>> ABBREVIATIONS = Map.of(
+            "en", Set.of("mr.", "mrs.", "ms.", "dr.", "prof.", "st.", "jr.", "sr.", "vs.", "etc.", "e.g.", "i.e.", "inc.", "ltd.", "no.", "approx."),
+            "pt", Set.of("sr.", "sra.", "srta.", "dr.", "dra.", "prof.", "profa.", "av.", "etc.", "p.ex.", "nº.", "n.", "pág.", "ltda.", "obs.", "aprox."),
+            "es", Set.of("sr.", "sra.", "srta.", "dr.", "dra.", "ud.", "uds.", "prof.", "av.", "etc.", "p.ej.", "núm.", "pág.", "aprox."),
+            "fr", Set.of("m.", "mme.", "mlle.", "dr.", "pr.", "av.", "etc.", "p.ex.", "n°.", "env."),
+            "de", Set.of("hr.", "fr.", "dr.", "prof.", "str.", "z.b.", "bzw.", "usw.", "ca.", "nr.", "d.h.", "evtl."),
+            "it", Set.of("sig.", "sig.ra.", "dott.", "prof.", "ecc.", "es.", "n.", "pag.", "ca.")
+    );
+
+    /**
+     * Divide o texto em sentenças, preservando espaços e quebras de linha em cada segmento
+     */
+    public List<String> split(String text, String language) {
+        List<String> sentences = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return sentences;
+        }
+
+        Locale locale = language != null ? Locale.forLanguageTag(language) : Locale.ROOT;
+        Set<String> abbreviations = ABBREVIATIONS.getOrDefault(locale.getLanguage(), Set.of());
+
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+
+        StringBuilder pending = new StringBuilder();
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            pending.append(text, start, end);
+
+            if (end < text.length() && endsWithAbbreviation(pending, abbreviations, locale)) {
+                continue; // Junta com a próxima sentença
+            }
+
+            sentences.add(pending.toString());
+            pending.setLength(0);
+        }
+
+        if (!pending.isEmpty()) {
+            sentences.add(pending.toString());
+        }
+
+        return sentences;
+    }
+
+    private boolean endsWithAbbreviation(CharSequence sentence, Set<String> abbreviations, Locale locale) {
+        String value = sentence.toString();
+        String trimmed = value.strip();
+        if (!trimmed.endsWith(".")) {
+            return false;
+        }
+
+        // Quebras de linha encerram a sentença mesmo após abreviações
+        if (value.substring(value.stripTrailing().length()).contains("\n")) {
+            return false;
+        }
+
+        int lastSpace = Math.max(trimmed.lastIndexOf(' '), trimmed.lastIndexOf('\n'));
+        String lastToken = trimmed.substring(lastSpace + 1);
+
+        // Iniciais de nomes ("J. Silva")
+        if (lastToken.length() == 2 && Character.isUpperCase(lastToken.charAt(0))) {
+            return true;
+        }
+
+        return abbreviations.contains(lastToken.toLowerCase(locale));
+    }
+}
@@ -0,0 +1,130 @@
+package com.translation.domain.text;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Divide textos longos em chunks de até N bytes UTF-8 para o serviço de tradução
+ * Corta preferencialmente entre parágrafos, depois entre sentenças e, só para sentenças
+ * maiores que o limite, entre palavras - nunca no meio de um par surrogate.
+ * A concatenação dos chunks reproduz exatamente o texto original.
+ */
+@Component
+@RequiredArgsConstructor
+public class TextChunker {
+
+    private static final Pattern PARAGRAPH_BREAK = Pattern.compile("\\n\\h*\\n\\s*");
+
+    private final SentenceSegmenter sentenceSegmenter;
+
+    public List<String> chunk(String text, String language, int maxBytes) {
+        // Peças que cabem no limite, na ordem do texto
+        List<String> pieces = new ArrayList<>();
+        for (String paragraph : splitParagraphs(text)) {
+            if (utf8Length(paragraph) <= maxBytes) {
+                pieces.add(paragraph);
+                continue;
+            }
+            for (String sentence : sentenceSegmenter.split(paragraph, language)) {
+                if (utf8Length(sentence) <= maxBytes) {
+                    pieces.add(sentence);
+                } else {
+                    pieces.addAll(splitOversized(sentence, maxBytes));
+                }
+            }
+        }
+
+        // Agrupa as peças consecutivas até o limite de bytes
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentBytes = 0;
+        for (String piece : pieces) {
+            int bytes = utf8Length(piece);
+            if (currentBytes + bytes > maxBytes && !current.isEmpty()) {
+                chunks.add(current.toString());
+                current.setLength(0);
+                currentBytes = 0;
+            }
+            current.append(piece);
+            currentBytes += bytes;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current.toString());
+        }
+
+        return chunks;
+    }
+
+    private List<String> splitParagraphs(String text) {
+        List<String> paragraphs = new ArrayList<>();
+        Matcher matcher = PARAGRAPH_BREAK.matcher(text);
+        int start = 0;
+        while (matcher.find()) {
+            paragraphs.add(text.substring(start, matcher.end()));
+            start = matcher.end();
+        }
+        if (start < text.length()) {
+            paragraphs.add(text.substring(start));
+        }
+        return paragraphs;
+    }
+
+    /**
+     * Divide uma sentença maior que o limite no último espaço possível,
+     * ou na fronteira de code point quando não há espaços
+     */
+    private List<String> splitOversized(String text, int maxBytes) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int bytes = 0;
+        int lastBreak = -1;
+        int i = 0;
+
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            int codePointBytes = utf8Length(codePoint);
+
+            if (bytes + codePointBytes > maxBytes) {
+                int cut = lastBreak > start ? lastBreak : i;
+                parts.add(text.substring(start, cut));
+                start = cut;
+                bytes = utf8Length(text.substring(start, i));
+                lastBreak = -1;
+                continue;
+            }
+
+            bytes += codePointBytes;
+            i += Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint)) {
+                lastBreak = i;
+            }
+        }
+
+        if (start < text.length()) {
+            parts.add(text.substring(start));
+        }
+        return parts;
+    }
+
+    private int utf8Length(String text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            bytes += utf8Length(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return bytes;
+    }
+
+    private int utf8Length(int codePoint) {
+        if (codePoint < 0x80) return 1;
+        if (codePoint < 0x800) return 2;
+        if (codePoint < 0x10000) return 3;
+        return 4;
+    }
+}
@@ -0,0 +1,55 @@
+package com.translation.domain.text;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização Unicode e de espaços
+ * canonicalize() gera a forma usada nas chaves de cache e enviada para tradução no pipeline:
+ * textos que diferem apenas em NFC/NFD, espaços não separáveis, espaços duplicados ou bordas
+ * compartilham a mesma chave e a mesma tradução (só as bordas são reaplicadas depois)
+ */
+@Component
+public class TextNormalizer {
+
+    // Caracteres invisíveis que não alteram o conteúdo (zero-width space, word joiner, BOM, soft hyphen)
+    private static final Pattern INVISIBLE = Pattern.compile("[\\u200B\\u2060\\uFEFF\\u00AD]");
+    private static final Pattern SPACE_AROUND_NEWLINE = Pattern.compile("\\h*\\R\\h*");
+    private static final Pattern HORIZONTAL_SPACE = Pattern.compile("\\h+");
+    // Inclui espaços não separáveis, ignorados por String.strip()
+    private static final Pattern LEADING_SPACE = Pattern.compile("^[\\h\\v]+");
+    private static final Pattern TRAILING_SPACE = Pattern.compile("[\\h\\v]+$");
+
+    /**
+     * Forma canônica para chaves de cache
+     */
+    public String canonicalize(String text) {
+        String canonical = Normalizer.normalize(text, Normalizer.Form.NFC);
+        canonical = INVISIBLE.matcher(canonical).replaceAll("");
+        canonical = SPACE_AROUND_NEWLINE.matcher(canonical).replaceAll("\n");
+        canonical = HORIZONTAL_SPACE.matcher(canonical).replaceAll(" ");
+        return canonical.strip();
+    }
+
+    /**
+     * Forma enviada para tradução: NFC, sem espaços nas bordas
+     */
+    public String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        normalized = LEADING_SPACE.matcher(normalized).replaceFirst("");
+        return TRAILING_SPACE.matcher(normalized).replaceFirst("");
+    }
+
+    public String leadingWhitespace(String text) {
+        Matcher matcher = LEADING_SPACE.matcher(text);
+        return matcher.find() ? matcher.group() : "";
+    }
+
+    public String trailingWhitespace(String text) {
+        Matcher matcher = TRAILING_SPACE.matcher(text);
+        return matcher.find() ? matcher.group() : "";
+    }
+}
@@ -27,7 +27,7 @@ public class FormatValidator extends AbstractValidationHandler {
         switch (type) {
             case DOCUMENT:
             case IMAGE:
-                if (request.getFileContent() == null || request.getFileContent().length == 0) {
+                if (request.getFileContent() == null || request.getFileContent().isEmpty()) {
                     throw new InvalidInputException(
                         String.format("File content is required for type %s", type)
                     );
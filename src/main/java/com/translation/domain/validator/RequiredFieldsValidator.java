@@ -2,6 +2,7 @@ package com.translation.domain.validator;
 
 import com.translation.domain.exception.InvalidInputException;
 import com.translation.domain.model.TranslationRequest;
+import com.translation.domain.model.TranslationType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -20,7 +21,9 @@ public class RequiredFieldsValidator extends AbstractValidationHandler {
             throw new InvalidInputException("Request cannot be null");
         }
         
-        if (request.getTexts() == null || request.getTexts().isEmpty()) {
+        // Documentos e imagens chegam como arquivo; o conteúdo é validado no FormatValidator
+        boolean binary = request.getType() == TranslationType.DOCUMENT || request.getType() == TranslationType.IMAGE;
+        if (request.getTexts() == null || (request.getTexts().isEmpty() && !binary)) {
             throw new InvalidInputException("Texts list cannot be null or empty");
         }
         
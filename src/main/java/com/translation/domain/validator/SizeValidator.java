@@ -41,7 +41,7 @@ public class SizeValidator extends AbstractValidationHandler {
         }
         
         // Valida tamanho de arquivo se presente
-        if (request.getFileContent() != null && request.getFileContent().length > MAX_FILE_SIZE) {
+        if (request.getFileContent() != null && request.getFileContent().size() > MAX_FILE_SIZE) {
             throw new InvalidInputException(
                 String.format("File size exceeds maximum of %d MB", MAX_FILE_SIZE / (1024 * 1024))
             );
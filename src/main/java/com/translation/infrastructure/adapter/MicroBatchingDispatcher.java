@@ -0,0 +1,271 @@
+package com.translation.infrastructure.adapter;
+
+import com.translation.domain.exception.RetriesExhaustedException;
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.factory.TranslationStrategyFactory;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.strategy.TranslationStrategy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Micro-batching de chamadas de tradução entre requisições concorrentes
+ * Agrupa textos por (origem, destino, tipo) durante uma janela curta ou até o limite
+ * de tamanho, envia um único lote para a estratégia e completa o future de cada chamador.
+ * Um lote que falha é reenviado inteiro uma única vez após um backoff; se falhar de novo, é dividido
+ * ao meio para isolar os textos que falham, e só os chamadores desses textos recebem o erro.
+ * Quando as duas metades falham o problema não é um texto específico: todos os chamadores recebem
+ * o erro (sem multiplicar as chamadas durante uma indisponibilidade). Itens cujo chamador já
+ * desistiu (timeout) não são enviados
+ */
+@Slf4j
+@Component
+public class MicroBatchingDispatcher {
+
+    private final TranslationStrategyFactory strategyFactory;
+    private final DistributionSummary batchSizes;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long retryBackoffMillis;
+    private final long timeoutMillis;
+
+    // Lotes abertos por chave (guardado por this)
+    private final Map<BatchKey, List<BatchItem>> pending = new HashMap<>();
+
+    public MicroBatchingDispatcher(
+            TranslationStrategyFactory strategyFactory,
+            MeterRegistry meterRegistry,
+            @Value("${translation.batching.enabled:true}") boolean enabled,
+            @Value("${translation.batching.window-ms:5}") long windowMillis,
+            @Value("${translation.batching.max-batch-size:100}") int maxBatchSize,
+            @Value("${translation.batching.workers:8}") int workers,
+            @Value("${translation.batching.retry-backoff-ms:200}") long retryBackoffMillis,
+            @Value("${translation.batching.timeout-ms:30000}") long timeoutMillis) {
+        this.strategyFactory = strategyFactory;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.batchSizes = DistributionSummary.builder("translation.batching.batch.size")
+                .description("Texts sent upstream per micro-batch")
+                .register(meterRegistry);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "translation-batch-scheduler"));
+        this.workers = Executors.newFixedThreadPool(workers, r -> daemon(r, "translation-batch-worker"));
+
+        log.info("MicroBatchingDispatcher initialized (enabled: {}, window: {} ms, max batch size: {})",
+                enabled, windowMillis, maxBatchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enfileira os textos nos lotes abertos e aguarda as traduções, preservando a ordem
+     * Cada texto tem timeout-ms desde o enfileiramento para ser traduzido
+     */
+    public List<String> translate(List<String> texts, String sourceLang, String targetLang, TranslationType type) {
+        BatchKey key = new BatchKey(sourceLang, targetLang, type);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (String text : texts) {
+            futures.add(enqueue(key, text));
+        }
+
+        List<String> translations = new ArrayList<>();
+        for (CompletableFuture<String> future : futures) {
+            try {
+                translations.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    throw new TranslationException("Batched translation timed out after " + timeoutMillis + " ms",
+                            e.getCause());
+                }
+                // O lote já foi reenviado e dividido aqui; o @Retry do adapter não repete
+                throw new RetriesExhaustedException("Batched translation failed", e.getCause());
+            }
+        }
+        return translations;
+    }
+
+    private CompletableFuture<String> enqueue(BatchKey key, String text) {
+        BatchItem item = new BatchItem(text, new CompletableFuture<String>()
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS));
+        List<BatchItem> full = null;
+
+        synchronized (this) {
+            List<BatchItem> batch = pending.get(key);
+            if (batch == null) {
+                batch = new ArrayList<>();
+                pending.put(key, batch);
+                // Primeiro item abre a janela do lote
+                List<BatchItem> opened = batch;
+                scheduler.schedule(() -> flush(key, opened), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.add(item);
+
+            if (batch.size() >= maxBatchSize) {
+                pending.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            List<BatchItem> batch = full;
+            workers.execute(() -> dispatch(key, batch));
+        }
+        return item.future();
+    }
+
+    private void flush(BatchKey key, List<BatchItem> batch) {
+        synchronized (this) {
+            // Lote já enviado ao atingir o tamanho máximo
+            if (pending.get(key) != batch) {
+                return;
+            }
+            pending.remove(key);
+        }
+        workers.execute(() -> dispatch(key, batch));
+    }
+
+    private void dispatch(BatchKey key, List<BatchItem> batch) {
+        // Textos repetidos entre requisições são enviados uma única vez
+        Map<String, List<BatchItem>> byText = new LinkedHashMap<>();
+        for (BatchItem item : batch) {
+            byText.computeIfAbsent(item.text(), k -> new ArrayList<>()).add(item);
+        }
+        batchSizes.record(byText.size());
+
+        log.debug("Dispatching micro-batch of {} texts ({} requested) for {}", byText.size(), batch.size(), key);
+        Exception error = send(key, byText);
+        if (error == null) {
+            return;
+        }
+        log.warn("Micro-batch of {} texts failed for {}, retrying once in {} ms: {}",
+                byText.size(), key, retryBackoffMillis, error.getMessage());
+        scheduler.schedule(() -> workers.execute(() -> retry(key, byText)), retryBackoffMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void retry(BatchKey key, Map<String, List<BatchItem>> byText) {
+        Exception error = send(key, byText);
+        if (error != null) {
+            log.warn("Micro-batch of {} texts failed again for {}, splitting it: {}",
+                    byText.size(), key, error.getMessage());
+            bisect(key, byText, error);
+        }
+    }
+
+    /**
+     * Divide o lote ao meio até isolar os textos que falham; se as duas metades falham,
+     * falha todos os chamadores com o erro da primeira
+     */
+    private void bisect(BatchKey key, Map<String, List<BatchItem>> byText, Exception error) {
+        Map<String, List<BatchItem>> live = live(byText);
+        if (live.size() <= 1) {
+            fail(live, error);
+            return;
+        }
+
+        List<String> texts = new ArrayList<>(live.keySet());
+        Map<String, List<BatchItem>> first = new LinkedHashMap<>();
+        Map<String, List<BatchItem>> second = new LinkedHashMap<>();
+        for (int i = 0; i < texts.size(); i++) {
+            (i < texts.size() / 2 ? first : second).put(texts.get(i), live.get(texts.get(i)));
+        }
+
+        Exception firstError = send(key, first);
+        Exception secondError = send(key, second);
+        if (firstError != null && secondError != null) {
+            log.error("Both halves of a micro-batch of {} texts failed for {}, failing their callers",
+                    texts.size(), key, firstError);
+            fail(first, firstError);
+            fail(second, firstError);
+            return;
+        }
+        if (firstError != null) {
+            bisect(key, first, firstError);
+        }
+        if (secondError != null) {
+            bisect(key, second, secondError);
+        }
+    }
+
+    /**
+     * Envia os textos com chamador ainda aguardando e completa os futures; devolve o erro da chamada
+     */
+    private Exception send(BatchKey key, Map<String, List<BatchItem>> byText) {
+        Map<String, List<BatchItem>> live = live(byText);
+        if (live.isEmpty()) {
+            return null;
+        }
+        List<String> texts = new ArrayList<>(live.keySet());
+        try {
+            TranslationStrategy strategy = strategyFactory.getStrategy(key.type(), key.sourceLang(), key.targetLang());
+            List<String> translations = strategy.translate(texts, key.sourceLang(), key.targetLang());
+            for (int i = 0; i < texts.size(); i++) {
+                String translation = translations.get(i);
+                live.get(texts.get(i)).forEach(item -> item.future().complete(translation));
+            }
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    /**
+     * Itens cujo future ainda não terminou (timeout ou cancelamento do chamador)
+     */
+    private static Map<String, List<BatchItem>> live(Map<String, List<BatchItem>> byText) {
+        Map<String, List<BatchItem>> live = new LinkedHashMap<>();
+        byText.forEach((text, items) -> {
+            List<BatchItem> waiting = items.stream().filter(item -> !item.future().isDone()).toList();
+            if (!waiting.isEmpty()) {
+                live.put(text, waiting);
+            }
+        });
+        return live;
+    }
+
+    private static void fail(Map<String, List<BatchItem>> byText, Exception error) {
+        byText.values().forEach(items -> items.forEach(item -> item.future().completeExceptionally(error)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        workers.shutdown();
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record BatchKey(String sourceLang, String targetLang, TranslationType type) {
+    }
+
+    private record BatchItem(String text, CompletableFuture<String> future) {
+    }
+}
@@ -1,9 +1,16 @@
 package com.translation.infrastructure.adapter;
 
+import com.translation.domain.exception.InvalidInputException;
+import com.translation.domain.exception.RetriesExhaustedException;
 import com.translation.domain.exception.TranslationException;
 import com.translation.domain.factory.TranslationStrategyFactory;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
 import com.translation.domain.model.TranslationType;
 import com.translation.domain.port.TranslationPort;
+import com.translation.domain.strategy.ImageTranslationStrategy;
+import com.translation.domain.strategy.OfficeDocumentRewriter;
+import com.translation.domain.strategy.StreamingHtmlRewriter;
 import com.translation.domain.strategy.TranslationStrategy;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -11,7 +18,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Adapter Pattern - Implementa TranslationPort usando Strategy Pattern
@@ -23,6 +34,10 @@ import java.util.List;
 public class TranslationAdapter implements TranslationPort {
 
     private final TranslationStrategyFactory strategyFactory;
+    private final MicroBatchingDispatcher batchingDispatcher;
+    private final OfficeDocumentRewriter officeDocumentRewriter;
+    private final StreamingHtmlRewriter streamingHtmlRewriter;
+    private final ImageTranslationStrategy imageTranslationStrategy;
 
     private static final List<String> SUPPORTED_LANGUAGES = List.of(
             "pt", "en", "es", "fr", "de", "it", "ja", "ko", "zh", "ar", "ru"
@@ -36,8 +51,15 @@ public class TranslationAdapter implements TranslationPort {
                 texts.size(), sourceLang, targetLang, type);
         
         try {
-            TranslationStrategy strategy = strategyFactory.getStrategy(type);
+            // Agrupa com requisições concorrentes do mesmo par de idiomas e tipo
+            if (batchingDispatcher.isEnabled() && type != TranslationType.IMAGE) {
+                return batchingDispatcher.translate(texts, sourceLang, targetLang, type);
+            }
+            
+            TranslationStrategy strategy = strategyFactory.getStrategy(type, sourceLang, targetLang);
             return strategy.translate(texts, sourceLang, targetLang);
+        } catch (RetriesExhaustedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error during translation", e);
             throw new TranslationException("Translation failed", e);
@@ -47,19 +69,56 @@ public class TranslationAdapter implements TranslationPort {
     @Override
     @CircuitBreaker(name = "translationService", fallbackMethod = "translateBinaryFallback")
     @Retry(name = "translationService")
-    public String translateBinary(byte[] content, String sourceLang, String targetLang, TranslationType type) {
+    public BinaryTranslation translateBinary(BinaryContent content, String sourceLang, String targetLang, TranslationType type) {
         log.info("Translating binary content from {} to {} using type {}", 
                 sourceLang, targetLang, type);
         
         try {
-            TranslationStrategy strategy = strategyFactory.getStrategy(type);
+            TranslationStrategy strategy = strategyFactory.getStrategy(type, sourceLang, targetLang);
             return strategy.translateBinary(content, sourceLang, targetLang);
+        } catch (InvalidInputException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error during binary translation", e);
             throw new TranslationException("Binary translation failed", e);
         }
     }
 
+    @Override
+    public boolean supportsFormattedDocument(String contentType) {
+        return officeDocumentRewriter.supports(contentType) || streamingHtmlRewriter.supports(contentType);
+    }
+
+    /**
+     * Sem retry/fallback: o documento é escrito diretamente no destino durante a tradução
+     */
+    @Override
+    public void translateFormattedDocument(BinaryContent content, String contentType, OutputStream target,
+                                           String sourceLang, String targetLang) throws IOException {
+        log.info("Translating formatted document ({}) from {} to {}", contentType, sourceLang, targetLang);
+        
+        if (officeDocumentRewriter.supports(contentType)) {
+            officeDocumentRewriter.rewrite(content, target, sourceLang, targetLang);
+        } else if (streamingHtmlRewriter.supports(contentType)) {
+            streamingHtmlRewriter.rewrite(content, target, sourceLang, targetLang);
+        } else {
+            throw new InvalidInputException(
+                String.format("Format-preserving translation is not supported for %s", contentType)
+            );
+        }
+    }
+
+    /**
+     * Sem retry/fallback: as partes do texto já foram entregues ao cliente quando uma falha acontece
+     */
+    @Override
+    public CompletableFuture<BinaryTranslation> streamImageTranslation(BinaryContent content, String sourceLang,
+                                                                       String targetLang, Consumer<String> onText) {
+        log.info("Streaming image translation from {} to {}", sourceLang, targetLang);
+        
+        return imageTranslationStrategy.translateStreaming(content, sourceLang, targetLang, onText);
+    }
+
     @Override
     public boolean isLanguageSupported(String languageCode) {
         return SUPPORTED_LANGUAGES.contains(languageCode.toLowerCase());
@@ -78,9 +137,13 @@ public class TranslationAdapter implements TranslationPort {
         return texts;
     }
 
-    private String translateBinaryFallback(byte[] content, String sourceLang, 
+    private BinaryTranslation translateBinaryFallback(BinaryContent content, String sourceLang, 
                                           String targetLang, TranslationType type, Exception e) {
+        if (e instanceof InvalidInputException invalid) {
+            throw invalid; // Erro de entrada: 400, não indisponibilidade
+        }
         log.warn("Binary translation fallback activated due to: {}", e.getMessage());
-        return new String(content); // Retorna conteúdo original
+        // Sem texto extraído não há conteúdo original legível para devolver: o cliente recebe o erro
+        throw new TranslationException("Binary translation unavailable: " + e.getMessage(), e);
     }
 }
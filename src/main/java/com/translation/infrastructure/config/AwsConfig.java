@@ -5,15 +5,25 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
 import software.amazon.awssdk.services.translate.TranslateClient;
 
+import java.time.Duration;
+
 /**
  * Configuração dos clientes AWS
  * AWS Translate, Bedrock, DynamoDB
+ * Todos os clientes compartilham os pools HTTP configurados em aws.http.*
  */
 @Slf4j
 @Configuration
@@ -22,33 +32,130 @@ public class AwsConfig {
     @Value("${aws.region:us-east-1}")
     private String awsRegion;
 
+    @Value("${aws.http.max-connections:100}")
+    private int maxConnections;
+
+    // Limite de chamadas em andamento por nó (cliente Netty compartilhado)
+    @Value("${aws.http.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
+
+    @Value("${aws.http.async.max-pending-acquires:10000}")
+    private int asyncMaxPendingAcquires;
+
+    @Value("${aws.http.connection-acquisition-timeout:2s}")
+    private Duration connectionAcquisitionTimeout;
+
+    @Value("${aws.http.connection-time-to-live:5m}")
+    private Duration connectionTimeToLive;
+
+    @Value("${aws.http.connection-max-idle-time:60s}")
+    private Duration connectionMaxIdleTime;
+
+    @Value("${aws.http.tcp-keep-alive:true}")
+    private boolean tcpKeepAlive;
+
+    /**
+     * Pool HTTP síncrono compartilhado (Apache) com reaper de conexões ociosas
+     */
+    @Bean
+    public SdkHttpClient awsHttpClient() {
+        log.info("Initializing shared AWS HTTP client pool (max connections: {}, ttl: {}, max idle: {})",
+                maxConnections, connectionTimeToLive, connectionMaxIdleTime);
+
+        return ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                .connectionTimeToLive(connectionTimeToLive)
+                .connectionMaxIdleTime(connectionMaxIdleTime)
+                .useIdleConnectionReaper(true)
+                .tcpKeepAlive(tcpKeepAlive)
+                .build();
+    }
+
+    /**
+     * Pool HTTP assíncrono compartilhado (Netty)
+     * Chamadas acima de max-concurrency aguardam na fila do pool, sem bloquear threads
+     */
+    @Bean
+    public SdkAsyncHttpClient awsAsyncHttpClient() {
+        log.info("Initializing shared AWS async HTTP client pool (max concurrency: {})", asyncMaxConcurrency);
+
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(asyncMaxConcurrency)
+                .maxPendingConnectionAcquires(asyncMaxPendingAcquires)
+                .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                .connectionTimeToLive(connectionTimeToLive)
+                .connectionMaxIdleTime(connectionMaxIdleTime)
+                .useIdleConnectionReaper(true)
+                .tcpKeepAlive(tcpKeepAlive)
+                .build();
+    }
+
     @Bean
-    public TranslateClient translateClient() {
+    public TranslateClient translateClient(SdkHttpClient awsHttpClient, AwsSdkMetricPublisher metricPublisher) {
         log.info("Initializing AWS Translate client for region: {}", awsRegion);
         
         return TranslateClient.builder()
                 .region(Region.of(awsRegion))
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsHttpClient)
+                .overrideConfiguration(metrics(metricPublisher))
                 .build();
     }
 
+    /**
+     * Cliente não bloqueante do AWS Translate
+     */
     @Bean
-    public BedrockRuntimeClient bedrockRuntimeClient() {
+    public TranslateAsyncClient translateAsyncClient(SdkAsyncHttpClient awsAsyncHttpClient,
+                                                     AwsSdkMetricPublisher metricPublisher) {
+        log.info("Initializing AWS Translate async client for region: {}", awsRegion);
+        
+        return TranslateAsyncClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .overrideConfiguration(metrics(metricPublisher))
+                .build();
+    }
+
+    @Bean
+    public BedrockRuntimeClient bedrockRuntimeClient(SdkHttpClient awsHttpClient, AwsSdkMetricPublisher metricPublisher) {
         log.info("Initializing Amazon Bedrock Runtime client for region: {}", awsRegion);
         
         return BedrockRuntimeClient.builder()
                 .region(Region.of(awsRegion))
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsHttpClient)
+                .overrideConfiguration(metrics(metricPublisher))
                 .build();
     }
 
+    /**
+     * Cliente não bloqueante do Bedrock (chamadas em paralelo sem ocupar threads)
+     */
     @Bean
-    public DynamoDbClient dynamoDbClient() {
+    public BedrockRuntimeAsyncClient bedrockRuntimeAsyncClient(SdkAsyncHttpClient awsAsyncHttpClient,
+                                                               AwsSdkMetricPublisher metricPublisher) {
+        log.info("Initializing Amazon Bedrock Runtime async client for region: {}", awsRegion);
+        
+        return BedrockRuntimeAsyncClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsAsyncHttpClient)
+                .overrideConfiguration(metrics(metricPublisher))
+                .build();
+    }
+
+    @Bean
+    public DynamoDbClient dynamoDbClient(SdkHttpClient awsHttpClient, AwsSdkMetricPublisher metricPublisher) {
         log.info("Initializing DynamoDB client for region: {}", awsRegion);
         
         return DynamoDbClient.builder()
                 .region(Region.of(awsRegion))
                 .credentialsProvider(DefaultCredentialsProvider.create())
+                .httpClient(awsHttpClient)
+                .overrideConfiguration(metrics(metricPublisher))
                 .build();
     }
 
@@ -58,4 +165,10 @@ public class AwsConfig {
                 .dynamoDbClient(dynamoDbClient)
                 .build();
     }
+
+    private ClientOverrideConfiguration metrics(AwsSdkMetricPublisher metricPublisher) {
+        return ClientOverrideConfiguration.builder()
+                .addMetricPublisher(metricPublisher)
+                .build();
+    }
 }
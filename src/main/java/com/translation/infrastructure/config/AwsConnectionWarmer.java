@@ -0,0 +1,93 @@
+package com.translation.infrastructure.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+import software.amazon.awssdk.services.translate.TranslateClient;
+import software.amazon.awssdk.services.translate.model.ListLanguagesRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pré-aquece os pools HTTP dos clientes AWS antes da aplicação ficar pronta
+ * ApplicationRunners executam antes do estado de readiness ACCEPTING_TRAFFIC,
+ * então as primeiras requisições não pagam o handshake TLS
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AwsConnectionWarmer implements ApplicationRunner {
+
+    private final TranslateClient translateClient;
+    private final TranslateAsyncClient translateAsyncClient;
+    private final DynamoDbClient dynamoDbClient;
+
+    @Value("${aws.http.prewarm.enabled:true}")
+    private boolean enabled = true;
+
+    // Conexões abertas por cliente
+    @Value("${aws.http.prewarm.connections:4}")
+    private int connections = 4;
+
+    @Value("${aws.http.prewarm.timeout-seconds:10}")
+    private int timeoutSeconds = 10;
+
+    @Value("${aws.dynamodb.table-name:translation-dictionary}")
+    private String tableName;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("AWS connection pre-warming disabled");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(connections * 2);
+        try {
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            // Chamadas concorrentes para abrir N conexões em cada pool
+            for (int i = 0; i < connections; i++) {
+                calls.add(warm("Translate", () -> translateClient.listLanguages(languagesRequest()), executor));
+                calls.add(warm("DynamoDB", () -> dynamoDbClient.describeTable(b -> b.tableName(tableName)), executor));
+                calls.add(translateAsyncClient.listLanguages(languagesRequest())
+                        .handle((response, error) -> logFailure("Translate async", error)));
+            }
+
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new))
+                    .get(timeoutSeconds, TimeUnit.SECONDS);
+            log.info("AWS connection pools pre-warmed in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("AWS connection pre-warming did not complete: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> warm(String client, Runnable call, ExecutorService executor) {
+        return CompletableFuture.runAsync(call, executor)
+                .handle((ignored, error) -> logFailure(client, error));
+    }
+
+    private Void logFailure(String client, Throwable error) {
+        if (error != null) {
+            // O handshake já aconteceu mesmo que a chamada falhe (ex.: permissão)
+            log.debug("Pre-warm call to {} failed: {}", client, error.getMessage());
+        }
+        return null;
+    }
+
+    private ListLanguagesRequest languagesRequest() {
+        return ListLanguagesRequest.builder().maxResults(1).build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.translation.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+import java.util.List;
+
+/**
+ * Publica no Micrometer as métricas dos pools HTTP dos clientes AWS
+ * Tempo de espera por conexão, conexões em uso/disponíveis, fila de espera e utilização
+ */
+@Component
+@RequiredArgsConstructor
+public class AwsSdkMetricPublisher implements MetricPublisher {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        String service = first(metricCollection.metricValues(CoreMetric.SERVICE_ID), "unknown");
+        publishHttpMetrics(metricCollection, service);
+    }
+
+    private void publishHttpMetrics(MetricCollection collection, String service) {
+        List<Integer> leased = collection.metricValues(HttpMetric.LEASED_CONCURRENCY);
+        if (!leased.isEmpty()) {
+            Tags tags = Tags.of(
+                    "service", service,
+                    "client", first(collection.metricValues(HttpMetric.HTTP_CLIENT_NAME), "unknown"));
+
+            collection.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION).forEach(wait ->
+                    meterRegistry.timer("aws.http.pool.acquire", tags).record(wait));
+            leased.forEach(value ->
+                    meterRegistry.summary("aws.http.pool.leased", tags).record(value));
+            collection.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).forEach(value ->
+                    meterRegistry.summary("aws.http.pool.available", tags).record(value));
+            collection.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES).forEach(value ->
+                    meterRegistry.summary("aws.http.pool.pending", tags).record(value));
+
+            Integer max = first(collection.metricValues(HttpMetric.MAX_CONCURRENCY), 0);
+            if (max > 0) {
+                meterRegistry.summary("aws.http.pool.utilization", tags).record((double) leased.get(0) / max);
+            }
+        }
+
+        // Métricas HTTP ficam nas coleções filhas (ApiCallAttempt)
+        for (MetricCollection child : collection.children()) {
+            publishHttpMetrics(child, service);
+        }
+    }
+
+    private <T> T first(List<T> values, T defaultValue) {
+        return values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    @Override
+    public void close() {
+        // Nada a liberar: o MeterRegistry é gerenciado pelo Spring
+    }
+}
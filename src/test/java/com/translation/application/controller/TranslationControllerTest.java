@@ -0,0 +1,105 @@
+package com.translation.application.controller;
+
+import com.translation.application.service.TranslationService;
+import com.translation.application.service.UploadSpooler;
+import com.translation.domain.model.TranslationRequest;
+import com.translation.domain.model.TranslationResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("TranslationController Tests")
+class TranslationControllerTest {
+
+    private static final MockMultipartFile IMAGE =
+            new MockMultipartFile("file", "scan.png", "image/png", new byte[]{1, 2, 3});
+
+    private TranslationService translationService;
+    private SseEventRelay sseEventRelay;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        translationService = mock(TranslationService.class);
+        sseEventRelay = new SseEventRelay(2);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TranslationController(
+                translationService, new UploadSpooler(1024, System.getProperty("java.io.tmpdir")), sseEventRelay))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseEventRelay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send deltas off the producing thread and finish with the result")
+    void shouldStreamDeltasAndResult() throws Exception {
+        List<String> producers = new CopyOnWriteArrayList<>();
+        when(translationService.translateImageStreaming(any(TranslationRequest.class), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<String> onText = invocation.getArgument(1);
+                    // Simula o event loop do cliente do Bedrock entregando as partes
+                    return CompletableFuture.supplyAsync(() -> {
+                        producers.add(Thread.currentThread().getName());
+                        onText.accept("Olá,\n");
+                        onText.accept("mundo");
+                        return TranslationResponse.TranslationResult.builder()
+                                .translatedText("Olá,\nmundo").sourceLanguage("en").targetLanguage("pt").build();
+                    });
+                });
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/translations/image/stream")
+                        .file(IMAGE).param("from", "en").param("to", "pt"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5_000);
+
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).containsSubsequence(
+                "event:delta", "data:{\"text\":\"Olá,\\n\"}",
+                "event:delta", "data:{\"text\":\"mundo\"}",
+                "event:done", "\"translatedText\":\"Olá,\\nmundo\"");
+        assertThat(producers).doesNotContain("sse-sender");
+    }
+
+    @Test
+    @DisplayName("Should cancel the translation when the stream times out")
+    void shouldCancelOnTimeout() throws Exception {
+        CompletableFuture<TranslationResponse.TranslationResult> translation = new CompletableFuture<>();
+        when(translationService.translateImageStreaming(any(TranslationRequest.class), any()))
+                .thenReturn(translation);
+
+        MvcResult result = mockMvc.perform(multipart("/api/v1/translations/image/stream")
+                        .file(IMAGE).param("from", "en").param("to", "pt"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(translation).isCancelled();
+    }
+}
@@ -0,0 +1,75 @@
+package com.translation.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
+import com.translation.domain.model.TranslationRequest;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.port.CachePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("BinaryTranslationCache Tests")
+class BinaryTranslationCacheTest {
+
+    private CachePort cachePort;
+    private BinaryTranslationCache cache;
+    private TranslationRequest request;
+
+    @BeforeEach
+    void setUp() {
+        cachePort = mock(CachePort.class);
+        cache = new BinaryTranslationCache(cachePort, new ObjectMapper());
+        request = TranslationRequest.builder()
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .type(TranslationType.DOCUMENT)
+                .fileContent(BinaryContent.of("Hello. Bye.".getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should cache a fully translated document")
+    void shouldCacheCompleteTranslation() {
+        cache.put(request, BinaryTranslation.builder().translatedText("Olá. Tchau.").paragraphs(2).build());
+
+        verify(cachePort).put(startsWith("binary:DOCUMENT:"), contains("Olá. Tchau."));
+    }
+
+    @Test
+    @DisplayName("Should not cache a document where one segment fell back to the source text")
+    void shouldNotCacheWhenOneSegmentFailed() {
+        cache.put(request, BinaryTranslation.builder()
+                .translatedText("Olá. Bye.")
+                .paragraphs(2)
+                .fallbackSegments(1)
+                .build());
+
+        verify(cachePort, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should not cache empty results or documents with failed pages")
+    void shouldNotCachePartialResults() {
+        cache.put(request, BinaryTranslation.of(""));
+        cache.put(request, BinaryTranslation.builder()
+                .translatedText("Olá.")
+                .pages(List.of(PageTranslation.builder().pageNumber(1).length(4).build(),
+                        PageTranslation.builder().pageNumber(2).failed(true).error("boom").build()))
+                .build());
+
+        verify(cachePort, never()).put(anyString(), anyString());
+    }
+}
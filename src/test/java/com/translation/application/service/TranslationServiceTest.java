@@ -2,6 +2,7 @@ package com.translation.application.service;
 
 import com.translation.domain.model.*;
 import com.translation.domain.pipeline.TranslationPipeline;
+import com.translation.domain.port.TranslationPort;
 import com.translation.domain.validator.ValidationChain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +32,12 @@ class TranslationServiceTest {
     @Mock
     private TranslationPipeline translationPipeline;
 
+    @Mock
+    private TranslationPort translationPort;
+
+    @Mock
+    private BinaryTranslationCache binaryTranslationCache;
+
     @InjectMocks
     private TranslationService translationService;
 
@@ -184,4 +194,91 @@ class TranslationServiceTest {
         assertThat(response.getMetadata().getPipelineSteps()).containsKey("totalSteps");
         assertThat(response.getMetadata().getPipelineSteps().get("totalSteps")).isEqualTo(6);
     }
+
+    @Test
+    @DisplayName("Should translate binary content through the port without the text pipeline")
+    void shouldTranslateBinaryContentThroughPort() {
+        // Given
+        BinaryContent content = BinaryContent.of("Hello document".getBytes());
+        TranslationRequest binaryRequest = TranslationRequest.builder()
+                .texts(List.of())
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .type(TranslationType.DOCUMENT)
+                .contentType("text/plain")
+                .fileContent(content)
+                .build();
+
+        doNothing().when(validationChain).validate(any());
+        when(translationPort.translateBinary(content, "en", "pt", TranslationType.DOCUMENT))
+                .thenReturn(BinaryTranslation.of("Olá documento"));
+
+        // When
+        TranslationResponse response = translationService.translateBinary(binaryRequest);
+
+        // Then
+        assertThat(response.getResults()).hasSize(1);
+        assertThat(response.getResults().get(0).getTranslatedText()).isEqualTo("Olá documento");
+        assertThat(response.getMetadata().getTimestamp()).isNotNull();
+
+        verify(validationChain, times(1)).validate(binaryRequest);
+        verify(translationPipeline, never()).execute(any());
+        verify(binaryTranslationCache, times(1)).put(eq(binaryRequest), any());
+    }
+
+    @Test
+    @DisplayName("Should return cached translation for an identical upload")
+    void shouldReturnCachedBinaryTranslation() {
+        // Given
+        TranslationRequest binaryRequest = TranslationRequest.builder()
+                .texts(List.of())
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .type(TranslationType.IMAGE)
+                .contentType("image/jpeg")
+                .fileContent(BinaryContent.of(new byte[]{1, 2, 3}))
+                .build();
+
+        doNothing().when(validationChain).validate(any());
+        when(binaryTranslationCache.get(binaryRequest)).thenReturn(Optional.of(BinaryTranslation.of("Olá imagem")));
+
+        // When
+        TranslationResponse response = translationService.translateBinary(binaryRequest);
+
+        // Then
+        assertThat(response.getResults().get(0).getTranslatedText()).isEqualTo("Olá imagem");
+        assertThat(response.getResults().get(0).isFromCache()).isTrue();
+        assertThat(response.getMetadata().getCacheHits()).isEqualTo(1);
+
+        verify(translationPort, never()).translateBinary(any(), any(), any(), any());
+        verify(binaryTranslationCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cancel the model call when the streaming translation is cancelled")
+    void shouldPropagateStreamingCancellation() {
+        // Given
+        TranslationRequest imageRequest = TranslationRequest.builder()
+                .texts(List.of())
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .type(TranslationType.IMAGE)
+                .fileContent(BinaryContent.of(new byte[]{1, 2, 3}))
+                .useCache(true)
+                .build();
+        CompletableFuture<BinaryTranslation> modelCall = new CompletableFuture<>();
+
+        doNothing().when(validationChain).validate(any());
+        when(binaryTranslationCache.get(imageRequest)).thenReturn(Optional.empty());
+        when(translationPort.streamImageTranslation(any(), eq("en"), eq("pt"), any())).thenReturn(modelCall);
+
+        // When
+        CompletableFuture<TranslationResponse.TranslationResult> result =
+                translationService.translateImageStreaming(imageRequest, text -> { });
+        result.cancel(true);
+
+        // Then
+        assertThat(modelCall).isCancelled();
+        verify(binaryTranslationCache, never()).put(any(), any());
+    }
 }
@@ -0,0 +1,57 @@
+package com.translation.domain.factory;
+
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.strategy.BedrockBatchTranslator;
+import com.translation.domain.strategy.LlmBatchTranslationStrategy;
+import com.translation.domain.strategy.PackedTextTranslator;
+import com.translation.domain.strategy.TextTranslationStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TranslationStrategyFactory Tests")
+class TranslationStrategyFactoryTest {
+
+    private BedrockBatchTranslator batchTranslator;
+    private TranslationStrategyFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        batchTranslator = mock(BedrockBatchTranslator.class);
+        when(batchTranslator.handles("en", "ja")).thenReturn(true);
+        // Estratégia padrão primeiro na lista: a ordem vem do @Order, não da injeção
+        factory = new TranslationStrategyFactory(List.of(
+                new TextTranslationStrategy(mock(PackedTextTranslator.class)),
+                new LlmBatchTranslationStrategy(batchTranslator)));
+    }
+
+    @Test
+    @DisplayName("Should pick the LLM strategy for configured language pairs")
+    void shouldPreferOrderedStrategyForSupportedPair() {
+        assertThat(factory.getStrategy(TranslationType.TEXT, "en", "ja"))
+                .isInstanceOf(LlmBatchTranslationStrategy.class);
+    }
+
+    @Test
+    @DisplayName("Should fall through to the default strategy for other language pairs")
+    void shouldFallThroughForUnsupportedPair() {
+        assertThat(factory.getStrategy(TranslationType.TEXT, "en", "pt"))
+                .isInstanceOf(TextTranslationStrategy.class);
+    }
+
+    @Test
+    @DisplayName("Should reject types without a strategy")
+    void shouldRejectUnknownType() {
+        assertThat(factory.hasStrategy(TranslationType.IMAGE)).isFalse();
+        assertThatThrownBy(() -> factory.getStrategy(TranslationType.IMAGE, "en", "pt"))
+                .isInstanceOf(TranslationException.class);
+    }
+}
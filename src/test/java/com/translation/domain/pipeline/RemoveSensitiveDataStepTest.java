@@ -0,0 +1,73 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SensitiveDataMode;
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.model.TranslationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RemoveSensitiveDataStep Tests")
+class RemoveSensitiveDataStepTest {
+
+    private final RemoveSensitiveDataStep step = new RemoveSensitiveDataStep();
+
+    @Test
+    @DisplayName("Should replace sensitive values with indexed placeholders in TOKENIZE mode")
+    void shouldTokenizeSensitiveData() {
+        ReflectionTestUtils.setField(step, "mode", SensitiveDataMode.TOKENIZE);
+        TranslationContext context = context(
+                "Send 123.456.789-09 to ana@example.com, then check 123.456.789-09 again",
+                "Nothing to hide here");
+
+        step.execute(context);
+
+        assertThat(context.getProcessedTexts()).containsExactly(
+                "Send {{PII_0}} to {{PII_1}}, then check {{PII_0}} again",
+                "Nothing to hide here");
+        assertThat(context.getSensitiveTokens()).containsExactly(
+                Map.of("{{PII_0}}", "123.456.789-09", "{{PII_1}}", "ana@example.com"),
+                Map.of());
+        assertThat(context.getHadSensitiveData()).containsExactly(true, false);
+        assertThat(context.getSensitiveDataRemoved()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give texts that differ only in sensitive values the same tokenized form")
+    void shouldShareTokenizedForm() {
+        ReflectionTestUtils.setField(step, "mode", SensitiveDataMode.TOKENIZE);
+        TranslationContext context = context("Contact ana@example.com", "Contact bob@example.org");
+
+        step.execute(context);
+
+        assertThat(context.getProcessedTexts()).containsExactly("Contact {{PII_0}}", "Contact {{PII_0}}");
+        assertThat(context.getSensitiveTokens()).extracting(tokens -> tokens.get("{{PII_0}}"))
+                .containsExactly("ana@example.com", "bob@example.org");
+    }
+
+    @Test
+    @DisplayName("Should mask without tokens in MASK mode")
+    void shouldMaskByDefault() {
+        TranslationContext context = context("CPF 123.456.789-09");
+
+        step.execute(context);
+
+        assertThat(context.getProcessedTexts()).containsExactly("CPF [CPF REMOVIDO]");
+        assertThat(context.getSensitiveTokens()).isNull();
+    }
+
+    private static TranslationContext context(String... texts) {
+        return TranslationContext.builder()
+                .type(TranslationType.TEXT)
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .processedTexts(new ArrayList<>(List.of(texts)))
+                .build();
+    }
+}
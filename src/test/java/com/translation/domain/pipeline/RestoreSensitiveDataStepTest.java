@@ -0,0 +1,71 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SensitiveDataMode;
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.model.TranslationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RestoreSensitiveDataStep Tests")
+class RestoreSensitiveDataStepTest {
+
+    private final RestoreSensitiveDataStep step = new RestoreSensitiveDataStep();
+
+    @Test
+    @DisplayName("Should restore tokenized values after translation, including repeated placeholders")
+    void shouldRoundTripTokenizedText() {
+        RemoveSensitiveDataStep removeStep = new RemoveSensitiveDataStep();
+        ReflectionTestUtils.setField(removeStep, "mode", SensitiveDataMode.TOKENIZE);
+        TranslationContext context = TranslationContext.builder()
+                .type(TranslationType.TEXT)
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .processedTexts(new ArrayList<>(List.of(
+                        "Send 123.456.789-09 to ana@example.com, then check 123.456.789-09 again")))
+                .build();
+        removeStep.execute(context);
+
+        // Tradução simulada: o motor reordena os placeholders
+        context.setTranslatedTexts(new ArrayList<>(List.of(
+                "Envie para {{PII_1}} o {{PII_0}} e confira {{PII_0}} de novo")));
+        step.execute(context);
+
+        assertThat(context.getTranslatedTexts()).containsExactly(
+                "Envie para ana@example.com o 123.456.789-09 e confira 123.456.789-09 de novo");
+    }
+
+    @Test
+    @DisplayName("Should append the value of a placeholder dropped by the translator")
+    void shouldAppendLostPlaceholder() {
+        TranslationContext context = TranslationContext.builder()
+                .translatedTexts(new ArrayList<>(List.of("Contate {{PII_0}} ou ligue", "Sem dados")))
+                .sensitiveTokens(List.of(
+                        Map.of("{{PII_0}}", "ana@example.com", "{{PII_1}}", "(11) 98765-4321"),
+                        Map.of()))
+                .build();
+
+        step.execute(context);
+
+        assertThat(context.getTranslatedTexts()).containsExactly(
+                "Contate ana@example.com ou ligue (11) 98765-4321", "Sem dados");
+    }
+
+    @Test
+    @DisplayName("Should leave translations untouched when nothing was tokenized")
+    void shouldSkipWithoutTokens() {
+        TranslationContext context = TranslationContext.builder()
+                .translatedTexts(new ArrayList<>(List.of("Olá {{PII_0}}")))
+                .build();
+
+        step.execute(context);
+
+        assertThat(context.getTranslatedTexts()).containsExactly("Olá {{PII_0}}");
+    }
+}
@@ -0,0 +1,68 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.SegmentCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SegmentClassifier Tests")
+class SegmentClassifierTest {
+
+    private final SegmentClassifier classifier = new SegmentClassifier();
+
+    @Test
+    @DisplayName("Should pass through non-translatable segments")
+    void shouldPassThroughNonTranslatableSegments() {
+        assertThat(classifier.classify("  ", "en", "pt")).isEqualTo(SegmentCategory.BLANK);
+        assertThat(classifier.classify("R$ 1.299,90", "en", "pt")).isEqualTo(SegmentCategory.NUMERIC);
+        assertThat(classifier.classify("2024-01-31", "en", "pt")).isEqualTo(SegmentCategory.NUMERIC);
+        assertThat(classifier.classify("SKU-12345-BR", "en", "pt")).isEqualTo(SegmentCategory.SKU);
+        assertThat(classifier.classify("https://example.com/a?b=1", "en", "pt")).isEqualTo(SegmentCategory.URL);
+        assertThat(classifier.classify("john.doe@example.com", "en", "pt")).isEqualTo(SegmentCategory.EMAIL);
+        assertThat(classifier.classify("👍🎉", "en", "pt")).isEqualTo(SegmentCategory.EMOJI);
+        assertThat(classifier.classify("user.getName()", "en", "pt")).isEqualTo(SegmentCategory.CODE);
+        assertThat(classifier.classify("{{PII_0}}", "en", "pt")).isEqualTo(SegmentCategory.PLACEHOLDER);
+    }
+
+    @Test
+    @DisplayName("Should detect texts already in the target language")
+    void shouldDetectTextsAlreadyInTargetLanguage() {
+        assertThat(classifier.classify("こんにちは", "en", "ja")).isEqualTo(SegmentCategory.TARGET_LANGUAGE);
+        assertThat(classifier.classify("Obrigado pela sua compra, você receberá um email", "en", "pt"))
+                .isEqualTo(SegmentCategory.TARGET_LANGUAGE);
+    }
+
+    @Test
+    @DisplayName("Should keep regular sentences translatable")
+    void shouldKeepRegularSentencesTranslatable() {
+        assertThat(classifier.classify("Hello world", "en", "pt")).isEqualTo(SegmentCategory.TRANSLATABLE);
+        assertThat(classifier.classify("Thank you for your order", "en", "pt")).isEqualTo(SegmentCategory.TRANSLATABLE);
+        assertThat(classifier.classify("OK", "en", "pt")).isEqualTo(SegmentCategory.TRANSLATABLE);
+    }
+
+    @Test
+    @DisplayName("Should classify multiline blocks with code structure as code")
+    void shouldDetectCodeBlocks() {
+        assertThat(classifier.classify("if (total > 0) {\n    return total;\n}", "en", "pt"))
+                .isEqualTo(SegmentCategory.CODE);
+        assertThat(classifier.classify("int total = 0;\ntotal += price;", "en", "pt"))
+                .isEqualTo(SegmentCategory.CODE);
+        assertThat(classifier.classify("user_name", "en", "pt")).isEqualTo(SegmentCategory.CODE);
+    }
+
+    @Test
+    @DisplayName("Should keep brand names and enumerated clauses translatable")
+    void shouldNotMistakeProseForCode() {
+        assertThat(classifier.classify("iPhone", "en", "pt")).isEqualTo(SegmentCategory.TRANSLATABLE);
+        assertThat(classifier.classify("McDonald", "en", "pt")).isEqualTo(SegmentCategory.TRANSLATABLE);
+        assertThat(classifier.classify("YouTube", "en", "pt")).isEqualTo(SegmentCategory.TRANSLATABLE);
+        assertThat(classifier.classify("""
+                a) the Seller shall deliver the goods;
+                b) the Buyer shall pay the price (in full) on delivery;
+                c) both parties shall keep the records.""", "en", "pt"))
+                .isEqualTo(SegmentCategory.TRANSLATABLE);
+        assertThat(classifier.classify("Terms:\n  - payment within 30 days;\n  - delivery by sea;", "en", "pt"))
+                .isEqualTo(SegmentCategory.TRANSLATABLE);
+    }
+}
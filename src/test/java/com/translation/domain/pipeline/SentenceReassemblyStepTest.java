@@ -0,0 +1,49 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.text.SentenceSegmenter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SentenceReassemblyStep Tests")
+class SentenceReassemblyStepTest {
+
+    private final SentenceSegmentationStep segmentationStep = new SentenceSegmentationStep(new SentenceSegmenter());
+    private final SentenceReassemblyStep reassemblyStep = new SentenceReassemblyStep();
+
+    @Test
+    @DisplayName("Should rebuild every text from its translated sentences and count cache hits per text")
+    void shouldRebuildTextsAndCountHitsPerText() {
+        TranslationContext context = TranslationContext.builder()
+                .type(TranslationType.TEXT)
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .processedTexts(new ArrayList<>(List.of("Hello. Bye. ", "Bye.  Hello.", "  Hello.\n")))
+                .build();
+
+        segmentationStep.execute(context);
+        assertThat(context.getProcessedTexts()).containsExactly("Hello.", "Bye.");
+
+        // Tradução simulada por sentença: "Hello." veio do cache, "Bye." foi traduzida agora
+        context.setTranslatedTexts(new ArrayList<>(List.of("Olá.", "Tchau.")));
+        context.setFromCache(new ArrayList<>(List.of(true, false)));
+        context.setPassThrough(new ArrayList<>(List.of(false, false)));
+        context.setCacheHits(1);
+        context.setCacheMisses(1);
+
+        reassemblyStep.execute(context);
+
+        assertThat(context.getProcessedTexts()).containsExactly("Hello. Bye. ", "Bye.  Hello.", "  Hello.\n");
+        assertThat(context.getTranslatedTexts()).containsExactly("Olá. Tchau. ", "Tchau.  Olá.", "  Olá.\n");
+        assertThat(context.getFromCache()).containsExactly(false, false, true);
+        assertThat(context.getCacheHits()).isEqualTo(1);
+        assertThat(context.getCacheMisses()).isEqualTo(2);
+        assertThat(context.getSegmentedTexts()).isNull();
+    }
+}
@@ -0,0 +1,48 @@
+package com.translation.domain.pipeline;
+
+import com.translation.domain.model.TranslationContext;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.port.TranslationPort;
+import com.translation.domain.text.TextNormalizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TranslationStep Tests")
+class TranslationStepTest {
+
+    private final TextNormalizer textNormalizer = new TextNormalizer();
+    private final TranslationPort translationPort = mock(TranslationPort.class);
+    private final NormalizationStep normalizationStep = new NormalizationStep(textNormalizer);
+    private final TranslationStep translationStep = new TranslationStep(translationPort, textNormalizer);
+    private final SurfaceRestoreStep surfaceRestoreStep = new SurfaceRestoreStep(textNormalizer);
+
+    @Test
+    @DisplayName("Should translate the canonical form so internal spacing does not depend on the first requester")
+    void shouldTranslateCanonicalForm() {
+        when(translationPort.translate(List.of("Hello world"), "en", "pt", TranslationType.TEXT))
+                .thenReturn(List.of("Olá mundo"));
+        TranslationContext context = TranslationContext.builder()
+                .type(TranslationType.TEXT)
+                .sourceLanguage("en")
+                .targetLanguage("pt")
+                .processedTexts(new ArrayList<>(List.of(" Hello  world\n", "Hello world")))
+                .translatedTexts(new ArrayList<>(Arrays.asList(null, null)))
+                .build();
+
+        normalizationStep.execute(context);
+        translationStep.execute(context);
+        surfaceRestoreStep.execute(context);
+
+        verify(translationPort).translate(List.of("Hello world"), "en", "pt", TranslationType.TEXT);
+        assertThat(context.getTranslatedTexts()).containsExactly(" Olá mundo\n", "Olá mundo");
+    }
+}
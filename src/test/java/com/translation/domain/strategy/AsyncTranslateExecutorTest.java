@@ -0,0 +1,138 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Usa um stub HTTP local da API do AWS Translate (protocolo JSON 1.1)
+ */
+@DisplayName("AsyncTranslateExecutor Tests")
+class AsyncTranslateExecutorTest {
+
+    private static final int MAX_IN_FLIGHT_PER_REQUEST = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private TranslateAsyncClient client;
+    private AsyncTranslateExecutor executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handleTranslateText);
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        client = TranslateAsyncClient.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create("http://localhost:" + server.getAddress().getPort()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder().maxConcurrency(32))
+                .build();
+        executor = new AsyncTranslateExecutor(client, MAX_IN_FLIGHT_PER_REQUEST);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should preserve order and respect the per-request in-flight limit")
+    void shouldPreserveOrderAndRespectInFlightLimit() {
+        List<String> texts = IntStream.range(0, 20).mapToObj(i -> "text " + i).toList();
+
+        List<String> translations = executor.translateAll(texts, "en", "pt");
+
+        assertThat(translations).containsExactlyElementsOf(texts.stream().map(text -> "pt:" + text).toList());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_IN_FLIGHT_PER_REQUEST);
+        assertThat(maxInFlight.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the original text when a call fails")
+    void shouldFallBackToOriginalTextOnFailure() {
+        List<String> translations = executor.translateAll(List.of("ok", "fail", "  "), "en", "pt");
+
+        assertThat(translations).containsExactly("pt:ok", "fail", "  ");
+    }
+
+    @Test
+    @DisplayName("Should hand results to the sink in input order within the in-flight window")
+    void shouldConsumeResultsInOrder() {
+        List<String> consumed = new ArrayList<>();
+
+        executor.forEachOrdered(IntStream.range(0, 20).mapToObj(i -> "text " + i).iterator(),
+                text -> executor.translateAsync(text, "en", "pt"), consumed::add);
+
+        assertThat(consumed).containsExactlyElementsOf(IntStream.range(0, 20).mapToObj(i -> "pt:text " + i).toList());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_IN_FLIGHT_PER_REQUEST);
+    }
+
+    private void handleTranslateText(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String text = request.get("Text").asText();
+            Thread.sleep(ThreadLocalRandom.current().nextInt(10, 40));
+
+            if (text.equals("fail")) {
+                respond(exchange, 400, Map.of("__type", "InvalidRequestException", "message", "stub failure"));
+            } else {
+                respond(exchange, 200, Map.of(
+                        "TranslatedText", "pt:" + text,
+                        "SourceLanguageCode", request.get("SourceLanguageCode").asText(),
+                        "TargetLanguageCode", request.get("TargetLanguageCode").asText()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, String> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
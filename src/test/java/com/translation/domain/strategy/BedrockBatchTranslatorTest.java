@@ -0,0 +1,211 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BedrockBatchTranslator Tests")
+class BedrockBatchTranslatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+    private BedrockRuntimeAsyncClient bedrock;
+    private PackedTextTranslator packedTextTranslator;
+    private SimpleMeterRegistry meterRegistry;
+    private BedrockBatchTranslator translator;
+
+    @BeforeEach
+    void setUp() {
+        bedrock = mock(BedrockRuntimeAsyncClient.class);
+        packedTextTranslator = mock(PackedTextTranslator.class);
+        meterRegistry = new SimpleMeterRegistry();
+        translator = translator(1500);
+    }
+
+    @Test
+    @DisplayName("Should re-send only the missing and malformed items")
+    void shouldRetryOnlyFailedItems() {
+        // Primeira chamada: id 1 ausente e id 2 sem o placeholder; depois responde tudo
+        stubBedrock(items -> {
+            ArrayNode reply = objectMapper.createArrayNode();
+            for (JsonNode item : items) {
+                String text = item.path("text").asText();
+                if (calls.size() == 1 && text.equals("Good night")) {
+                    continue;
+                }
+                String translated = calls.size() == 1 && text.contains("<g1>") ? "Clique aqui" : "[pt] " + text;
+                reply.addObject().put("id", item.path("id").asInt()).put("text", translated);
+            }
+            return "Here you go:\n" + reply;
+        });
+
+        List<String> result = translator.translate(
+                List.of("Hello", "Good night", "Click <g1>here</g1>", "  ", "Bye"), "en", "pt");
+
+        assertThat(result).containsExactly(
+                "[pt] Hello", "[pt] Good night", "[pt] Click <g1>here</g1>", "  ", "[pt] Bye");
+        assertThat(calls).hasSize(2);
+        assertThat(calls.get(1)).containsExactly("Good night", "Click <g1>here</g1>");
+    }
+
+    @Test
+    @DisplayName("Should fall back to AWS Translate after the last attempt")
+    void shouldFallBackAfterRetries() {
+        stubBedrock(items -> "[]");
+        when(packedTextTranslator.translate(anyList(), anyString(), anyString(), any(BitSet.class)))
+                .thenReturn(List.of("Olá", "Tchau"));
+
+        List<String> result = translator.translate(List.of("Hello", "Bye"), "en", "pt");
+
+        assertThat(result).containsExactly("Olá", "Tchau");
+        assertThat(calls).hasSize(3);
+        verify(packedTextTranslator).translate(eq(List.of("Hello", "Bye")), eq("en"), eq("pt"), any(BitSet.class));
+        assertThat(translator.handles("en", "pt")).isTrue();
+        assertThat(translator.handles("en", "ja")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back without retrying when the reply has no JSON array")
+    void shouldFallBackOnUnparsedReply() {
+        stubBedrock(items -> "Sorry, I cannot help with that.");
+        when(packedTextTranslator.translate(anyList(), anyString(), anyString(), any(BitSet.class)))
+                .thenReturn(List.of("Olá", "Tchau"));
+
+        List<String> result = translator.translate(List.of("Hello", "Bye"), "en", "pt");
+
+        assertThat(result).containsExactly("Olá", "Tchau");
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back without retrying when the Bedrock call fails")
+    void shouldFallBackOnCallError() {
+        when(bedrock.invokeModel(any(InvokeModelRequest.class))).thenAnswer(invocation -> {
+            calls.add(List.of());
+            return CompletableFuture.failedFuture(new IllegalStateException("ThrottlingException"));
+        });
+        when(packedTextTranslator.translate(anyList(), anyString(), anyString(), any(BitSet.class)))
+                .thenReturn(List.of("Olá", "Tchau"));
+
+        List<String> result = translator.translate(List.of("Hello", "  ", "Bye"), "en", "pt");
+
+        assertThat(result).containsExactly("Olá", "  ", "Tchau");
+        assertThat(calls).hasSize(1);
+        verify(packedTextTranslator).translate(eq(List.of("Hello", "Bye")), eq("en"), eq("pt"), any(BitSet.class));
+    }
+
+    @Test
+    @DisplayName("Should re-send echoed items in batches with half the budget")
+    void shouldRetryEchoedItemsWithHalfBudget() {
+        // "Hello" e "World" custam 9 tokens cada: juntos no orçamento de 20, separados no de 10
+        translator = translator(20);
+        stubBedrock(items -> {
+            ArrayNode reply = objectMapper.createArrayNode();
+            for (JsonNode item : items) {
+                String text = item.path("text").asText();
+                String translated = calls.size() == 1 ? text : "[pt] " + text;
+                reply.addObject().put("id", item.path("id").asInt()).put("text", translated);
+            }
+            return reply.toString();
+        });
+
+        List<String> result = translator.translate(List.of("Hello", "World"), "en", "pt");
+
+        assertThat(result).containsExactly("[pt] Hello", "[pt] World");
+        assertThat(calls).containsExactlyInAnyOrder(List.of("Hello", "World"), List.of("Hello"), List.of("World"));
+        assertThat(calls.get(0)).containsExactly("Hello", "World");
+    }
+
+    @Test
+    @DisplayName("Should keep the source text of an item echoed twice instead of retrying it")
+    void shouldStopRetryingRepeatedEchoes() {
+        stubBedrock(items -> {
+            ArrayNode reply = objectMapper.createArrayNode();
+            for (JsonNode item : items) {
+                String text = item.path("text").asText();
+                String translated = text.equals("Acme Cloud") ? text : "[pt] " + text;
+                reply.addObject().put("id", item.path("id").asInt()).put("text", translated);
+            }
+            return reply.toString();
+        });
+
+        List<String> result = translator.translate(List.of("Hello", "Acme Cloud"), "en", "pt");
+
+        assertThat(result).containsExactly("[pt] Hello", "Acme Cloud");
+        assertThat(calls).containsExactly(List.of("Hello", "Acme Cloud"), List.of("Acme Cloud"));
+        assertThat(meterRegistry.counter("translation.llm.segments", "outcome", "echoed").count()).isEqualTo(1);
+        verify(packedTextTranslator, never()).translate(anyList(), anyString(), anyString(), any(BitSet.class));
+    }
+
+    @Test
+    @DisplayName("Should accept replies equal to the source only when it has no letters")
+    void shouldRejectEchoedText() {
+        BedrockBatchTranslator.BatchReply reply = translator.validate(List.of("Hello", "42", "Bye"),
+                "[{\"id\":0,\"text\":\"Hello\"},{\"id\":1,\"text\":\"42\"},{\"id\":2,\"text\":\"Tchau\"}]");
+
+        assertThat(reply.translations()).containsOnlyKeys(1, 2);
+        assertThat(reply.echoed()).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("Should reject replies that drop or change a masked PII placeholder")
+    void shouldRequirePiiPlaceholders() {
+        BedrockBatchTranslator.BatchReply reply = translator.validate(
+                List.of("Call {{PII_0}} today", "Email {{PII_1}}", "Write to {{PII_2}}"),
+                "[{\"id\":0,\"text\":\"Ligue para {{PII_0}} hoje\"},{\"id\":1,\"text\":\"Envie e-mail\"},"
+                        + "{\"id\":2,\"text\":\"Escreva para {{PII_5}}\"}]");
+
+        assertThat(reply.translations()).containsOnlyKeys(0);
+    }
+
+    private BedrockBatchTranslator translator(int tokenBudget) {
+        return new BedrockBatchTranslator(bedrock, new ClaudeMessagesCodec(objectMapper), objectMapper,
+                new AsyncTranslateExecutor(mock(TranslateAsyncClient.class), 8), packedTextTranslator,
+                meterRegistry, true, "en:pt", "model", tokenBudget, 200, 4096, 2, 4);
+    }
+
+    /**
+     * Stub local do endpoint: lê o array JSON do prompt e devolve a resposta no formato da Messages API
+     */
+    private void stubBedrock(Function<JsonNode, String> reply) {
+        when(bedrock.invokeModel(any(InvokeModelRequest.class))).thenAnswer(invocation -> {
+            InvokeModelRequest request = invocation.getArgument(0);
+            JsonNode body = objectMapper.readTree(request.body().asByteArray());
+            JsonNode items = objectMapper.readTree(body.path("messages").path(0).path("content").asText());
+            calls.add(items.findValuesAsText("text"));
+
+            String response = objectMapper.createObjectNode()
+                    .set("content", objectMapper.createArrayNode().add(objectMapper.createObjectNode()
+                            .put("type", "text").put("text", reply.apply(items))))
+                    .toString();
+            return CompletableFuture.completedFuture(
+                    InvokeModelResponse.builder().body(SdkBytes.fromUtf8String(response)).build());
+        });
+    }
+}
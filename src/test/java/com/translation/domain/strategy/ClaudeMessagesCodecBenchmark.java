@@ -0,0 +1,121 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.core.SdkBytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH do corpo montado com String.format e da leitura com indexOf (implementação anterior)
+ * contra o ClaudeMessagesCodec; executados pelo ClaudeMessagesCodecBenchmarkTest com o profiler de GC
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClaudeMessagesCodecBenchmark {
+
+    static final String PROMPT = "Extract all text from this image and translate it from en to pt. "
+            + "Return only the translated text, preserving the original formatting as much as possible.";
+    // Com aspas escapadas: o indexOf para na primeira delas e devolve o texto truncado
+    static final String RESPONSE_TEXT = "Ele respondeu \\\"obrigado\\\" e seguiu com acentuação.\\n";
+
+    private final ClaudeMessagesCodec codec = new ClaudeMessagesCodec(new ObjectMapper());
+    private byte[] image;
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        // 3 MB de bytes aleatórios (não comprimíveis, como um JPEG): ~4 MB de base64
+        image = new byte[3 * 1024 * 1024];
+        new Random(42).nextBytes(image);
+        response = responseBody();
+    }
+
+    @Benchmark
+    public SdkBytes requestFormat() {
+        return formatRequest(image);
+    }
+
+    @Benchmark
+    public SdkBytes requestCodec() throws IOException {
+        return codec.imageRequest(image, "image/jpeg", PROMPT, 4096);
+    }
+
+    @Benchmark
+    public String responseIndexOf() {
+        return indexOfText(new String(response, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public String responseCodec() throws IOException {
+        return codec.readText(new ByteArrayInputStream(response));
+    }
+
+    static byte[] responseBody() {
+        return ("{\"id\":\"msg_1\",\"type\":\"message\",\"role\":\"assistant\",\"content\":"
+                + "[{\"type\":\"text\",\"text\":\"" + RESPONSE_TEXT.repeat(400) + "\"}],\"stop_reason\":\"end_turn\","
+                + "\"usage\":{\"input_tokens\":1600,\"output_tokens\":900}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Corpo como era montado antes do codec: base64 em String, String.format e cópia em UTF-8
+     */
+    static SdkBytes formatRequest(byte[] image) {
+        String base64Image = Base64.getEncoder().encodeToString(image);
+        String requestBody = String.format("""
+                {
+                    "anthropic_version": "bedrock-2023-05-31",
+                    "max_tokens": 4096,
+                    "messages": [
+                        {
+                            "role": "user",
+                            "content": [
+                                {
+                                    "type": "image",
+                                    "source": {
+                                        "type": "base64",
+                                        "media_type": "%s",
+                                        "data": "%s"
+                                    }
+                                },
+                                {
+                                    "type": "text",
+                                    "text": "%s"
+                                }
+                            ]
+                        }
+                    ]
+                }
+                """, "image/jpeg", base64Image, PROMPT);
+        return SdkBytes.fromUtf8String(requestBody);
+    }
+
+    /**
+     * Leitura anterior da resposta (para na primeira aspa escapada)
+     */
+    static String indexOfText(String responseBody) {
+        int startIdx = responseBody.indexOf("\"text\":\"") + 8;
+        int endIdx = responseBody.indexOf("\"", startIdx);
+        return responseBody.substring(startIdx, endIdx)
+                .replace("\\n", "\n")
+                .replace("\\\"", "\"");
+    }
+}
@@ -0,0 +1,77 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executa o ClaudeMessagesCodecBenchmark no JMH com o profiler de GC (-prof gc) e compara
+ * bytes alocados e tempo por chamada. Fora da suíte padrão; para rodar:
+ * mvn test -Dtest=ClaudeMessagesCodecBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+@DisplayName("ClaudeMessagesCodec Benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ClaudeMessagesCodecBenchmarkTest {
+
+    @Test
+    @DisplayName("Streaming codec allocates less than String.format and reads responses in bounded memory")
+    void codecAllocatesLess() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(ClaudeMessagesCodecBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        Map<String, Result> byName = new HashMap<>();
+        for (RunResult result : results) {
+            String label = result.getParams().getBenchmark();
+            String name = label.substring(label.lastIndexOf('.') + 1);
+            Result measured = new Result(
+                    result.getSecondaryResults().get("gc.alloc.rate.norm").getScore(),
+                    result.getPrimaryResult().getScore());
+            log.info("{}: {} bytes allocated, {} ms per call",
+                    name, String.format("%,.0f", measured.allocatedBytes()), String.format("%.3f", measured.millis()));
+            byName.put(name, measured);
+        }
+
+        assertThat(byName).containsOnlyKeys("requestFormat", "requestCodec", "responseIndexOf", "responseCodec");
+        assertThat(byName.get("requestCodec").allocatedBytes()).isLessThan(byName.get("requestFormat").allocatedBytes());
+        // O indexOf aloca menos só porque para na primeira aspa escapada (ver escapedQuotes):
+        // do codec se espera apenas alocação proporcional ao corpo lido
+        assertThat(byName.get("responseCodec").allocatedBytes())
+                .isLessThan(4.0 * ClaudeMessagesCodecBenchmark.responseBody().length);
+    }
+
+    @Test
+    @DisplayName("Response with escaped quotes: codec reads the whole text, indexOf stops at the first quote")
+    void escapedQuotes() throws IOException {
+        byte[] body = ClaudeMessagesCodecBenchmark.responseBody();
+        String expected = ClaudeMessagesCodecBenchmark.RESPONSE_TEXT.repeat(400)
+                .replace("\\n", "\n").replace("\\\"", "\"");
+
+        String codecText = new ClaudeMessagesCodec(new ObjectMapper()).readText(new ByteArrayInputStream(body));
+        String indexOfText = ClaudeMessagesCodecBenchmark.indexOfText(new String(body, StandardCharsets.UTF_8));
+
+        assertThat(codecText).isEqualTo(expected);
+        assertThat(indexOfText).isEqualTo("Ele respondeu \\");
+    }
+
+    private record Result(double allocatedBytes, double millis) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ClaudeMessagesCodec Tests")
+class ClaudeMessagesCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ClaudeMessagesCodec codec = new ClaudeMessagesCodec(objectMapper);
+
+    @Test
+    @DisplayName("Should write the image request with base64 data and an escaped prompt")
+    void shouldWriteImageRequest() throws IOException {
+        byte[] image = new byte[100_001];
+        new Random(7).nextBytes(image);
+        String prompt = "Translate \"this\"\nto pt";
+
+        byte[] body = codec.imageRequest(image, "image/png", prompt, 4096).asByteArrayUnsafe();
+
+        JsonNode request = objectMapper.readTree(body);
+        JsonNode content = request.path("messages").path(0).path("content");
+        assertThat(request.path("max_tokens").asInt()).isEqualTo(4096);
+        assertThat(content.path(0).path("source").path("media_type").asText()).isEqualTo("image/png");
+        assertThat(Base64.getDecoder().decode(content.path(0).path("source").path("data").asText())).isEqualTo(image);
+        assertThat(content.path(1).path("text").asText()).isEqualTo(prompt);
+    }
+
+    @Test
+    @DisplayName("Should read every text block, including escaped quotes")
+    void shouldReadText() throws IOException {
+        String response = """
+                {"id":"msg_1","type":"message","role":"assistant",
+                 "content":[{"type":"text","text":"Ele disse \\"olá\\"\\n"},{"type":"tool_use","input":{"text":"x"}},
+                            {"type":"text","text":"fim"}],
+                 "stop_reason":"end_turn","usage":{"input_tokens":10,"output_tokens":5}}
+                """;
+
+        String text = codec.readText(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(text).isEqualTo("Ele disse \"olá\"\nfim");
+    }
+
+    @Test
+    @DisplayName("Should read text deltas from stream events and ignore the others")
+    void shouldReadTextDelta() throws IOException {
+        String delta = "{\"type\":\"content_block_delta\",\"index\":0,"
+                + "\"delta\":{\"type\":\"text_delta\",\"text\":\"Olá, \\\"mundo\\\"\\n\"}}";
+        String stop = "{\"type\":\"message_delta\",\"delta\":{\"stop_reason\":\"end_turn\"},"
+                + "\"usage\":{\"output_tokens\":12}}";
+
+        assertThat(codec.readTextDelta(new ByteArrayInputStream(delta.getBytes(StandardCharsets.UTF_8))))
+                .isEqualTo("Olá, \"mundo\"\n");
+        assertThat(codec.readTextDelta(new ByteArrayInputStream(stop.getBytes(StandardCharsets.UTF_8)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report a reply cut at max_tokens, in the body and in the stream")
+    void shouldReadStopReason() throws IOException {
+        String response = """
+                {"content":[{"type":"text","text":"Texto cor"}],"stop_reason":"max_tokens",
+                 "usage":{"input_tokens":10,"output_tokens":4096}}
+                """;
+        String stop = "{\"type\":\"message_delta\",\"delta\":{\"stop_reason\":\"max_tokens\"},"
+                + "\"usage\":{\"output_tokens\":4096}}";
+        String delta = "{\"type\":\"content_block_delta\",\"index\":0,"
+                + "\"delta\":{\"type\":\"text_delta\",\"text\":\"Texto\"}}";
+
+        ClaudeMessagesCodec.Reply reply = codec.readReply(
+                new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+        ClaudeMessagesCodec.Reply last = codec.readEvent(new ByteArrayInputStream(stop.getBytes(StandardCharsets.UTF_8)));
+        ClaudeMessagesCodec.Reply text = codec.readEvent(new ByteArrayInputStream(delta.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(reply.text()).isEqualTo("Texto cor");
+        assertThat(reply.truncated()).isTrue();
+        assertThat(last.truncated()).isTrue();
+        assertThat(text.text()).isEqualTo("Texto");
+        assertThat(text.stopReason()).isNull();
+    }
+}
@@ -0,0 +1,63 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DocumentTextExtractor Tests")
+class DocumentTextExtractorTest {
+
+    private final DocumentTextExtractor extractor = new DocumentTextExtractor(new SimpleMeterRegistry(), 1, 2);
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should stream the document text in order, in chunks within the byte limit")
+    void shouldStreamChunksInOrder() {
+        List<String> lines = IntStream.range(0, 50).mapToObj(i -> "Line number " + i + " of the document.").toList();
+        BinaryContent content = BinaryContent.of((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+
+        List<String> chunks = new ArrayList<>();
+        try (DocumentTextExtractor.ChunkStream stream = extractor.stream(content, 200)) {
+            stream.forEachRemaining(chunks::add);
+        }
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk ->
+                assertThat(chunk.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(200));
+        assertThat(String.join("", chunks)).containsSubsequence(lines);
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should cancel the parse when the stream is closed early")
+    void shouldCancelParseOnClose() {
+        // Fila de 1 chunk: o parse fica bloqueado até o consumidor ler ou fechar
+        BinaryContent content = BinaryContent.of("word ".repeat(200_000).getBytes(StandardCharsets.UTF_8));
+
+        DocumentTextExtractor.ChunkStream stream = extractor.stream(content, 200);
+        assertThat(stream.next()).isNotBlank();
+        stream.close();
+
+        // As duas threads de parse continuam disponíveis
+        BinaryContent small = BinaryContent.of("Hello.".getBytes(StandardCharsets.UTF_8));
+        List<String> chunks = new ArrayList<>();
+        try (DocumentTextExtractor.ChunkStream next = extractor.stream(small, 200)) {
+            next.forEachRemaining(chunks::add);
+        }
+        assertThat(String.join("", chunks)).contains("Hello.");
+    }
+}
@@ -0,0 +1,114 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.ContentDefinedChunker;
+import com.translation.domain.text.SentenceSegmenter;
+import com.translation.domain.text.TextChunker;
+import com.translation.domain.text.TextNormalizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+import software.amazon.awssdk.services.translate.model.TranslateTextRequest;
+import software.amazon.awssdk.services.translate.model.TranslateTextResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DocumentTranslationStrategy Tests")
+class DocumentTranslationStrategyTest {
+
+    private final PdfPageExtractor pdfPageExtractor = new PdfPageExtractor(true, 1, 2);
+
+    private TranslateAsyncClient translateClient;
+    private ExtractedTextCache extractedTextCache;
+    private DocumentTranslationStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        translateClient = mock(TranslateAsyncClient.class);
+        extractedTextCache = mock(ExtractedTextCache.class);
+        when(extractedTextCache.get(any())).thenReturn(Optional.empty());
+
+        TextNormalizer textNormalizer = new TextNormalizer();
+        strategy = new DocumentTranslationStrategy(
+                new AsyncTranslateExecutor(translateClient, 4),
+                new TextChunker(new SentenceSegmenter()),
+                textNormalizer,
+                mock(DocumentTextExtractor.class),
+                pdfPageExtractor,
+                extractedTextCache,
+                new ParagraphTranslationMemory(mock(CachePort.class), new ContentDefinedChunker(512, 2048, 3000),
+                        textNormalizer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pdfPageExtractor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should mark a page as failed when one of its segments keeps the source text")
+    void shouldReportPageWithUntranslatedSegment() throws Exception {
+        // A página 2 falha no AWS Translate; a memória de parágrafos devolve o original
+        when(translateClient.translateText(any(TranslateTextRequest.class))).thenAnswer(invocation -> {
+            String text = invocation.<TranslateTextRequest>getArgument(0).text();
+            return text.contains("two")
+                    ? CompletableFuture.failedFuture(new RuntimeException("ThrottlingException"))
+                    : CompletableFuture.completedFuture(TranslateTextResponse.builder().translatedText("[pt] " + text).build());
+        });
+        BinaryContent content = BinaryContent.of(PdfPageExtractorTest.pdf("Page one", "Page two", "Page three"));
+
+        BinaryTranslation result = strategy.translateBinary(content, "en", "pt");
+
+        assertThat(result.getPages()).extracting(PageTranslation::isFailed).containsExactly(false, true, false);
+        PageTranslation failed = result.getPages().get(1);
+        assertThat(failed.getError()).contains("1 segments could not be translated");
+        assertThat(result.getTranslatedText().substring(failed.getOffset(), failed.getOffset() + failed.getLength()))
+                .contains("Page two");
+        assertThat(result.getTranslatedText()).contains("[pt] Page one", "[pt] Page three");
+        assertThat(result.getFallbackSegments()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the segments of all chunks within the per-request limit")
+    void shouldBoundSegmentCallsPerRequest() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(translateClient.translateText(any(TranslateTextRequest.class))).thenAnswer(invocation -> {
+            String text = invocation.<TranslateTextRequest>getArgument(0).text();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return TranslateTextResponse.builder().translatedText("[pt] " + text).build();
+            }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+        });
+        // Documento revisado já extraído: vários chunks de 9000 bytes, cada um com vários segmentos
+        String text = IntStream.range(0, 120)
+                .mapToObj(i -> "Paragraph " + i + " of the revised contract describes clause " + i
+                        + " in enough words to fill a segment. ".repeat(4) + "\n\n")
+                .collect(Collectors.joining());
+        when(extractedTextCache.get(any())).thenReturn(
+                Optional.of(new ExtractedTextCache.ExtractedText(List.of(text), false)));
+
+        BinaryTranslation result = strategy.translateBinary(BinaryContent.of(new byte[]{1}), "en", "pt");
+
+        assertThat(result.getParagraphs()).isGreaterThan(4);
+        assertThat(result.getTranslatedText()).contains("[pt] Paragraph 0 ", "[pt] Paragraph 119 ");
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+    }
+}
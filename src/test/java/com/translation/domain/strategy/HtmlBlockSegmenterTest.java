@@ -0,0 +1,98 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.text.TextNormalizer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HtmlBlockSegmenter Tests")
+class HtmlBlockSegmenterTest {
+
+    private final HtmlBlockSegmenter segmenter = new HtmlBlockSegmenter(new TextNormalizer());
+
+    @Test
+    @DisplayName("Should encode inline markup as numbered placeholders")
+    void shouldEncodeInlineMarkup() {
+        Element p = paragraph("<p> Click <a href=\"/x\">here <b>now</b></a><br>please </p>");
+
+        HtmlBlockSegmenter.Block block = segmenter.encode(p).orElseThrow();
+
+        assertThat(block.text()).isEqualTo("Click <g1>here <g2>now</g2></g1><x3/>please");
+        assertThat(block.leading()).isEqualTo(" ");
+        assertThat(block.trailing()).isEqualTo(" ");
+        assertThat(block.inline()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the block keeping the original elements and attributes")
+    void shouldRebuildTranslatedBlock() {
+        Element p = paragraph("<p>Click <a href=\"/x\" class=\"btn\">here <b>now</b></a><br>please</p>");
+        HtmlBlockSegmenter.Block block = segmenter.encode(p).orElseThrow();
+
+        boolean rebuilt = segmenter.rebuild(block, "Clique <g1><g2>agora</g2> aqui</g1><x3/>por favor");
+
+        assertThat(rebuilt).isTrue();
+        assertThat(p.html()).isEqualTo("Clique <a href=\"/x\" class=\"btn\"><b>agora</b> aqui</a><br>por favor");
+    }
+
+    @Test
+    @DisplayName("Should reject translations with crossed placeholder nesting")
+    void shouldRejectCrossedNesting() {
+        assertRejected("Clique <g1>aqui <g2>agora</g1></g2><x3/>por favor");
+    }
+
+    @Test
+    @DisplayName("Should reject duplicated placeholders")
+    void shouldRejectDuplicatedPlaceholders() {
+        assertRejected("Clique <g1>aqui <g2>agora</g2></g1><x3/>por <x3/>favor");
+        assertRejected("Clique <g1>aqui</g1> <g1><g2>agora</g2></g1><x3/>por favor");
+    }
+
+    @Test
+    @DisplayName("Should reject a placeholder of the wrong kind or out of range")
+    void shouldRejectWrongPlaceholderKind() {
+        assertRejected("Clique <g1>aqui <g2>agora</g2></g1><g3></g3>por favor");
+        assertRejected("Clique <x1/>aqui <g2>agora</g2><x3/>por favor");
+        assertRejected("Clique <g1>aqui <g2>agora</g2></g1><x3/>por <x4/>favor");
+    }
+
+    @Test
+    @DisplayName("Should reject translations with missing or unclosed placeholders")
+    void shouldRejectMissingPlaceholders() {
+        assertRejected("Clique <g1>aqui agora</g1><x3/>por favor");
+        assertRejected("Clique <g1>aqui <g2>agora</g2></g1>por favor");
+        assertRejected("Clique <g1>aqui <g2>agora</g2><x3/>por favor");
+    }
+
+    @Test
+    @DisplayName("Should not segment blocks with nested block elements or placeholder-like text")
+    void shouldSkipUnsupportedBlocks() {
+        assertThat(segmenter.isSegmentable(paragraph("<div>Text <p>inner</p></div>"))).isFalse();
+        assertThat(segmenter.isSegmentable(paragraph("<p>Text <em>inline</em></p>"))).isTrue();
+        assertThat(segmenter.encode(paragraph("<p>Literal &lt;g1&gt; text</p>"))).isEmpty();
+    }
+
+    /**
+     * A tradução inválida não pode alterar o DOM: o bloco segue disponível para a tradução nó a nó
+     */
+    private void assertRejected(String translated) {
+        Element p = paragraph("<p>Click <a href=\"/x\">here <b>now</b></a><br>please</p>");
+        String original = p.outerHtml();
+        Optional<HtmlBlockSegmenter.Block> block = segmenter.encode(p);
+
+        assertThat(segmenter.rebuild(block.orElseThrow(), translated)).as(translated).isFalse();
+        assertThat(p.outerHtml()).isEqualTo(original);
+    }
+
+    private Element paragraph(String html) {
+        Document document = Jsoup.parseBodyFragment(html);
+        document.outputSettings().prettyPrint(false);
+        return document.body().child(0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.TextNormalizer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HtmlSubtreeCache Tests")
+class HtmlSubtreeCacheTest {
+
+    private static final String FOOTER = "<footer class=\"site\"><nav><a href=\"/c\">Contact us</a></nav>"
+            + "<p>All rights reserved</p></footer>";
+
+    private CachePort cachePort;
+    private HtmlSubtreeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cachePort = mock(CachePort.class);
+        cache = new HtmlSubtreeCache(cachePort, new TextNormalizer(), true, "header, nav, footer", 10);
+    }
+
+    @Test
+    @DisplayName("Should select only the outermost candidates above the text limit")
+    void shouldSelectOutermostCandidates() {
+        Document doc = Jsoup.parse("<header>Hi</header><main><p>Body</p></main>" + FOOTER);
+
+        List<HtmlSubtreeCache.Subtree> candidates = cache.candidates(doc, "en", "pt");
+
+        assertThat(candidates).extracting(subtree -> subtree.element().normalName()).containsExactly("footer");
+        assertThat(candidates.get(0).key()).matches("subtree:en:pt:[0-9a-f]{64}");
+    }
+
+    @Test
+    @DisplayName("Should give the same key to subtrees that differ only in whitespace")
+    void shouldIgnoreIndentation() {
+        String indented = FOOTER.replace("<p>", "\n    <p>").replace("</footer>", "\n</footer>");
+
+        String key = cache.candidates(Jsoup.parse(FOOTER), "en", "pt").get(0).key();
+
+        assertThat(cache.candidates(Jsoup.parse(indented), "en", "pt").get(0).key()).isEqualTo(key);
+        assertThat(cache.candidates(Jsoup.parse(FOOTER.replace("site", "other")), "en", "pt").get(0).key())
+                .isNotEqualTo(key);
+        assertThat(cache.candidates(Jsoup.parse(FOOTER), "en", "es").get(0).key()).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("Should swap in the cached translation and report misses")
+    void shouldSwapInCachedSubtree() {
+        Document doc = Jsoup.parse("<main><p>Body</p></main>" + FOOTER);
+        HtmlSubtreeCache.Subtree subtree = cache.candidates(doc, "en", "pt").get(0);
+        assertThat(cache.swapIn(subtree)).isEmpty();
+
+        when(cachePort.get(subtree.key())).thenReturn("<footer class=\"site\"><p>Todos os direitos</p></footer>");
+        Optional<Element> swapped = cache.swapIn(subtree);
+
+        assertThat(swapped).isPresent();
+        assertThat(doc.select("footer")).hasSize(1);
+        assertThat(doc.selectFirst("footer").text()).isEqualTo("Todos os direitos");
+        assertThat(doc.selectFirst("footer")).isSameAs(swapped.get());
+    }
+
+    @Test
+    @DisplayName("Should store only subtrees changed by the translation")
+    void shouldPutTranslatedSubtree() {
+        Document doc = Jsoup.parse(FOOTER);
+        HtmlSubtreeCache.Subtree subtree = cache.candidates(doc, "en", "pt").get(0);
+        String original = subtree.element().outerHtml();
+
+        cache.put(subtree, original);
+        verify(cachePort, never()).put(anyString(), anyString());
+
+        subtree.element().selectFirst("p").text("Todos os direitos reservados");
+        cache.put(subtree, original);
+        verify(cachePort).put(eq(subtree.key()), eq(subtree.element().outerHtml()));
+    }
+}
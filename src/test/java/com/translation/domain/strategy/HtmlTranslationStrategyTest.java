@@ -0,0 +1,127 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.CacheKeyGenerator;
+import com.translation.domain.text.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HtmlTranslationStrategy Tests")
+class HtmlTranslationStrategyTest {
+
+    private final List<String> sent = new ArrayList<>();
+    // Textos que o tradutor simulado devolve no original, como no fallback de erro
+    private final Set<String> failing = new HashSet<>();
+
+    private CachePort cachePort;
+    private HtmlTranslationStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        PackedTextTranslator packedTextTranslator = mock(PackedTextTranslator.class);
+        when(packedTextTranslator.translate(anyList(), anyString(), anyString(), any(BitSet.class))).thenAnswer(invocation -> {
+            List<String> segments = invocation.getArgument(0);
+            BitSet fallbacks = invocation.getArgument(3);
+            sent.addAll(segments);
+            List<String> translations = new ArrayList<>();
+            for (int i = 0; i < segments.size(); i++) {
+                if (failing.contains(segments.get(i))) {
+                    fallbacks.set(i);
+                    translations.add(segments.get(i));
+                } else {
+                    translations.add("[pt] " + segments.get(i));
+                }
+            }
+            return translations;
+        });
+
+        TextNormalizer textNormalizer = new TextNormalizer();
+        cachePort = mock(CachePort.class);
+        CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator(textNormalizer);
+        strategy = new HtmlTranslationStrategy(
+                packedTextTranslator,
+                mock(BedrockBatchTranslator.class),
+                cachePort,
+                cacheKeyGenerator,
+                textNormalizer,
+                new HtmlBlockSegmenter(textNormalizer),
+                new HtmlSubtreeCache(cachePort, textNormalizer, true, "footer", 10),
+                new StreamingHtmlRewriter(packedTextTranslator, cachePort, cacheKeyGenerator, textNormalizer));
+    }
+
+    @Test
+    @DisplayName("Should translate pages above the threshold with the streaming rewriter instead of rejecting them")
+    void shouldStreamLargePages() {
+        ReflectionTestUtils.setField(strategy, "streamingThresholdBytes", 64L);
+        String html = "<html><body><p>Click <b>here</b> now</p><p>Second paragraph of the page</p></body></html>";
+
+        String result = strategy.translateBinary(BinaryContent.of(html.getBytes(StandardCharsets.UTF_8)), "en", "pt")
+                .getTranslatedText();
+
+        // Sem DOM: nós de texto, marcação copiada como está
+        assertThat(sent).containsExactly("Click", "here", "now", "Second paragraph of the page");
+        assertThat(result).isEqualTo("<html><body><p>[pt] Click <b>[pt] here</b> [pt] now</p>"
+                + "<p>[pt] Second paragraph of the page</p></body></html>");
+    }
+
+    @Test
+    @DisplayName("Should translate a paragraph with inline markup as a single unit")
+    void shouldTranslateBlockAsOneUnit() {
+        List<String> result = strategy.translate(List.of("<p>Click <b>here</b> now</p>"), "en", "pt");
+
+        assertThat(sent).containsExactly("Click <g1>here</g1> now");
+        assertThat(result.get(0)).contains("[pt] Click <b>here</b> now");
+    }
+
+    @Test
+    @DisplayName("Should fall back to text nodes when a block is above the per-call byte limit")
+    void shouldSplitOversizedBlockIntoTextNodes() {
+        String before = "This sentence comes before the bold text. ".repeat(120);
+        String after = "This sentence comes after the bold text. ".repeat(120);
+        String html = "<p>" + before + "<b>bold</b> " + after + "</p>";
+
+        List<String> result = strategy.translate(List.of(html), "en", "pt");
+
+        assertThat(sent).hasSize(3);
+        assertThat(sent).noneMatch(segment -> segment.contains("<g1>"));
+        assertThat(sent).allMatch(segment -> segment.length() < 9000);
+        assertThat(result.get(0)).contains("<b>[pt] bold</b>");
+    }
+
+    @Test
+    @DisplayName("Should cache a repeated subtree only when all of its texts were translated")
+    void shouldCacheSubtreeOnlyWhenFullyTranslated() {
+        String page = "<main><p>Body text</p></main><footer><p>Contact us</p><p>All rights reserved</p></footer>";
+
+        failing.add("All rights reserved");
+        strategy.translate(List.of(page), "en", "pt");
+        verify(cachePort, never()).put(startsWith("subtree:"), anyString());
+        verify(cachePort, never()).put(anyString(), eq("All rights reserved"));
+
+        failing.clear();
+        strategy.translate(List.of(page), "en", "pt");
+        verify(cachePort).put(startsWith("subtree:"), contains("[pt] All rights reserved"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes enviados e latência do preparo para as imagens de exemplo (captura de tela, scan e foto),
+ * com a configuração padrão e com tons de cinza. Fora da suíte padrão; para rodar:
+ * mvn test -Dtest=ImagePreprocessorBenchmarkTest -Dbenchmark=true
+ */
+@Slf4j
+@DisplayName("ImagePreprocessor Benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ImagePreprocessorBenchmarkTest {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"screenshot.png", "scan.jpg", "photo.jpg"})
+    @DisplayName("Bytes sent and preprocessing latency per sample image")
+    void prepare(String sample) throws IOException {
+        byte[] original = sample(sample);
+
+        for (boolean grayscale : new boolean[]{false, true}) {
+            ImagePreprocessor preprocessor = new ImagePreprocessor(
+                    new SimpleMeterRegistry(), true, 1568, grayscale, "jpeg", 0.85f, 40_000_000);
+            for (int i = 0; i < WARMUP; i++) {
+                preprocessor.prepare(BinaryContent.of(original));
+            }
+
+            ImagePreprocessor.PreparedImage prepared = null;
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                prepared = preprocessor.prepare(BinaryContent.of(original));
+            }
+            double millis = (System.nanoTime() - start) / 1e6 / ITERATIONS;
+
+            log.info("{} (grayscale={}): {} bytes -> {} {} bytes ({}x{}), {} ms per image",
+                    sample, grayscale, original.length, prepared.mediaType(), prepared.data().length,
+                    prepared.pixels().getWidth(), prepared.pixels().getHeight(), String.format("%.1f", millis));
+            assertThat(prepared.data().length).isLessThanOrEqualTo(original.length);
+            assertThat(Math.max(prepared.pixels().getWidth(), prepared.pixels().getHeight())).isLessThanOrEqualTo(1568);
+        }
+    }
+
+    static byte[] sample(String name) throws IOException {
+        try (InputStream in = ImagePreprocessorBenchmarkTest.class.getResourceAsStream("/images/" + name)) {
+            assertThat(in).as("sample image %s", name).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+}
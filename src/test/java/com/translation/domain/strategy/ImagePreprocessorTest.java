@@ -0,0 +1,215 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.exception.InvalidInputException;
+import com.translation.domain.model.BinaryContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImagePreprocessor Tests")
+class ImagePreprocessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImagePreprocessor preprocessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        preprocessor = new ImagePreprocessor(meterRegistry, true, 1568, false, "jpeg", 0.85f, 40_000_000);
+    }
+
+    @Test
+    @DisplayName("Should downscale a large photo and send it as a smaller JPEG")
+    void shouldShrinkLargeImage() throws IOException {
+        byte[] png = photo(3000, 2000);
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(BinaryContent.of(png));
+
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(prepared.data()));
+        assertThat(prepared.mediaType()).isEqualTo("image/jpeg");
+        assertThat(result.getWidth()).isEqualTo(1568);
+        assertThat(result.getHeight()).isEqualTo(1045);
+        assertThat(prepared.data().length).isLessThan(png.length);
+        assertThat(meterRegistry.counter("translation.image.preprocess.bytes.saved").count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep a small image when re-encoding does not make it smaller")
+    void shouldKeepSmallImage() throws IOException {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        byte[] png = out.toByteArray();
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(BinaryContent.of(png));
+
+        assertThat(prepared.mediaType()).isEqualTo("image/png");
+        assertThat(prepared.data()).isEqualTo(png);
+    }
+
+    @Test
+    @DisplayName("Should reject an image above the pixel limit before decoding it")
+    void shouldRejectTooManyPixels() throws IOException {
+        ImagePreprocessor limited = new ImagePreprocessor(meterRegistry, true, 1568, false, "jpeg", 0.85f, 10_000);
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+
+        assertThatThrownBy(() -> limited.prepare(BinaryContent.of(out.toByteArray())))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("200x100");
+    }
+
+    @Test
+    @DisplayName("Should apply the pixel limit when decoding a whole scan")
+    void shouldRejectTooLargeScan() throws IOException {
+        ImagePreprocessor limited = new ImagePreprocessor(meterRegistry, true, 1568, false, "jpeg", 0.85f, 10_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(50, 300, BufferedImage.TYPE_BYTE_GRAY), "png", out);
+
+        assertThatThrownBy(() -> limited.decode(BinaryContent.of(out.toByteArray())))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("Should send the original bytes when ImageIO cannot decode the image")
+    void shouldKeepUndecodableImage() throws IOException {
+        // Cabeçalho completo (dimensões legíveis), mas sem os dados da imagem: o leitor lança IIOException
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "jpeg", out);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), 300);
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(BinaryContent.of(truncated));
+
+        assertThat(prepared.mediaType()).isEqualTo("image/jpeg");
+        assertThat(prepared.data()).isEqualTo(truncated);
+    }
+
+    @Test
+    @DisplayName("Should re-encode BMP and TIFF uploads, which the model does not accept, even when disabled")
+    void shouldReencodeUnsupportedFormats() throws IOException {
+        ImagePreprocessor disabled = new ImagePreprocessor(meterRegistry, false, 1568, false, "jpeg", 0.85f, 40_000_000);
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        for (String format : new String[]{"bmp", "tiff"}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, format, out);
+            assertThat(ImagePreprocessor.detectMediaType(out.toByteArray())).isEqualTo("image/" + format);
+
+            ImagePreprocessor.PreparedImage prepared = disabled.prepare(BinaryContent.of(out.toByteArray()));
+
+            assertThat(prepared.mediaType()).isIn("image/jpeg", "image/png");
+            assertThat(ImagePreprocessor.detectMediaType(prepared.data())).isEqualTo(prepared.mediaType());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject bytes that are not a known image format instead of labelling them JPEG")
+    void shouldRejectUnknownFormat() {
+        byte[] data = "not an image at all".getBytes();
+
+        assertThat(ImagePreprocessor.detectMediaType(data)).isEqualTo("application/octet-stream");
+        assertThatThrownBy(() -> preprocessor.prepare(BinaryContent.of(data)))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessageContaining("Unsupported image format");
+    }
+
+    @Test
+    @DisplayName("Should keep the text of the sample screenshot and scan legible after grayscale JPEG re-encoding")
+    void shouldKeepSampleTextLegible() throws IOException {
+        ImagePreprocessor gray = new ImagePreprocessor(meterRegistry, true, 1568, true, "jpeg", 0.85f, 40_000_000);
+
+        // Captura de tela: o PNG original é menor e seguiria como veio; recodificada à força (como uma
+        // faixa), a tinta do texto é comparada direto com o original em cores
+        BufferedImage screenshot = ImageIO.read(new ByteArrayInputStream(
+                ImagePreprocessorBenchmarkTest.sample("screenshot.png")));
+        ImagePreprocessor.PreparedImage preparedScreenshot = gray.prepare(screenshot);
+        assertThat(preparedScreenshot.mediaType()).isEqualTo("image/jpeg");
+        assertThat(inkOverlap(screenshot,
+                ImageIO.read(new ByteArrayInputStream(preparedScreenshot.data())))).isGreaterThan(0.9);
+
+        // Scan reduzido para 1568 px: a recodificação comparada com a imagem reduzida antes do JPEG
+        byte[] scan = ImagePreprocessorBenchmarkTest.sample("scan.jpg");
+        ImagePreprocessor.PreparedImage preparedScan = gray.prepare(BinaryContent.of(scan));
+        assertThat(preparedScan.data().length).isLessThan(scan.length);
+        assertThat(inkOverlap(preparedScan.pixels(),
+                ImageIO.read(new ByteArrayInputStream(preparedScan.data())))).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("Should fail at startup when the output format has no ImageIO writer")
+    void shouldRejectUnknownOutputFormat() {
+        assertThatThrownBy(() -> new ImagePreprocessor(meterRegistry, true, 1568, false, "webp", 0.85f, 40_000_000))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("webp");
+    }
+
+    /**
+     * Interseção sobre união dos pixels escuros (luminância abaixo de 128) das duas imagens:
+     * perto de 1 quando os traços das letras continuam no mesmo lugar, sem borrões nem falhas
+     */
+    private static double inkOverlap(BufferedImage expected, BufferedImage actual) {
+        assertThat(actual.getWidth()).isEqualTo(expected.getWidth());
+        assertThat(actual.getHeight()).isEqualTo(expected.getHeight());
+        long both = 0;
+        long either = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                boolean inkExpected = luminance(expected, x, y) < 128;
+                boolean inkActual = luminance(actual, x, y) < 128;
+                both += inkExpected && inkActual ? 1 : 0;
+                either += inkExpected || inkActual ? 1 : 0;
+            }
+        }
+        return (double) both / either;
+    }
+
+    /**
+     * Tons de cinza pelo valor gravado: getRGB converteria do espaço de cor linear e clarearia os tons médios
+     */
+    private static double luminance(BufferedImage image, int x, int y) {
+        if (image.getRaster().getNumBands() == 1) {
+            return image.getRaster().getSample(x, y, 0);
+        }
+        int rgb = image.getRGB(x, y);
+        return 0.299 * (rgb >> 16 & 0xFF) + 0.587 * (rgb >> 8 & 0xFF) + 0.114 * (rgb & 0xFF);
+    }
+
+    /**
+     * Gradiente com ruído e uma linha de texto - pesado em PNG, como uma foto
+     */
+    private byte[] photo(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(40);
+                image.setRGB(x, y, new Color(x * 200 / width + noise, y * 200 / height + noise, 120 + noise).getRGB());
+            }
+        }
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 96));
+        graphics.drawString("Grand opening sale", 200, height / 2);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
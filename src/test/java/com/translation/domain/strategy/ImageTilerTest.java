@@ -0,0 +1,146 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ImageTiler Tests")
+class ImageTilerTest {
+
+    private final ImageTiler tiler = new ImageTiler(true, 3000, 1400, 160, 8, 4, 1568);
+
+    @Test
+    @DisplayName("Should cut overlapping strips that cover the whole image")
+    void shouldSplitWithOverlap() {
+        List<BufferedImage> strips = tiler.split(new BufferedImage(2480, 3508, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(strips).hasSize(3);
+        assertThat(strips).allSatisfy(strip -> assertThat(strip.getWidth()).isEqualTo(2480));
+        assertThat(strips.stream().mapToInt(BufferedImage::getHeight).sum() - 2 * 160).isEqualTo(3508);
+    }
+
+    @Test
+    @DisplayName("Should split wide pages into columns at the gutter, so no strip needs downscaling")
+    void shouldSplitColumnsAtGutter() {
+        BufferedImage page = page(3300, 3508);
+        Graphics2D graphics = page.createGraphics();
+        graphics.setColor(Color.BLACK);
+        for (int y = 200; y < 3300; y += 60) {
+            graphics.fillRect(150, y, 1400, 24);
+            graphics.fillRect(1750, y, 1200, 24);
+        }
+        graphics.dispose();
+
+        List<BufferedImage> strips = tiler.split(page);
+
+        assertThat(strips).hasSize(6);
+        assertThat(strips).allSatisfy(strip -> {
+            assertThat(strip.getWidth()).isLessThanOrEqualTo(1568);
+            assertThat(strip.getHeight()).isLessThanOrEqualTo(1400);
+        });
+        // Coluna da esquerda (mais larga) inteira, de cima para baixo, antes da coluna da direita
+        assertThat(strips).extracting(BufferedImage::getWidth).containsExactly(1412, 1412, 1412, 1212, 1212, 1212);
+    }
+
+    @Test
+    @DisplayName("Should drop blank margin columns when cutting a wide page")
+    void shouldDropBlankColumns() {
+        BufferedImage page = page(1800, 3200);
+        Graphics2D graphics = page.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(100, 200, 1300, 2800);
+        graphics.dispose();
+
+        List<BufferedImage> strips = tiler.split(page);
+
+        assertThat(strips).hasSize(3).allSatisfy(strip -> assertThat(strip.getWidth()).isLessThanOrEqualTo(1568));
+    }
+
+    @Test
+    @DisplayName("Should scale very tall pages to max-tiles instead of making strips taller than tile-height")
+    void shouldKeepStripsWithinTileHeight() {
+        List<BufferedImage> strips = tiler.split(new BufferedImage(1200, 14000, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(strips).hasSize(8).allSatisfy(strip -> assertThat(strip.getHeight()).isLessThanOrEqualTo(1400));
+    }
+
+    @Test
+    @DisplayName("Should halve a truncated strip with overlap, unless it is too short")
+    void shouldHalveStrip() {
+        List<BufferedImage> halves = tiler.halve(new BufferedImage(1500, 1400, BufferedImage.TYPE_INT_RGB));
+
+        assertThat(halves).hasSize(2);
+        assertThat(halves.get(0).getHeight() + halves.get(1).getHeight() - 160).isEqualTo(1400);
+        assertThat(tiler.halve(new BufferedImage(1500, 400, BufferedImage.TYPE_INT_RGB))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge strip texts in order, dropping lines repeated in the overlap")
+    void shouldMergeOverlappingText() {
+        String first = "Relatório anual\n\nA receita cresceu 12% no ano.\nOs custos caíram em todas as regiões";
+        String second = "Os custos caíram em todas as regiões.\nO lucro dobrou.\n";
+        String third = "O lucro dobrou\nPerspectivas para 2025";
+
+        String merged = ImageTiler.merge(List.of(first, second, third));
+
+        assertThat(merged).isEqualTo("Relatório anual\n\nA receita cresceu 12% no ano.\n"
+                + "Os custos caíram em todas as regiões.\nO lucro dobrou.\nPerspectivas para 2025");
+    }
+
+    @Test
+    @DisplayName("Should keep consecutive lines that differ in a single character")
+    void shouldKeepNearlyIdenticalLines() {
+        String first = "Pedido 1042\nItem 1: $10.00";
+        String second = "Item 2: $10.00\nTotal: $20.00";
+
+        String merged = ImageTiler.merge(List.of(first, second));
+
+        assertThat(merged).isEqualTo("Pedido 1042\nItem 1: $10.00\nItem 2: $10.00\nTotal: $20.00");
+    }
+
+    @Test
+    @DisplayName("Should keep the whole copy of a line cut by the strip edge")
+    void shouldMergeLineCutAtEdge() {
+        String first = "Introdução\nO relatório cobre todas as filiais";
+        String second = "O relatório cobre todas as filiais do grupo.\nConclusão";
+
+        String merged = ImageTiler.merge(List.of(first, second));
+
+        assertThat(merged).isEqualTo("Introdução\nO relatório cobre todas as filiais do grupo.\nConclusão");
+    }
+
+    @Test
+    @DisplayName("Should report the position of each strip and leave failed strips empty")
+    void shouldReportFailedStrips() {
+        List<String> tiles = new ArrayList<>(List.of("Primeira faixa\nLinha comum", "", "Terceira faixa"));
+        tiles.set(1, null);
+
+        BinaryTranslation result = ImageTiler.merge(tiles, Arrays.asList(null, "Strip could not be translated", null));
+
+        assertThat(result.getTranslatedText()).isEqualTo("Primeira faixa\nLinha comum\nTerceira faixa");
+        assertThat(result.getPages()).extracting(PageTranslation::getOffset, PageTranslation::getLength,
+                        PageTranslation::isFailed)
+                .containsExactly(tuple(0, 26, false), tuple(27, 0, true), tuple(27, 14, false));
+        assertThat(result.getPages().get(1).getError()).isEqualTo("Strip could not be translated");
+    }
+
+    private static BufferedImage page(int width, int height) {
+        BufferedImage page = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = page.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        return page;
+    }
+}
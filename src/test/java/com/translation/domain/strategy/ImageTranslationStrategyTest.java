@@ -0,0 +1,223 @@
+package com.translation.domain.strategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.model.BinaryTranslation;
+import com.translation.domain.model.PageTranslation;
+import com.translation.domain.port.CachePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelWithResponseStreamRequest;
+import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelWithResponseStreamResponseHandler;
+import software.amazon.awssdk.services.translate.TranslateAsyncClient;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ImageTranslationStrategy Tests")
+class ImageTranslationStrategyTest {
+
+    private static final Pattern PART = Pattern.compile("part (\\d+) of (\\d+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private BedrockRuntimeClient bedrock;
+    private BedrockRuntimeAsyncClient bedrockAsync;
+    private CachePort cachePort;
+    private ImageTranslationStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        bedrock = mock(BedrockRuntimeClient.class);
+        bedrockAsync = mock(BedrockRuntimeAsyncClient.class);
+        cachePort = mock(CachePort.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        strategy = new ImageTranslationStrategy(
+                bedrock,
+                bedrockAsync,
+                new ImagePreprocessor(meterRegistry, true, 1568, false, "jpeg", 0.85f, 40_000_000),
+                new ClaudeMessagesCodec(objectMapper),
+                new PerceptualImageCache(cachePort, meterRegistry, true, 0, 1000),
+                new ImageTiler(true, 3000, 1400, 160, 8, 4, 1568),
+                new AsyncTranslateExecutor(mock(TranslateAsyncClient.class), 8),
+                1);
+    }
+
+    @Test
+    @DisplayName("Should keep the other strips when one strip fails")
+    void shouldReportFailedStrip() throws IOException {
+        stubStrips(Set.of(2));
+
+        BinaryTranslation result = strategy.translateBinary(scan(), "en", "pt");
+
+        assertThat(result.getTranslatedText()).isEqualTo("Faixa 1\nFaixa 3");
+        assertThat(result.getFallbackSegments()).isEqualTo(1);
+        assertThat(result.getPages()).extracting(PageTranslation::isFailed).containsExactly(false, true, false);
+        assertThat(result.getPages().get(1).getError()).contains("ThrottlingException");
+        verify(cachePort, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should translate a strip cut at max_tokens again in two halves")
+    void shouldSplitTruncatedStrip() throws IOException {
+        stubStrips(Set.of(), Map.of(2, 1));
+
+        BinaryTranslation result = strategy.translateBinary(scan(), "en", "pt");
+
+        assertThat(result.getTranslatedText()).isEqualTo("Faixa 1\nFaixa 2\nFaixa 3");
+        assertThat(result.getFallbackSegments()).isZero();
+        assertThat(result.getPages()).extracting(PageTranslation::isFailed).containsExactly(false, false, false);
+        verify(bedrockAsync, times(5)).invokeModel(any(InvokeModelRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should mark a strip as failed, and skip the cache, when its halves are also truncated")
+    void shouldFailStripStillTruncated() throws IOException {
+        stubStrips(Set.of(), Map.of(2, Integer.MAX_VALUE));
+
+        BinaryTranslation result = strategy.translateBinary(scan(), "en", "pt");
+
+        assertThat(result.getTranslatedText()).isEqualTo("Faixa 1\nFaixa 3");
+        assertThat(result.getPages()).extracting(PageTranslation::isFailed).containsExactly(false, true, false);
+        assertThat(result.getPages().get(1).getError()).contains("truncated at max_tokens");
+        verify(cachePort, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should flag a truncated image translation and keep it out of the cache")
+    void shouldFlagTruncatedImage() throws IOException {
+        when(bedrock.invokeModel(any(InvokeModelRequest.class))).thenReturn(
+                InvokeModelResponse.builder().body(SdkBytes.fromUtf8String(response("Texto cortado", "max_tokens")))
+                        .build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "png", out);
+
+        BinaryTranslation result = strategy.translateBinary(BinaryContent.of(out.toByteArray()), "en", "pt");
+
+        assertThat(result.getTranslatedText()).isEqualTo("Texto cortado");
+        assertThat(result.getFallbackSegments()).isEqualTo(1);
+        assertThat(result.getPages()).singleElement().satisfies(page -> {
+            assertThat(page.isFailed()).isTrue();
+            assertThat(page.getError()).contains("max_tokens");
+        });
+        verify(cachePort, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should fail the image when no strip is translated")
+    void shouldFailWhenEveryStripFails() throws IOException {
+        stubStrips(Set.of(1, 2, 3));
+        BinaryContent scan = scan();
+
+        assertThatThrownBy(() -> strategy.translateBinary(scan, "en", "pt"))
+                .isInstanceOf(TranslationException.class);
+    }
+
+    @Test
+    @DisplayName("Should translate tall images off the calling thread when streaming")
+    void shouldStreamTiledImageAsynchronously() throws IOException {
+        stubStrips(Set.of());
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<String> parts = new CopyOnWriteArrayList<>();
+
+        BinaryTranslation result = strategy.translateStreaming(scan(), "en", "pt", text -> {
+            threads.add(Thread.currentThread().getName());
+            parts.add(text);
+        }).join();
+
+        assertThat(result.getTranslatedText()).isEqualTo("Faixa 1\nFaixa 2\nFaixa 3");
+        assertThat(parts).containsExactly("Faixa 1\nFaixa 2\nFaixa 3");
+        assertThat(threads).containsExactly("image-tiled-stream");
+    }
+
+    @Test
+    @DisplayName("Should cancel the Bedrock stream when the streaming translation is cancelled")
+    void shouldCancelBedrockStream() throws IOException {
+        CompletableFuture<Void> call = new CompletableFuture<>();
+        when(bedrockAsync.invokeModelWithResponseStream(any(InvokeModelWithResponseStreamRequest.class),
+                any(InvokeModelWithResponseStreamResponseHandler.class))).thenReturn(call);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "png", out);
+
+        CompletableFuture<BinaryTranslation> result =
+                strategy.translateStreaming(BinaryContent.of(out.toByteArray()), "en", "pt", text -> { });
+        result.cancel(true);
+
+        assertThat(call).isCancelled();
+        verify(cachePort, never()).put(anyString(), anyString());
+    }
+
+    private void stubStrips(Set<Integer> failing) {
+        stubStrips(failing, Map.of());
+    }
+
+    /**
+     * Responde "Faixa N" pela parte indicada no prompt; as partes em failing falham na chamada e
+     * as partes em truncated voltam cortadas em max_tokens nas primeiras N chamadas
+     */
+    private void stubStrips(Set<Integer> failing, Map<Integer, Integer> truncated) {
+        Map<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+        when(bedrockAsync.invokeModel(any(InvokeModelRequest.class))).thenAnswer(invocation -> {
+            InvokeModelRequest request = invocation.getArgument(0);
+            JsonNode body = objectMapper.readTree(request.body().asByteArray());
+            Matcher part = PART.matcher(body.path("messages").path(0).path("content").path(1).path("text").asText());
+            assertThat(part.find()).isTrue();
+            int index = Integer.parseInt(part.group(1));
+            if (failing.contains(index)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("ThrottlingException"));
+            }
+            boolean cut = calls.computeIfAbsent(index, i -> new AtomicInteger()).getAndIncrement()
+                    < truncated.getOrDefault(index, 0);
+            String response = response("Faixa " + index, cut ? "max_tokens" : "end_turn");
+            return CompletableFuture.completedFuture(
+                    InvokeModelResponse.builder().body(SdkBytes.fromUtf8String(response)).build());
+        });
+    }
+
+    private String response(String text, String stopReason) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putArray("content").addObject().put("type", "text").put("text", text);
+        body.put("stop_reason", stopReason);
+        return body.toString();
+    }
+
+    /**
+     * Página A4 a 300 dpi: alta o bastante para o recorte em 3 faixas
+     */
+    private BinaryContent scan() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2480, 3508, BufferedImage.TYPE_BYTE_GRAY), "png", out);
+        return BinaryContent.of(out.toByteArray());
+    }
+}
@@ -0,0 +1,206 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.text.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OfficeDocumentRewriter Tests")
+class OfficeDocumentRewriterTest {
+
+    private static final String DOCUMENT_XML = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <w:document xmlns:w="http://schemas.openxmlformats.org/wordprocessingml/2006/main"><w:body>\
+            <w:p><w:r><w:rPr><w:b/></w:rPr><w:t>Hello </w:t></w:r><w:r><w:t>wor</w:t></w:r><w:r><w:t>ld</w:t></w:r>\
+            <w:r><w:br/><w:t>second line</w:t></w:r><w:r><w:instrText>PAGE</w:instrText></w:r></w:p>\
+            </w:body></w:document>""";
+
+    private static final String CONTENT_XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <office:document-content xmlns:office="urn:oasis:names:tc:opendocument:xmlns:office:1.0" \
+            xmlns:text="urn:oasis:names:tc:opendocument:xmlns:text:1.0"><office:body><office:text>\
+            <text:h>Title</text:h><text:p>Good <text:span>morning</text:span><text:s text:c="2"/>all</text:p>\
+            </office:text></office:body></office:document-content>""";
+
+    private static final String HYPERLINK_XML = """
+            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+            <w:document xmlns:w="http://schemas.openxmlformats.org/wordprocessingml/2006/main" \
+            xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships"><w:body>\
+            <w:p><w:r><w:t xml:space="preserve">Read the </w:t></w:r><w:hyperlink r:id="rId5"><w:r>\
+            <w:rPr><w:rStyle w:val="Hyperlink"/></w:rPr><w:t>terms</w:t></w:r></w:hyperlink>\
+            <w:r><w:rPr><w:i/></w:rPr><w:t xml:space="preserve"> first</w:t></w:r></w:p>\
+            </w:body></w:document>""";
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("</?g\\d+>");
+
+    private PackedTextTranslator translator;
+    private OfficeDocumentRewriter rewriter;
+
+    @BeforeEach
+    void setUp() {
+        translator = mock(PackedTextTranslator.class);
+        // Tradução simulada: maiúsculas fora dos placeholders
+        translateWith(OfficeDocumentRewriterTest::upperCaseText);
+        rewriter = new OfficeDocumentRewriter(translator, new TextNormalizer());
+    }
+
+    @Test
+    @DisplayName("Should translate each DOCX run through its placeholder and keep other parts")
+    void shouldRewriteDocx() throws IOException {
+        byte[] docx = zip(Map.of(
+                "word/document.xml", DOCUMENT_XML.getBytes(StandardCharsets.UTF_8),
+                "word/media/image1.png", new byte[]{1, 2, 3}));
+
+        Map<String, byte[]> result = unzip(rewrite(docx));
+
+        String xml = new String(result.get("word/document.xml"), StandardCharsets.UTF_8);
+        // O run em negrito fica com a sua parte; "wor" e "ld" (mesma formatação) viram um só run
+        assertThat(xml).contains("<w:b></w:b></w:rPr><w:t xml:space=\"preserve\">HELLO </w:t>");
+        assertThat(xml).contains("<w:t xml:space=\"preserve\">WORLD</w:t>");
+        assertThat(xml).contains("SECOND LINE");
+        assertThat(xml).contains("<w:instrText>PAGE</w:instrText>");
+        assertThat(xml).doesNotContain("wor<");
+        assertThat(result.get("word/media/image1.png")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should keep hyperlink and italic runs with their own translated text")
+    void shouldKeepRunFormatting() throws IOException {
+        List<String> sent = new ArrayList<>();
+        translateWith(segment -> {
+            sent.add(segment);
+            return "<g1>Leia os</g1> <g2>termos</g2> <g3>antes</g3>";
+        });
+
+        String xml = rewriteDocument(HYPERLINK_XML);
+
+        assertThat(sent).containsExactly("<g1>Read the</g1> <g2>terms</g2> <g3>first</g3>");
+        assertThat(xml).contains("<w:t xml:space=\"preserve\">Leia os </w:t></w:r><w:hyperlink r:id=\"rId5\">");
+        assertThat(xml).contains("<w:rStyle w:val=\"Hyperlink\"></w:rStyle></w:rPr><w:t xml:space=\"preserve\">termos </w:t>");
+        assertThat(xml).contains("<w:i></w:i></w:rPr><w:t xml:space=\"preserve\">antes</w:t>");
+    }
+
+    @Test
+    @DisplayName("Should flatten the segment into the first run when placeholders are lost or reordered")
+    void shouldFlattenWhenPlaceholdersAreLost() throws IOException {
+        translateWith(segment -> "Leia primeiro os termos");
+        String lost = rewriteDocument(HYPERLINK_XML);
+
+        translateWith(segment -> "<g3>Primeiro</g3> <g1>leia os</g1> <g2>termos</g2>");
+        String reordered = rewriteDocument(HYPERLINK_XML);
+
+        assertThat(lost).contains("<w:t xml:space=\"preserve\">Leia primeiro os termos</w:t>");
+        assertThat(lost).doesNotContain(">terms<", "> first<");
+        assertThat(reordered).contains("<w:t xml:space=\"preserve\">Primeiro leia os termos</w:t>");
+    }
+
+    @Test
+    @DisplayName("Should translate ODT text with spaces and keep the stored mimetype first")
+    void shouldRewriteOdt() throws IOException {
+        byte[] odt = zip(Map.of("content.xml", CONTENT_XML.getBytes(StandardCharsets.UTF_8)));
+
+        byte[] rewritten = rewrite(odt);
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(rewritten))) {
+            ZipEntry first = zip.getNextEntry();
+            assertThat(first.getName()).isEqualTo("mimetype");
+            assertThat(first.getMethod()).isEqualTo(ZipEntry.STORED);
+        }
+        String xml = new String(unzip(rewritten).get("content.xml"), StandardCharsets.UTF_8);
+        assertThat(xml).contains("<text:h>TITLE</text:h>");
+        // Os espaços repetidos voltam como text:s: o ODF colapsaria espaços literais
+        assertThat(xml).containsPattern("<text:p>GOOD <text:span>MORNING<text:s text:c=\"2\"(/>|></text:s>)"
+                + "</text:span>ALL</text:p>");
+    }
+
+    private byte[] rewrite(byte[] document) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rewriter.rewrite(BinaryContent.of(document), out, "en", "pt");
+        return out.toByteArray();
+    }
+
+    private String rewriteDocument(String documentXml) throws IOException {
+        byte[] docx = zip(Map.of("word/document.xml", documentXml.getBytes(StandardCharsets.UTF_8)));
+        return new String(unzip(rewrite(docx)).get("word/document.xml"), StandardCharsets.UTF_8);
+    }
+
+    private void translateWith(UnaryOperator<String> translation) {
+        when(translator.translate(anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            List<String> segments = invocation.getArgument(0);
+            return segments.stream().map(translation).toList();
+        });
+    }
+
+    private static String upperCaseText(String segment) {
+        StringBuilder result = new StringBuilder();
+        Matcher matcher = PLACEHOLDER.matcher(segment);
+        int last = 0;
+        while (matcher.find()) {
+            result.append(segment.substring(last, matcher.start()).toUpperCase(Locale.ROOT)).append(matcher.group());
+            last = matcher.end();
+        }
+        return result.append(segment.substring(last).toUpperCase(Locale.ROOT)).toString();
+    }
+
+    /**
+     * Monta o ZIP com o mimetype STORED como primeira entrada, como fazem os editores ODF
+     */
+    private byte[] zip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            byte[] mimetype = "application/vnd.oasis.opendocument.text".getBytes(StandardCharsets.US_ASCII);
+            CRC32 crc = new CRC32();
+            crc.update(mimetype);
+            ZipEntry stored = new ZipEntry("mimetype");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(mimetype.length);
+            stored.setCompressedSize(mimetype.length);
+            stored.setCrc(crc.getValue());
+            zip.putNextEntry(stored);
+            zip.write(mimetype);
+            zip.closeEntry();
+
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private Map<String, byte[]> unzip(byte[] content) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(content))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return entries;
+    }
+}
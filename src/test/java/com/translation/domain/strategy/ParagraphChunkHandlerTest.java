@@ -0,0 +1,55 @@
+package com.translation.domain.strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ParagraphChunkHandler Tests")
+class ParagraphChunkHandlerTest {
+
+    private final List<String> chunks = new ArrayList<>();
+    private final ParagraphChunkHandler handler = new ParagraphChunkHandler(chunks::add, 20);
+
+    @Test
+    @DisplayName("Should group whole paragraphs up to the byte limit")
+    void shouldGroupWholeParagraphs() throws SAXException {
+        paragraph("First para.\n");
+        paragraph("Second para.\n");
+        paragraph("Third.\n");
+        handler.endDocument();
+
+        assertThat(chunks).containsExactly("First para.\n", "Second para.\nThird.\n");
+    }
+
+    @Test
+    @DisplayName("Should cut a paragraph without block markup after the last space")
+    void shouldSplitOversizedParagraphOnSpaces() throws SAXException {
+        characters("word ".repeat(10));
+        handler.endDocument();
+
+        assertThat(chunks).containsExactly("word word word word ", "word word word word ", "word word ");
+    }
+
+    @Test
+    @DisplayName("Should never cut a surrogate pair when there is no space")
+    void shouldNotSplitSurrogatePairs() throws SAXException {
+        characters("😀".repeat(8));
+        handler.endDocument();
+
+        assertThat(chunks).containsExactly("😀😀😀😀😀", "😀😀😀");
+    }
+
+    private void paragraph(String text) throws SAXException {
+        characters(text);
+        handler.endElement("", "p", "p");
+    }
+
+    private void characters(String text) throws SAXException {
+        handler.characters(text.toCharArray(), 0, text.length());
+    }
+}
@@ -0,0 +1,81 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PdfPageExtractor Tests")
+class PdfPageExtractorTest {
+
+    private final PdfPageExtractor extractor = new PdfPageExtractor(true, 2, 2);
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should extract every page in order, one future per range")
+    void shouldExtractPagesInOrder() throws IOException {
+        BinaryContent content = BinaryContent.of(pdf("Page one", "Page two", "Page three", "Page four", "Page five"));
+
+        List<CompletableFuture<List<PdfPageExtractor.PageText>>> ranges = extractor.extractRanges(content);
+
+        List<PdfPageExtractor.PageText> pages = new ArrayList<>();
+        ranges.forEach(range -> pages.addAll(range.join()));
+        assertThat(ranges).hasSize(3);
+        assertThat(pages).extracting(PdfPageExtractor.PageText::pageNumber).containsExactly(1, 2, 3, 4, 5);
+        assertThat(pages).extracting(page -> page.text().trim())
+                .containsExactly("Page one", "Page two", "Page three", "Page four", "Page five");
+        assertThat(pages).allSatisfy(page -> assertThat(page.error()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should only claim content with the PDF signature")
+    void shouldDetectPdfSignature() throws IOException {
+        assertThat(extractor.supports(BinaryContent.of(pdf("Hello")))).isTrue();
+        assertThat(extractor.supports(BinaryContent.of("Hello".getBytes(StandardCharsets.UTF_8)))).isFalse();
+        assertThat(new PdfPageExtractor(false, 2, 1).supports(BinaryContent.of(pdf("Hello")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail when the document cannot be opened")
+    void shouldFailOnUnreadableDocument() {
+        BinaryContent content = BinaryContent.of("%PDF-1.4 truncated".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> extractor.extractRanges(content)).isInstanceOf(IOException.class);
+    }
+
+    static byte[] pdf(String... pages) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String text : pages) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                    stream.beginText();
+                    stream.setFont(PDType1Font.HELVETICA, 12);
+                    stream.newLineAtOffset(72, 700);
+                    stream.showText(text);
+                    stream.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
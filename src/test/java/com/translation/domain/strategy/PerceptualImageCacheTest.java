@@ -0,0 +1,149 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.port.CachePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PerceptualImageCache Tests")
+class PerceptualImageCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachePort cachePort;
+    private PerceptualImageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> store = new HashMap<>();
+        cachePort = mock(CachePort.class);
+        when(cachePort.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cachePort).put(anyString(), anyString());
+        cache = new PerceptualImageCache(cachePort, meterRegistry, true, 2, 50_000);
+    }
+
+    @Test
+    @DisplayName("Should reuse the translation of a re-encoded copy")
+    void shouldFindNearIdenticalImage() throws IOException {
+        PerceptualImageCache.ImageHash original = hash(banner("Summer sale", 1200, 400), "png");
+        cache.put(original, "en", "pt", "Liquidação de verão");
+
+        PerceptualImageCache.ImageHash copy = hash(banner("Summer sale", 1200, 400), "jpeg");
+
+        assertThat(cache.find(copy, "en", "pt")).contains("Liquidação de verão");
+        assertThat(cache.find(copy, "en", "es")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reuse the translation of a downscaled, recompressed photo through the BK-tree")
+    void shouldFindNearNeighbour() throws IOException {
+        BufferedImage photo = ImageIO.read(new ByteArrayInputStream(ImagePreprocessorBenchmarkTest.sample("photo.jpg")));
+        PerceptualImageCache.ImageHash original = cache.hash(photo).orElseThrow();
+        cache.put(original, "en", "pt", "Grande inauguração");
+
+        // Metade do tamanho e JPEG mais comprimido: o hash muda em poucos bits, a grade confere
+        PerceptualImageCache.ImageHash copy = hash(scale(photo, 0.5), "jpeg");
+        int distance = PerceptualImageCache.distance(original.hash(), copy.hash());
+
+        assertThat(distance).isBetween(1, 2);
+        assertThat(cache.find(copy, "en", "pt")).contains("Grande inauguração");
+        assertThat(meterRegistry.counter("translation.image.perceptual-cache", "result", "near").count()).isEqualTo(1);
+        // Só o hash exato: a mesma cópia não seria encontrada
+        assertThat(new PerceptualImageCache(cachePort, meterRegistry, true, 0, 50_000).find(copy, "en", "pt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not reuse the translation of an image with different text")
+    void shouldMissDifferentImage() throws IOException {
+        PerceptualImageCache.ImageHash original = hash(banner("Summer sale", 1200, 400), "png");
+        cache.put(original, "en", "pt", "Liquidação de verão");
+
+        PerceptualImageCache.ImageHash other = hash(banner("Winter deals", 1200, 400), "png");
+
+        assertThat(cache.find(other, "en", "pt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not reuse the translation of a screen that differs in a single character")
+    void shouldMissSingleCharacterChange() throws IOException {
+        PerceptualImageCache.ImageHash first = hash(receipt("Item 1: $10.00"), "png");
+        cache.put(first, "en", "pt", "Item 1: US$ 10,00");
+
+        PerceptualImageCache.ImageHash second = hash(receipt("Item 2: $10.00"), "png");
+
+        assertThat(cache.find(second, "en", "pt")).isEmpty();
+    }
+
+    private PerceptualImageCache.ImageHash hash(BufferedImage image, String format) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(encode(image, format)));
+        return cache.hash(decoded).orElseThrow();
+    }
+
+    /**
+     * Tela clara com uma linha de texto pequena, como um recibo ou formulário
+     */
+    private BufferedImage receipt(String text) {
+        BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 800, 600);
+        graphics.setColor(Color.BLACK);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 28));
+        graphics.drawString("Order summary", 60, 80);
+        graphics.drawString(text, 60, 300);
+        graphics.drawString("Thank you for your purchase", 60, 520);
+        graphics.dispose();
+        return image;
+    }
+
+    private BufferedImage banner(String text, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setColor(new Color(30, 60, 120));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.WHITE);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, height / 4));
+        graphics.drawString(text, width / 10, height / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private BufferedImage scale(BufferedImage image, double factor) {
+        int width = (int) (image.getWidth() * factor);
+        int height = (int) (image.getHeight() * factor);
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
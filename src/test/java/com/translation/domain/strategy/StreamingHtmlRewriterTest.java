@@ -0,0 +1,171 @@
+package com.translation.domain.strategy;
+
+import com.translation.domain.model.BinaryContent;
+import com.translation.domain.port.CachePort;
+import com.translation.domain.text.CacheKeyGenerator;
+import com.translation.domain.text.TextNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StreamingHtmlRewriter Tests")
+class StreamingHtmlRewriterTest {
+
+    private final List<String> sent = new ArrayList<>();
+    // Segmentos de cada chamada ao tradutor e bytes já escritos na saída naquele momento
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private final List<Integer> writtenAtBatch = new ArrayList<>();
+    private ByteArrayOutputStream out;
+
+    private StreamingHtmlRewriter rewriter;
+
+    @BeforeEach
+    void setUp() {
+        PackedTextTranslator translator = mock(PackedTextTranslator.class);
+        when(translator.translate(anyList(), anyString(), anyString(), any(BitSet.class))).thenAnswer(invocation -> {
+            List<String> segments = invocation.getArgument(0);
+            sent.addAll(segments);
+            batchSizes.add(segments.size());
+            writtenAtBatch.add(out.size());
+            return segments.stream().map(segment -> segment.toUpperCase(Locale.ROOT)).toList();
+        });
+        TextNormalizer textNormalizer = new TextNormalizer();
+        rewriter = new StreamingHtmlRewriter(translator, mock(CachePort.class),
+                new CacheKeyGenerator(textNormalizer), textNormalizer);
+    }
+
+    @Test
+    @DisplayName("Should translate text and handled attributes, copying markup and scripts as is")
+    void shouldRewriteHtml() throws IOException {
+        String html = "<!DOCTYPE html><html><head><meta name=\"description\" content=\"Page &amp; more\">"
+                + "<title>My title</title><script>if (a < b) { x = '<p>no</p>'; }</script></head>"
+                + "<body><!-- a comment --><p class=x>Hello <b>world</b> 1 &lt; 2</p>"
+                + "<img src=a.png alt=Logo title='keep'><input placeholder='Type \"here\"'></body></html>";
+
+        String result = rewrite(html, StandardCharsets.UTF_8);
+
+        assertThat(result).contains("content=\"PAGE &amp; MORE\"");
+        assertThat(result).contains("<title>MY TITLE</title>");
+        assertThat(result).contains("<script>if (a < b) { x = '<p>no</p>'; }</script>");
+        assertThat(result).contains("<!-- a comment --><p class=x>HELLO <b>WORLD</b> 1 &lt; 2</p>");
+        assertThat(result).contains("<img src=a.png alt=\"LOGO\" title='keep'>");
+        assertThat(result).contains("placeholder='TYPE \"HERE\"'");
+    }
+
+    @Test
+    @DisplayName("Should keep the page charset and escape characters it cannot encode")
+    void shouldKeepCharset() throws IOException {
+        String html = "<html><head><meta charset=iso-8859-1></head><body><p>café &#9731; snow</p></body></html>";
+
+        String result = rewrite(html, StandardCharsets.ISO_8859_1);
+
+        assertThat(result).contains("<p>CAFÉ &#x2603; SNOW</p>");
+    }
+
+    @Test
+    @DisplayName("Should cut long text runs at spaces within the per-call byte limit")
+    void shouldCutLongTextAtSpaces() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("ação rápida ").append(i).append(' ');
+        }
+        String text = builder.toString();
+
+        String result = rewrite("<p>" + text + "</p>", StandardCharsets.UTF_8);
+
+        assertThat(sent).hasSizeGreaterThan(2);
+        assertThat(sent).allSatisfy(segment ->
+                assertThat(segment.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(9000));
+        assertThat(result).isEqualTo("<p>" + text.toUpperCase(Locale.ROOT) + "</p>");
+    }
+
+    @Test
+    @DisplayName("Should force a cut in text without spaces, keeping surrogate pairs and entities whole")
+    void shouldForceCutWithoutSpaces() throws IOException {
+        String text = "翻訳のテスト&amp;😀".repeat(800);
+
+        String result = rewrite("<p>" + text + "</p>", StandardCharsets.UTF_8);
+
+        assertThat(sent).hasSizeGreaterThan(1);
+        assertThat(sent).allSatisfy(segment -> {
+            assertThat(segment.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(9000);
+            assertThat(Character.isLowSurrogate(segment.charAt(0))).isFalse();
+        });
+        assertThat(String.join("", sent)).isEqualTo("翻訳のテスト&😀".repeat(800));
+        assertThat(result).doesNotContain("�").contains("翻訳のテスト&amp;😀");
+    }
+
+    @Test
+    @DisplayName("Should copy large scripts without translating them and translate textarea content")
+    void shouldStreamRawTextElements() throws IOException {
+        String script = "var text = '<p>not html</p> ' + x;\n".repeat(5000);
+        String html = "<body><p>Before</p><SCRIPT type=module>" + script + "</Script ><textarea>Your text</textarea>"
+                + "<style>p { color: red; }</style><p>After</p></body>";
+
+        String result = rewrite(html, StandardCharsets.UTF_8);
+
+        assertThat(result).isEqualTo("<body><p>BEFORE</p><SCRIPT type=module>" + script + "</Script >"
+                + "<textarea>YOUR TEXT</textarea><style>p { color: red; }</style><p>AFTER</p></body>");
+        assertThat(sent).containsExactly("Before", "Your text", "After");
+    }
+
+    @Test
+    @DisplayName("Should flush the window at max-pending-segments on a page much larger than the window")
+    void shouldFlushAtMaxPendingSegments() throws IOException {
+        ReflectionTestUtils.setField(rewriter, "maxPendingSegments", 50);
+        StringBuilder html = new StringBuilder("<ul>");
+        for (int i = 0; i < 5000; i++) {
+            html.append("<li>Item number ").append(i).append("</li>");
+        }
+        html.append("</ul>");
+
+        String result = rewrite(html.toString(), StandardCharsets.UTF_8);
+
+        assertThat(batchSizes).hasSize(100).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(50));
+        assertThat(writtenAtBatch).isSorted();
+        assertThat(writtenAtBatch.get(writtenAtBatch.size() - 1)).isGreaterThan(html.length() / 2);
+        assertThat(result).startsWith("<ul><li>ITEM NUMBER 0</li>").endsWith("<li>ITEM NUMBER 4999</li></ul>");
+    }
+
+    @Test
+    @DisplayName("Should flush the window at max-pending-chars when markup dominates the page")
+    void shouldFlushAtMaxPendingChars() throws IOException {
+        ReflectionTestUtils.setField(rewriter, "maxPendingChars", 4096);
+        String markup = "<div class=\"card\" data-tracking=\"" + "x".repeat(1000) + "\"></div>";
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            html.append("<p>Card ").append(i).append("</p>").append(markup);
+        }
+
+        String result = rewrite(html.toString(), StandardCharsets.UTF_8);
+
+        // A cada 4 blocos de marcação pendentes (mais de 4096 caracteres) a janela é escrita
+        assertThat(batchSizes).hasSizeGreaterThanOrEqualTo(200).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(5));
+        assertThat(writtenAtBatch).isSorted();
+        assertThat(writtenAtBatch.get(writtenAtBatch.size() - 1)).isGreaterThan(html.length() / 2);
+        assertThat(result).startsWith("<p>CARD 0</p>" + markup).endsWith("<p>CARD 999</p>" + markup);
+    }
+
+    private String rewrite(String html, Charset charset) throws IOException {
+        out = new ByteArrayOutputStream();
+        rewriter.rewrite(BinaryContent.of(html.getBytes(charset)), out, "en", "pt");
+        return out.toString(charset);
+    }
+}
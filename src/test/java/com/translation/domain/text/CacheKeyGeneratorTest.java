@@ -0,0 +1,85 @@
+package com.translation.domain.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CacheKeyGenerator Tests")
+class CacheKeyGeneratorTest {
+
+    private final TextNormalizer textNormalizer = new TextNormalizer();
+    private final CacheKeyGenerator cacheKeyGenerator = new CacheKeyGenerator(textNormalizer);
+
+    @Test
+    @DisplayName("Should generate the same key for Unicode and whitespace variants")
+    void shouldGenerateSameKeyForVariants() {
+        String key = cacheKeyGenerator.generate("Café com leite", "pt", "en");
+
+        assertThat(cacheKeyGenerator.generate("Cafe\u0301 com leite", "pt", "en")).isEqualTo(key);
+        assertThat(cacheKeyGenerator.generate("Café\u00A0com  leite \n", "pt", "en")).isEqualTo(key);
+        assertThat(cacheKeyGenerator.generate("Café com leite!", "pt", "en")).isNotEqualTo(key);
+        assertThat(key).matches("pt:en:[0-9a-f]{64}");
+    }
+
+    @Test
+    @DisplayName("Should not collide on texts with the same 32-bit hash")
+    void shouldNotCollideOnStringHashCollisions() {
+        // "Aa" e "BB" têm o mesmo String.hashCode()
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(cacheKeyGenerator.generate("Aa", "en", "pt")).isNotEqualTo(cacheKeyGenerator.generate("BB", "en", "pt"));
+    }
+
+    @Test
+    @DisplayName("Should keep leading and trailing whitespace as surface")
+    void shouldKeepSurface() {
+        String text = "  Hello world \n";
+
+        assertThat(textNormalizer.normalize(text)).isEqualTo("Hello world");
+        assertThat(textNormalizer.leadingWhitespace(text)).isEqualTo("  ");
+        assertThat(textNormalizer.trailingWhitespace(text)).isEqualTo(" \n");
+    }
+
+    @Test
+    @DisplayName("Should increase hit rate on replayed traffic sample")
+    void shouldIncreaseHitRateOnReplayedTraffic() throws IOException {
+        List<String> traffic = loadTrafficSample();
+
+        // Chave anterior: texto sem normalização
+        double rawHitRate = replay(traffic, text -> "pt:en:" + text);
+        double canonicalHitRate = replay(traffic, text -> cacheKeyGenerator.generate(text, "pt", "en"));
+
+        assertThat(traffic).hasSize(60);
+        assertThat(rawHitRate).isCloseTo(12 / 60.0, within(1e-9));
+        assertThat(canonicalHitRate).isCloseTo(52 / 60.0, within(1e-9));
+    }
+
+    private double replay(List<String> traffic, Function<String, String> keyFunction) {
+        Set<String> cache = new HashSet<>();
+        int hits = 0;
+        for (String text : traffic) {
+            if (!cache.add(keyFunction.apply(text))) {
+                hits++;
+            }
+        }
+        return (double) hits / traffic.size();
+    }
+
+    private List<String> loadTrafficSample() throws IOException {
+        try (InputStream input = getClass().getResourceAsStream("/cache/traffic-sample.txt")) {
+            assertThat(input).isNotNull();
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isEmpty())
+                    .toList();
+        }
+    }
+}
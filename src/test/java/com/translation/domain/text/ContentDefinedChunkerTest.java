@@ -0,0 +1,54 @@
+package com.translation.domain.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentDefinedChunker Tests")
+class ContentDefinedChunkerTest {
+
+    private final ContentDefinedChunker chunker = new ContentDefinedChunker(64, 256, 512);
+
+    @Test
+    @DisplayName("Should reproduce the original text and respect the size limits")
+    void shouldReproduceText() {
+        String text = words(3000, 1) + "\n\nShort paragraph.\n\n" + words(500, 2);
+
+        List<String> segments = chunker.split(text);
+
+        assertThat(String.join("", segments)).isEqualTo(text);
+        assertThat(segments).contains("Short paragraph.\n\n");
+        assertThat(segments).allSatisfy(segment -> assertThat(segment.length()).isLessThanOrEqualTo(512 + 20));
+    }
+
+    @Test
+    @DisplayName("Should keep the boundaries after an edit")
+    void shouldKeepBoundariesAfterEdit() {
+        String original = words(3000, 3);
+        String revised = "A new opening sentence was added. " + original.replaceFirst("lorem", "ipsum dolor");
+
+        List<String> before = chunker.split(original);
+        List<String> after = chunker.split(revised);
+
+        // Apenas os segmentos ao redor da edição mudam
+        long changed = after.stream().filter(segment -> !before.contains(segment)).count();
+        assertThat(before.size()).isGreaterThan(10);
+        assertThat(changed).isLessThanOrEqualTo(3);
+    }
+
+    private String words(int count, long seed) {
+        String[] vocabulary = {"lorem", "contract", "party", "shall", "agreement", "the", "of", "payment",
+                "term", "notice", "within", "days", "section", "provided", "that", "and"};
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]);
+            text.append(i % 15 == 14 ? ". " : " ");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.translation.domain.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SegmentPacker Tests")
+class SegmentPackerTest {
+
+    private final SegmentPacker segmentPacker = new SegmentPacker();
+
+    @Test
+    @DisplayName("Should split packed text back into segments")
+    void shouldSplitPackedText() {
+        List<String> segments = List.of("Hello world", "Good morning", "Line one\nLine two");
+
+        String packed = segmentPacker.join(segments);
+
+        assertThat(segmentPacker.split(packed, 3)).contains(segments);
+    }
+
+    @Test
+    @DisplayName("Should report ambiguous split when markers are lost or reordered")
+    void shouldReportAmbiguousSplit() {
+        assertThat(segmentPacker.split("Olá mundo\n[[#1]]\nBom dia", 3)).isEmpty();
+        assertThat(segmentPacker.split("Olá mundo\n[[#2]]\nBom dia\n[[#1]]\nTchau", 3)).isEmpty();
+        assertThat(segmentPacker.split("Olá mundo Bom dia", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pack segments within the UTF-8 byte budget")
+    void shouldPackWithinByteBudget() {
+        List<String> segments = List.of("aaaa", "bbbb", "çççç", "dddd", "[[#1]] literal");
+
+        List<List<Integer>> packs = segmentPacker.pack(segments, 20);
+
+        assertThat(packs).containsExactlyInAnyOrder(List.of(0, 1), List.of(2, 3), List.of(4));
+        for (List<Integer> pack : packs) {
+            List<String> packSegments = pack.stream().map(segments::get).toList();
+            assertThat(segmentPacker.utf8Length(segmentPacker.join(packSegments))).isLessThanOrEqualTo(20);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.translation.domain.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SentenceSegmenter Tests")
+class SentenceSegmenterTest {
+
+    private final SentenceSegmenter segmenter = new SentenceSegmenter();
+
+    @Test
+    @DisplayName("Should not break after abbreviations, initials or decimals")
+    void shouldNotBreakAfterAbbreviationsOrDecimals() {
+        assertThat(segmenter.split("Dr. Smith paid $3.50 for it. Then he left.", "en"))
+                .containsExactly("Dr. Smith paid $3.50 for it. ", "Then he left.");
+        assertThat(segmenter.split("The value is 3.14 approx. It grew e.g. yesterday. J. Doe agreed.", "en"))
+                .containsExactly("The value is 3.14 approx. It grew e.g. yesterday. ", "J. Doe agreed.");
+        assertThat(segmenter.split("O Sr. Silva pagou R$ 1.299,90 no total. Fim", "pt"))
+                .containsExactly("O Sr. Silva pagou R$ 1.299,90 no total. ", "Fim");
+    }
+
+    @Test
+    @DisplayName("Should break on CJK punctuation without spaces")
+    void shouldBreakOnCjkPunctuation() {
+        assertThat(segmenter.split("今日は晴れです。明日は雨でしょう！本当？はい", "ja"))
+                .containsExactly("今日は晴れです。", "明日は雨でしょう！", "本当？", "はい");
+    }
+
+    @Test
+    @DisplayName("Should keep every character so the sentences rebuild the text")
+    void shouldPreserveWhitespaceAndLineBreaks() {
+        String text = "  Hello world.  Mr.\nSmith?  \n\nBye  ";
+
+        List<String> sentences = segmenter.split(text, "en");
+
+        assertThat(sentences).containsExactly("  Hello world.  ", "Mr.\n", "Smith?  \n\n", "Bye  ");
+        assertThat(String.join("", sentences)).isEqualTo(text);
+        assertThat(segmenter.split("", "en")).isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+package com.translation.domain.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextChunker Tests")
+class TextChunkerTest {
+
+    private final TextChunker chunker = new TextChunker(new SentenceSegmenter());
+
+    @Test
+    @DisplayName("Should never cut a surrogate pair")
+    void shouldNotCutSurrogatePairs() {
+        String emojis = "😀".repeat(10);
+
+        List<String> chunks = chunker.chunk(emojis, "en", 10);
+
+        assertThat(chunks).containsExactly("😀😀", "😀😀", "😀😀", "😀😀", "😀😀");
+        // Limite no meio do segundo emoji: o corte recua para a fronteira do code point
+        assertThat(chunker.chunk("a😀😀😀", "en", 6)).containsExactly("a😀", "😀", "😀");
+        assertThat(chunks).allSatisfy(chunk -> {
+            assertThat(Character.isLowSurrogate(chunk.charAt(0))).isFalse();
+            assertThat(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should budget UTF-8 bytes, not chars")
+    void shouldBudgetUtf8Bytes() {
+        // "ação " tem 5 chars e 7 bytes: dois cabem em 12 chars, mas não em 12 bytes
+        String text = "ação ação ação ação ação ação";
+
+        List<String> chunks = chunker.chunk(text, "pt", 12);
+
+        assertThat(chunks).containsExactly("ação ", "ação ", "ação ", "ação ", "ação ", "ação");
+        assertThat(chunker.chunk("中文没有空格的句子很长很长很长", "zh", 10))
+                .containsExactly("中文没", "有空格", "的句子", "很长很", "长很长");
+    }
+
+    @Test
+    @DisplayName("Should prefer paragraph, then sentence boundaries and rebuild the text exactly")
+    void shouldPreferParagraphsThenSentences() {
+        String text = "First paragraph here.\n\nSecond one. Third sentence is here.";
+
+        List<String> chunks = chunker.chunk(text, "en", 24);
+
+        assertThat(chunks).containsExactly("First paragraph here.\n\n", "Second one. ", "Third sentence is here.");
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        assertThat(chunks).allSatisfy(chunk ->
+                assertThat(chunk.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(24));
+    }
+}
@@ -0,0 +1,192 @@
+package com.translation.infrastructure.adapter;
+
+import com.translation.domain.exception.RetriesExhaustedException;
+import com.translation.domain.exception.TranslationException;
+import com.translation.domain.factory.TranslationStrategyFactory;
+import com.translation.domain.model.TranslationType;
+import com.translation.domain.strategy.TranslationStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+@DisplayName("MicroBatchingDispatcher Tests")
+class MicroBatchingDispatcherTest {
+
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+    private TranslationStrategy strategy;
+    private TranslationStrategyFactory strategyFactory;
+    private MicroBatchingDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        strategy = mock(TranslationStrategy.class);
+        strategyFactory = mock(TranslationStrategyFactory.class);
+        when(strategyFactory.getStrategy(any(), anyString(), anyString())).thenReturn(strategy);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent callers into one call with distinct texts")
+    void shouldCoalesceConcurrentCallers() {
+        dispatcher = dispatcher(200, 100, 5000);
+        translateWith(texts -> texts.stream().map(text -> "pt:" + text).toList());
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(() ->
+                dispatcher.translate(List.of("a", "b"), "en", "pt", TranslationType.TEXT));
+        CompletableFuture<List<String>> second = CompletableFuture.supplyAsync(() ->
+                dispatcher.translate(List.of("b", "c"), "en", "pt", TranslationType.TEXT));
+
+        assertThat(first.join()).containsExactly("pt:a", "pt:b");
+        assertThat(second.join()).containsExactly("pt:b", "pt:c");
+        assertThat(calls).hasSize(1);
+        assertThat(calls.get(0)).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("Should flush a batch as soon as it reaches the size limit")
+    void shouldFlushOnSize() {
+        // Janela maior que o @Timeout do teste: só o limite de tamanho pode enviar o lote
+        dispatcher = dispatcher(60_000, 2, 60_000);
+        translateWith(texts -> texts.stream().map(String::toUpperCase).toList());
+
+        assertThat(dispatcher.translate(List.of("a", "b"), "en", "pt", TranslationType.TEXT)).containsExactly("A", "B");
+        assertThat(calls).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("Should flush a partial batch when the window closes")
+    void shouldFlushOnWindow() {
+        dispatcher = dispatcher(20, 100, 5000);
+        translateWith(texts -> texts.stream().map(String::toUpperCase).toList());
+
+        assertThat(dispatcher.translate(List.of("a"), "en", "pt", TranslationType.TEXT)).containsExactly("A");
+        assertThat(calls).containsExactly(List.of("a"));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch once as a whole, not text by text")
+    void shouldRetryFailedBatchOnce() {
+        dispatcher = dispatcher(5, 100, 5000);
+        translateWith(texts -> {
+            if (calls.size() == 1) {
+                throw new IllegalStateException("throttled");
+            }
+            return texts.stream().map(String::toUpperCase).toList();
+        });
+
+        assertThat(dispatcher.translate(List.of("a", "b", "c"), "en", "pt", TranslationType.TEXT))
+                .containsExactly("A", "B", "C");
+        assertThat(calls).containsExactly(List.of("a", "b", "c"), List.of("a", "b", "c"));
+    }
+
+    @Test
+    @DisplayName("Should fail every caller when both halves fail after the retry")
+    void shouldFailCallersAfterRetry() {
+        dispatcher = dispatcher(5, 100, 5000);
+        translateWith(texts -> {
+            throw new IllegalStateException("unavailable");
+        });
+
+        assertThatThrownBy(() -> dispatcher.translate(List.of("a", "b", "c"), "en", "pt", TranslationType.TEXT))
+                .isInstanceOf(RetriesExhaustedException.class)
+                .hasRootCauseMessage("unavailable");
+        // Lote, retry e as duas metades: sem dividir mais durante uma indisponibilidade
+        assertThat(calls).containsExactly(
+                List.of("a", "b", "c"), List.of("a", "b", "c"), List.of("a"), List.of("b", "c"));
+    }
+
+    @Test
+    @DisplayName("Should fail only the caller of the text that keeps failing")
+    void shouldIsolateFailingText() {
+        dispatcher = dispatcher(200, 100, 5000);
+        translateWith(texts -> {
+            if (texts.contains("poison")) {
+                throw new IllegalArgumentException("rejected");
+            }
+            return texts.stream().map(String::toUpperCase).toList();
+        });
+
+        CompletableFuture<List<String>> healthy = CompletableFuture.supplyAsync(() ->
+                dispatcher.translate(List.of("a", "b"), "en", "pt", TranslationType.TEXT));
+        CompletableFuture<List<String>> poisoned = CompletableFuture.supplyAsync(() ->
+                dispatcher.translate(List.of("poison"), "en", "pt", TranslationType.TEXT));
+
+        assertThat(healthy.join()).containsExactly("A", "B");
+        assertThatThrownBy(poisoned::join).hasCauseInstanceOf(RetriesExhaustedException.class)
+                .hasRootCauseMessage("rejected");
+        assertThat(calls).contains(List.of("poison"));
+    }
+
+    @Test
+    @DisplayName("Should not send texts whose callers already timed out")
+    void shouldDropTimedOutItems() throws InterruptedException {
+        dispatcher = dispatcher(5, 100, 50);
+        translateWith(texts -> {
+            Thread.sleep(100);
+            throw new IllegalStateException("slow failure");
+        });
+
+        assertThatThrownBy(() -> dispatcher.translate(List.of("a"), "en", "pt", TranslationType.TEXT))
+                .isInstanceOf(TranslationException.class)
+                .hasMessageContaining("timed out");
+        // Retry agendado após a falha (backoff de 10 ms) encontra o item já expirado
+        Thread.sleep(300);
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting after the timeout")
+    void shouldTimeOut() {
+        dispatcher = dispatcher(5, 100, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        translateWith(texts -> {
+            release.await();
+            return texts;
+        });
+
+        assertThatThrownBy(() -> dispatcher.translate(List.of("a"), "en", "pt", TranslationType.TEXT))
+                .isInstanceOf(TranslationException.class)
+                .hasMessageContaining("timed out");
+        release.countDown();
+    }
+
+    private MicroBatchingDispatcher dispatcher(long windowMillis, int maxBatchSize, long timeoutMillis) {
+        return new MicroBatchingDispatcher(strategyFactory, new SimpleMeterRegistry(),
+                true, windowMillis, maxBatchSize, 2, 10, timeoutMillis);
+    }
+
+    private void translateWith(Translator translator) {
+        when(strategy.translate(anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            List<String> texts = List.copyOf(invocation.getArgument(0));
+            calls.add(texts);
+            return translator.translate(texts);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Translator {
+        List<String> translate(List<String> texts) throws Exception;
+    }
+}